@@ -0,0 +1,54 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.benchmarks;
+
+import com.palantir.conjure.defs.CompilationListener;
+import com.palantir.conjure.defs.SafetyDeclarationRequirements;
+import com.palantir.conjure.defs.validator.ConjureDefinitionValidator;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures the whole-definition validators which run once the IR of every source file has been merged. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConjureDefinitionValidatorBenchmark {
+
+    @Benchmark
+    public ConjureDefinition validateAll(SyntheticDefinitionState state) {
+        ConjureDefinitionValidator.validateAll(state.definition(), SafetyDeclarationRequirements.ALLOWED);
+        return state.definition();
+    }
+
+    @Benchmark
+    public ConjureDefinition validateAllConcurrently(SyntheticDefinitionState state) {
+        ConjureDefinitionValidator.validateAll(
+                state.definition(),
+                SafetyDeclarationRequirements.ALLOWED,
+                CompilationListener.NO_OP,
+                Runtime.getRuntime().availableProcessors());
+        return state.definition();
+    }
+}
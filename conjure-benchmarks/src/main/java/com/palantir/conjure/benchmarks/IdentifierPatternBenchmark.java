@@ -0,0 +1,93 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.benchmarks;
+
+import com.palantir.conjure.HeaderPattern;
+import com.palantir.conjure.NamespacePattern;
+import com.palantir.conjure.PackagePattern;
+import com.palantir.conjure.PathParameterPattern;
+import com.palantir.conjure.PathSegmentPattern;
+import com.palantir.conjure.SimplifiedPattern;
+import com.palantir.conjure.UpperCamelCasePattern;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures checking a single identifier against one of the grammars conjure enforces, both with the
+ * {@link SimplifiedPattern} used by the validators and with the equivalent compiled regex.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdentifierPatternBenchmark {
+
+    public enum Grammar {
+        TYPE_NAME(UpperCamelCasePattern.INSTANCE, "SomeLongObjectName2"),
+        PACKAGE(PackagePattern.INSTANCE, "com.palantir.product.api"),
+        NAMESPACE(NamespacePattern.INSTANCE, "imported_Types"),
+        HEADER(HeaderPattern.INSTANCE, "X-Custom-Header-Name"),
+        PATH_SEGMENT(PathSegmentPattern.INSTANCE, "some-resource.v2"),
+        PATH_PARAMETER(PathParameterPattern.WITH_REGEX, "{resourceId2:.+}");
+
+        private final SimplifiedPattern pattern;
+        private final String identifier;
+
+        Grammar(SimplifiedPattern pattern, String identifier) {
+            this.pattern = pattern;
+            this.identifier = identifier;
+        }
+    }
+
+    @Param
+    private Grammar grammar;
+
+    private SimplifiedPattern simplifiedPattern;
+    private Pattern regexPattern;
+    private String identifier;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        simplifiedPattern = grammar.pattern;
+        regexPattern = Pattern.compile(grammar.pattern.pattern());
+        identifier = grammar.identifier;
+    }
+
+    @Benchmark
+    public boolean simplified() {
+        return simplifiedPattern.matches(identifier);
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return regexPattern.matcher(identifier).matches();
+    }
+}
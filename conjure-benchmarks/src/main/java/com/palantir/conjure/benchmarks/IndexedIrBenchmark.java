@@ -0,0 +1,101 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.benchmarks;
+
+import com.palantir.conjure.cli.IrWriter;
+import com.palantir.conjure.ir.ConjureDefinitionReader;
+import com.palantir.conjure.ir.IndexedIr;
+import com.palantir.conjure.ir.IrFormat;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.visitor.TypeDefinitionVisitor;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a generator which needs a single type decoding all of the IR with one looking the type up in
+ * {@link IndexedIr}, both starting from a file on disk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndexedIrBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class IrFiles {
+        private Path directory;
+        private Path jsonFile;
+        private Path indexedFile;
+        private TypeName lastType;
+
+        @Setup(Level.Trial)
+        public void setup(SyntheticDefinitionState state) throws IOException {
+            ConjureDefinition definition = state.definition();
+            directory = Files.createTempDirectory("conjure-benchmark-ir");
+            jsonFile = directory.resolve("ir.json");
+            indexedFile = directory.resolve("ir.idx");
+            try (OutputStream output = Files.newOutputStream(jsonFile)) {
+                IrWriter.write(definition, Map.of(), output, IrFormat.JSON, true);
+            }
+            try (OutputStream output = Files.newOutputStream(indexedFile)) {
+                IrWriter.write(definition, Map.of(), output, IrFormat.INDEXED, true);
+            }
+            lastType = definition.getTypes()
+                    .get(definition.getTypes().size() - 1)
+                    .accept(TypeDefinitionVisitor.TYPE_NAME);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.delete(jsonFile);
+            Files.delete(indexedFile);
+            Files.delete(directory);
+        }
+    }
+
+    @Benchmark
+    public Optional<TypeDefinition> readJsonAndFindType(IrFiles files) throws IOException {
+        TypeName name = files.lastType;
+        return ConjureDefinitionReader.read(files.jsonFile).getTypes().stream()
+                .filter(type -> type.accept(TypeDefinitionVisitor.TYPE_NAME).equals(name))
+                .findFirst();
+    }
+
+    @Benchmark
+    public Optional<TypeDefinition> openIndexedAndLookUpType(IrFiles files) throws IOException {
+        return IndexedIr.open(files.indexedFile).type(files.lastType);
+    }
+}
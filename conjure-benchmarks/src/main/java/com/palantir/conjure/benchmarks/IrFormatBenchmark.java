@@ -0,0 +1,77 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.benchmarks;
+
+import com.palantir.conjure.cli.IrWriter;
+import com.palantir.conjure.ir.ConjureDefinitionReader;
+import com.palantir.conjure.ir.IrFormat;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long generators take to load IR written in each {@link IrFormat}, the way they would through
+ * {@link ConjureDefinitionReader}. The size of the IR in each format is printed once per trial.
+ *
+ * <p>Use a large definition to compare formats, e.g. {@code -p typeCount=10000}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IrFormatBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class EncodedIr {
+        @Param({"JSON", "SMILE", "INDEXED"})
+        private IrFormat format;
+
+        @Param({"false"})
+        private boolean compact;
+
+        private byte[] bytes;
+
+        @SuppressWarnings("BanSystemOut")
+        @Setup(Level.Trial)
+        public void setup(SyntheticDefinitionState state) throws IOException {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            IrWriter.write(state.definition(), Map.of(), output, format, compact);
+            bytes = output.toByteArray();
+            System.out.printf("IR size as %s (compact: %s): %d bytes%n", format, compact, bytes.length);
+        }
+    }
+
+    @Benchmark
+    public ConjureDefinition read(EncodedIr ir) throws IOException {
+        return ConjureDefinitionReader.read(new ByteArrayInputStream(ir.bytes));
+    }
+}
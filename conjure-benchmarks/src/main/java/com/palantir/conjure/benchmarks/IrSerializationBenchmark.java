@@ -0,0 +1,70 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.palantir.conjure.cli.ConjureCli;
+import com.palantir.conjure.cli.IrWriter;
+import com.palantir.conjure.ir.IrFormat;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing the IR with the previous object mapper based writer and with the streaming {@link IrWriter} of
+ * {@code ConjureCli.CompileCommand#generate}, into memory so that disk throughput does not dominate the result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IrSerializationBenchmark {
+
+    @Benchmark
+    public byte[] serialize(SyntheticDefinitionState state) throws JsonProcessingException {
+        return ConjureCli.OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(state.definition());
+    }
+
+    @Benchmark
+    public byte[] stream(SyntheticDefinitionState state) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        IrWriter.write(state.definition(), Map.of(), output, IrFormat.JSON, false);
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] streamCompact(SyntheticDefinitionState state) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        IrWriter.write(state.definition(), Map.of(), output, IrFormat.JSON, true);
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] streamSmile(SyntheticDefinitionState state) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        IrWriter.write(state.definition(), Map.of(), output, IrFormat.SMILE, true);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.conjure.defs.validator.ConjureDefinitionValidator;
+import com.palantir.conjure.defs.validator.DefinitionIndex;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.FieldDefinition;
+import com.palantir.conjure.spec.FieldName;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures recursive type detection on a layered DAG, where every object references several objects of the next layer
+ * through required fields. The number of distinct paths through such a graph grows exponentially with its depth, so
+ * this only completes when every type is visited once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NoRecursiveTypesBenchmark {
+    private static final String PACKAGE = "com.palantir.layered";
+
+    @Param({"10", "100"})
+    private int layers;
+
+    @Param({"100"})
+    private int typesPerLayer;
+
+    @Param({"3"})
+    private int fanOut;
+
+    private DefinitionIndex index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ImmutableList.Builder<TypeDefinition> types = ImmutableList.builder();
+        for (int layer = 0; layer < layers; layer++) {
+            for (int position = 0; position < typesPerLayer; position++) {
+                ObjectDefinition.Builder object = ObjectDefinition.builder().typeName(typeName(layer, position));
+                if (layer + 1 < layers) {
+                    for (int edge = 0; edge < fanOut; edge++) {
+                        object.fields(FieldDefinition.builder()
+                                .fieldName(FieldName.of("field" + edge))
+                                .type(Type.reference(typeName(layer + 1, (position + edge) % typesPerLayer)))
+                                .build());
+                    }
+                }
+                types.add(TypeDefinition.object(object.build()));
+            }
+        }
+        index = DefinitionIndex.of(ConjureDefinition.builder().version(1).types(types.build()).build());
+    }
+
+    @Benchmark
+    public DefinitionIndex noRecursiveTypes() {
+        ConjureDefinitionValidator.NO_RECURSIVE_TYPES.validate(index);
+        return index;
+    }
+
+    private static TypeName typeName(int layer, int position) {
+        return TypeName.of("Layer" + layer + "Type" + position, PACKAGE);
+    }
+}
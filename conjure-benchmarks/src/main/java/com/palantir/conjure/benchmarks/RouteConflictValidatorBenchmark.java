@@ -0,0 +1,95 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.benchmarks;
+
+import com.palantir.conjure.defs.validator.RouteConflictValidator;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.EndpointDefinition;
+import com.palantir.conjure.spec.EndpointName;
+import com.palantir.conjure.spec.HttpMethod;
+import com.palantir.conjure.spec.HttpPath;
+import com.palantir.conjure.spec.ServiceDefinition;
+import com.palantir.conjure.spec.TypeName;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures detecting route conflicts across services with {@link RouteConflictValidator}. All services share an
+ * {@code /api/{version}} prefix, and every service declares literal, parameterised and greedy routes below it, none of
+ * which conflict.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouteConflictValidatorBenchmark {
+    private static final int ENDPOINTS_PER_SERVICE = 100;
+
+    @Param({"1000", "50000"})
+    private int endpointCount;
+
+    private ConjureDefinition definition;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<ServiceDefinition> services = new ArrayList<>();
+        for (int service = 0; service * ENDPOINTS_PER_SERVICE < endpointCount; service++) {
+            List<EndpointDefinition> endpoints = new ArrayList<>();
+            for (int endpoint = 0; endpoint < ENDPOINTS_PER_SERVICE; endpoint++) {
+                String prefix = "/api/{version}/service" + service + "/resource" + (endpoint / 4);
+                String path =
+                        switch (endpoint % 4) {
+                            case 0 -> prefix;
+                            case 1 -> prefix + "/{id}";
+                            case 2 -> prefix + "/{id}/content";
+                            default -> prefix + "/files/{path:.+}";
+                        };
+                endpoints.add(EndpointDefinition.builder()
+                        .endpointName(EndpointName.of("endpoint" + endpoint))
+                        .httpMethod(HttpMethod.GET)
+                        .httpPath(HttpPath.of(path))
+                        .build());
+            }
+            services.add(ServiceDefinition.builder()
+                    .serviceName(TypeName.of("Service" + service, "com.palantir.product"))
+                    .endpoints(endpoints)
+                    .build());
+        }
+        definition = ConjureDefinition.builder().version(1).services(services).build();
+    }
+
+    @Benchmark
+    public ConjureDefinition validate() {
+        RouteConflictValidator.INSTANCE.validate(definition);
+        return definition;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.benchmarks;
+
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import com.palantir.conjure.defs.Conjure;
+import com.palantir.conjure.parser.AnnotatedConjureSourceFile;
+import com.palantir.conjure.parser.ConjureParser;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.synthetic.SyntheticDefinitionConfig;
+import com.palantir.conjure.synthetic.SyntheticDefinitions;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Synthetic definitions written by {@link SyntheticDefinitions}, together with the output of every compiler stage, so
+ * that each benchmark can measure a single stage in isolation.
+ *
+ * <p>The files form a tree of conjure-imports: a root file imports {@code fanOut} files, each of which imports
+ * {@code fanOut} further files, down to {@code importDepth} levels below the root. Half of the {@code typeCount}
+ * types are objects, the rest are split evenly between unions, enums and aliases.
+ */
+@State(Scope.Benchmark)
+public class SyntheticDefinitionState {
+
+    @Param({"100", "1000"})
+    private int typeCount;
+
+    @Param({"2"})
+    private int importDepth;
+
+    @Param({"3"})
+    private int fanOut;
+
+    private Path directory;
+    private List<File> files;
+    private Map<String, AnnotatedConjureSourceFile> annotatedSourceFiles;
+    private ConjureDefinition definition;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("conjure-benchmark");
+        int fileCount = 0;
+        int filesInLevel = 1;
+        for (int level = 0; level <= importDepth; level++) {
+            fileCount += filesInLevel;
+            filesInLevel *= fanOut;
+        }
+        int typesPerFile = Math.max(2, typeCount / fileCount);
+        int objectsPerFile = typesPerFile / 2;
+        int othersPerFile = (typesPerFile - objectsPerFile) / 3;
+        files = SyntheticDefinitions.write(
+                directory,
+                SyntheticDefinitionConfig.builder()
+                        .files(fileCount)
+                        .objectsPerFile(objectsPerFile)
+                        .unionsPerFile(othersPerFile)
+                        .enumsPerFile(othersPerFile)
+                        .aliasesPerFile(othersPerFile)
+                        .endpointsPerService(objectsPerFile)
+                        .importFanOut(fanOut)
+                        .importFanIn(1)
+                        .build());
+        annotatedSourceFiles = ConjureParser.parseAnnotated(files);
+        definition = Conjure.parse(files);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        MoreFiles.deleteRecursively(directory, RecursiveDeleteOption.ALLOW_INSECURE);
+    }
+
+    /** Every synthetic source file, as passed to the compiler when compiling a directory. */
+    public List<File> files() {
+        return files;
+    }
+
+    /** The parsed source files, keyed by canonical path. */
+    public Map<String, AnnotatedConjureSourceFile> annotatedSourceFiles() {
+        return annotatedSourceFiles;
+    }
+
+    /** The validated and normalized IR of the synthetic definitions. */
+    public ConjureDefinition definition() {
+        return definition;
+    }
+}
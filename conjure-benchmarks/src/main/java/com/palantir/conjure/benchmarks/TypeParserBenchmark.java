@@ -0,0 +1,81 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.benchmarks;
+
+import com.palantir.conjure.parser.types.ConjureType;
+import com.palantir.conjure.parser.types.TypeExpressionCache;
+import com.palantir.conjure.parser.types.TypeExpressionParser;
+import com.palantir.conjure.parser.types.TypeParser;
+import com.palantir.parsec.ParseException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing a single type reference, as happens for every field, argument and return type, both from scratch
+ * with the combinator-based {@link TypeParser} and the predictive {@link TypeExpressionParser}, and through a
+ * {@link TypeExpressionCache} which has seen the same expression before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypeParserBenchmark {
+
+    @Param({
+        "string",
+        "SomeObject",
+        "imported.SomeObject",
+        "optional<list<SomeObject>>",
+        "map<string, set<imported.SomeObject>>"
+    })
+    private String type;
+
+    private TypeExpressionCache cache;
+
+    @Setup(Level.Trial)
+    public void setup() throws ParseException {
+        cache = new TypeExpressionCache();
+        cache.parse(type);
+    }
+
+    @Benchmark
+    public ConjureType parse() throws ParseException {
+        return TypeParser.INSTANCE.parse(type);
+    }
+
+    @Benchmark
+    public ConjureType parsePredictive() throws ParseException {
+        return TypeExpressionParser.parse(type);
+    }
+
+    @Benchmark
+    public ConjureType parseCached() throws ParseException {
+        return cache.parse(type);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.defs;
+
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import com.palantir.conjure.parser.AnnotatedConjureSourceFile;
+import com.palantir.conjure.parser.ConjureParser;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.synthetic.SyntheticDefinitionConfig;
+import com.palantir.conjure.synthetic.SyntheticDefinitions;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how converting parsed source files into the IR scales with the shape of the import graph. In a chain every
+ * file transitively imports all files after it, so the cost of resolving imported objects grows quadratically with
+ * the number of files unless each file is converted only once; in a star the root imports every other file directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImportGraphBenchmark {
+
+    public enum Shape {
+        CHAIN,
+        STAR
+    }
+
+    @Param({"CHAIN", "STAR"})
+    private Shape shape;
+
+    @Param({"10", "100", "500"})
+    private int files;
+
+    @Param({"10"})
+    private int typesPerFile;
+
+    private Path directory;
+    private Map<String, AnnotatedConjureSourceFile> annotatedSourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("conjure-import-graph-benchmark");
+        annotatedSourceFiles = ConjureParser.parseAnnotated(SyntheticDefinitions.write(
+                directory,
+                SyntheticDefinitionConfig.builder()
+                        .files(files)
+                        .objectsPerFile(typesPerFile)
+                        .importFanOut(shape == Shape.CHAIN ? 1 : files - 1)
+                        .importFanIn(1)
+                        .build()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        MoreFiles.deleteRecursively(directory, RecursiveDeleteOption.ALLOW_INSECURE);
+    }
+
+    @Benchmark
+    public ConjureDefinition parseConjureDef() {
+        return ConjureParserUtils.parseConjureDef(annotatedSourceFiles, SafetyDeclarationRequirements.ALLOWED);
+    }
+}
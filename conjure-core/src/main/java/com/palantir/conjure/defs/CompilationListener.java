@@ -0,0 +1,43 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.defs;
+
+import java.io.File;
+
+/**
+ * Receives the wall time and allocations of the stages of a compilation, e.g. to find out which files or validators
+ * dominate compile times. Methods may be called concurrently from several threads when files are parsed in parallel.
+ */
+public interface CompilationListener {
+    CompilationListener NO_OP = new CompilationListener() {};
+
+    default void phaseCompleted(CompilationPhase _phase, CompilationMeasurement _measurement) {}
+
+    /** Called once a source file has been read and parsed, on the thread which parsed it. */
+    default void fileParsed(File _file, CompilationMeasurement _measurement) {}
+
+    /**
+     * Called once all source files of a compilation have been parsed, with the number of type expressions which were
+     * answered by the {@link com.palantir.conjure.parser.types.TypeExpressionCache} and the number which were parsed.
+     */
+    default void typeExpressionsParsed(long _cacheHits, long _cacheMisses) {}
+
+    /** Called once a parsed source file has been converted into IR. */
+    default void fileConverted(File _file, CompilationMeasurement _measurement) {}
+
+    /** Called once a whole-definition validator has run. */
+    default void validatorCompleted(String _validator, CompilationMeasurement _measurement) {}
+}
@@ -0,0 +1,86 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.defs;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import org.immutables.value.Value;
+
+/** Wall time and allocations of a piece of work done during a compilation. */
+@Value.Immutable
+@ConjureImmutablesStyle
+public interface CompilationMeasurement {
+
+    Duration wallTime();
+
+    /**
+     * Bytes allocated on the heap by the thread which did the work, or {@code 0} if the JVM does not support measuring
+     * per-thread allocations.
+     */
+    long allocatedBytes();
+
+    /**
+     * Starts measuring work done on the current thread for {@code listener}. Nothing is measured for
+     * {@link CompilationListener#NO_OP}, which would discard the measurement, and the timer then reports zero.
+     */
+    static Timer start(CompilationListener listener) {
+        return listener == CompilationListener.NO_OP ? Timer.UNMEASURED : new Timer(true);
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    class Builder extends ImmutableCompilationMeasurement.Builder {}
+
+    final class Timer {
+        private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+        private static final Timer UNMEASURED = new Timer(false);
+        private static final CompilationMeasurement NOTHING =
+                builder().wallTime(Duration.ZERO).allocatedBytes(0).build();
+
+        private final boolean measuring;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+
+        private Timer(boolean measuring) {
+            this.measuring = measuring;
+            this.startNanos = measuring ? System.nanoTime() : 0;
+            this.startAllocatedBytes = measuring ? currentThreadAllocatedBytes() : 0;
+        }
+
+        /** Completes the measurement; must be called on the thread which started it. */
+        public CompilationMeasurement stop() {
+            if (!measuring) {
+                return NOTHING;
+            }
+            return builder()
+                    .wallTime(Duration.ofNanos(System.nanoTime() - startNanos))
+                    .allocatedBytes(Math.max(0, currentThreadAllocatedBytes() - startAllocatedBytes))
+                    .build();
+        }
+
+        private static long currentThreadAllocatedBytes() {
+            if (THREADS instanceof com.sun.management.ThreadMXBean threads
+                    && threads.isThreadAllocatedMemorySupported()
+                    && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getCurrentThreadAllocatedBytes();
+            }
+            return 0;
+        }
+    }
+}
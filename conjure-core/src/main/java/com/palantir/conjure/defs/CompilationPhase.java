@@ -0,0 +1,30 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.defs;
+
+/** The stages of a compilation, in the order in which they run. */
+public enum CompilationPhase {
+    /** Reading and YAML-parsing every source file and its imports, including parsing type strings. */
+    PARSE,
+    /** Resolving references and converting every parsed file into IR, including per-file validation. */
+    CONVERT,
+    /** Running the whole-definition validators on the merged IR. */
+    VALIDATE,
+    /** Sorting the IR into its canonical order. */
+    NORMALIZE,
+    /** Serializing the IR to the output file. */
+    WRITE
+}
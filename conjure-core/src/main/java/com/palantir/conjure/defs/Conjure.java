@@ -16,8 +16,10 @@
 
 package com.palantir.conjure.defs;
 
+import com.palantir.conjure.defs.validator.RouteConflictValidator;
 import com.palantir.conjure.parser.AnnotatedConjureSourceFile;
 import com.palantir.conjure.parser.ConjureParser;
+import com.palantir.conjure.parser.ConjureSourceFileCache;
 import com.palantir.conjure.parser.NormalizeDefinition;
 import com.palantir.conjure.spec.ConjureDefinition;
 import java.io.File;
@@ -46,8 +48,30 @@ public final class Conjure {
      * Deserializes {@link ConjureDefinition} from their YAML representations in the given files.
      */
     public static ConjureDefinition parse(ConjureArgs args) {
-        Map<String, AnnotatedConjureSourceFile> sourceFiles = ConjureParser.parseAnnotated(args.definitions());
-        ConjureDefinition ir = ConjureParserUtils.parseConjureDef(sourceFiles, args.safetyDeclarations());
-        return NormalizeDefinition.normalize(ir);
+        CompilationListener listener = args.compilationListener().orElse(CompilationListener.NO_OP);
+        ConjureDefinition ir;
+        if (args.cacheDirectory().isPresent()) {
+            ir = new IncrementalCompilationCache(args.cacheDirectory().get()).parse(args);
+        } else {
+            CompilationMeasurement.Timer parseTimer = CompilationMeasurement.start(listener);
+            Map<String, AnnotatedConjureSourceFile> sourceFiles = ConjureParser.parseAnnotated(
+                    args.definitions(),
+                    args.parserParallelism(),
+                    args.sourceFileCache().orElseGet(ConjureSourceFileCache::new),
+                    listener);
+            listener.phaseCompleted(CompilationPhase.PARSE, parseTimer.stop());
+            ir = ConjureParserUtils.parseConjureDef(
+                    sourceFiles, args.safetyDeclarations(), listener, args.validationParallelism());
+        }
+        if (args.validateRouteConflicts()) {
+            CompilationMeasurement.Timer timer = CompilationMeasurement.start(listener);
+            RouteConflictValidator.INSTANCE.validate(ir);
+            listener.validatorCompleted(RouteConflictValidator.class.getSimpleName(), timer.stop());
+        }
+
+        CompilationMeasurement.Timer normalizeTimer = CompilationMeasurement.start(listener);
+        ConjureDefinition normalized = NormalizeDefinition.normalize(ir);
+        listener.phaseCompleted(CompilationPhase.NORMALIZE, normalizeTimer.stop());
+        return normalized;
     }
 }
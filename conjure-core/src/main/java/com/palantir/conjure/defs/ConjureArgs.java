@@ -16,8 +16,10 @@
 
 package com.palantir.conjure.defs;
 
+import com.palantir.conjure.parser.ConjureSourceFileCache;
 import java.io.File;
 import java.util.List;
+import java.util.Optional;
 import org.immutables.value.Value;
 
 @Value.Immutable
@@ -33,6 +35,50 @@ public interface ConjureArgs {
      */
     SafetyDeclarationRequirements safetyDeclarations();
 
+    /**
+     * Number of threads used to parse the input files and their imports. Defaults to {@code 1}, which parses every
+     * file sequentially on the calling thread.
+     */
+    @Value.Default
+    default int parserParallelism() {
+        return 1;
+    }
+
+    /**
+     * Number of threads used to run the whole-definition validators. Defaults to {@code 1}, which runs every validator
+     * sequentially on the calling thread; either way, the same error is reported for an invalid definition.
+     */
+    @Value.Default
+    default int validationParallelism() {
+        return 1;
+    }
+
+    /**
+     * If {@code true}, endpoints of different services must not have overlapping routes, e.g. because all services are
+     * deployed behind a single gateway. Defaults to {@code false}.
+     */
+    @Value.Default
+    default boolean validateRouteConflicts() {
+        return false;
+    }
+
+    /**
+     * Directory of an on-disk cache of per-file IR, reused across compilations. When present, only files whose
+     * content or transitive imports changed since a previous compilation are parsed and converted.
+     */
+    Optional<File> cacheDirectory();
+
+    /**
+     * In-memory cache of parsed source files to reuse across compilations, e.g. by a long-lived compiler process.
+     * Files which have not changed since they were added to the cache are not parsed again.
+     */
+    @Value.Auxiliary
+    Optional<ConjureSourceFileCache> sourceFileCache();
+
+    /** Receives the wall time and allocations of every stage of the compilation. */
+    @Value.Auxiliary
+    Optional<CompilationListener> compilationListener();
+
     static Builder builder() {
         return new Builder();
     }
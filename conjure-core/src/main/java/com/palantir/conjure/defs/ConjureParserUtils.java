@@ -25,6 +25,7 @@ import com.palantir.conjure.defs.validator.EnumValueDefinitionValidator;
 import com.palantir.conjure.defs.validator.ErrorDefinitionValidator;
 import com.palantir.conjure.defs.validator.FieldDefinitionValidator;
 import com.palantir.conjure.defs.validator.FieldNameValidator;
+import com.palantir.conjure.defs.validator.HttpPathTemplate;
 import com.palantir.conjure.defs.validator.HttpPathValidator;
 import com.palantir.conjure.defs.validator.ObjectDefinitionValidator;
 import com.palantir.conjure.defs.validator.PackageValidator;
@@ -85,8 +86,6 @@ import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import com.palantir.logsafe.exceptions.SafeIllegalStateException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -236,87 +235,164 @@ public final class ConjureParserUtils {
     static ConjureDefinition parseConjureDef(
             Map<String, AnnotatedConjureSourceFile> annotatedParsedDefs,
             SafetyDeclarationRequirements safetyDeclarations) {
+        return parseConjureDef(annotatedParsedDefs, safetyDeclarations, CompilationListener.NO_OP);
+    }
+
+    static ConjureDefinition parseConjureDef(
+            Map<String, AnnotatedConjureSourceFile> annotatedParsedDefs,
+            SafetyDeclarationRequirements safetyDeclarations,
+            CompilationListener listener) {
+        return parseConjureDef(annotatedParsedDefs, safetyDeclarations, listener, 1);
+    }
+
+    static ConjureDefinition parseConjureDef(
+            Map<String, AnnotatedConjureSourceFile> annotatedParsedDefs,
+            SafetyDeclarationRequirements safetyDeclarations,
+            CompilationListener listener,
+            int validationParallelism) {
+        CompilationMeasurement.Timer convertTimer = CompilationMeasurement.start(listener);
+        // Each file is converted exactly once per compilation regardless of how many other files (transitively)
+        // import it
+        ConvertedObjects convertedObjects = new ConvertedObjects();
+        SymbolTables symbolTables = SymbolTables.create();
+
+        List<ConjureDefinition> fragments = new ArrayList<>(annotatedParsedDefs.size());
+        annotatedParsedDefs.forEach((pathKey, annotatedParsed) -> fragments.add(parseSourceFile(
+                pathKey, annotatedParsed, annotatedParsedDefs, convertedObjects, symbolTables, listener)));
+        ConjureDefinition definition = mergeFragments(fragments);
+        listener.phaseCompleted(CompilationPhase.CONVERT, convertTimer.stop());
+
+        return validate(definition, safetyDeclarations, listener, validationParallelism);
+    }
+
+    /**
+     * Converts the types, errors and services declared in a single source file into a partial IR definition. Only
+     * per-file validations are applied; whole-definition validation happens in
+     * {@link #validate(ConjureDefinition, SafetyDeclarationRequirements, CompilationListener, int)}.
+     *
+     * @param pathKey canonical path of the source file, which is its key in {@code annotatedParsedDefs}
+     * @param annotatedParsedDefs the source file and its transitive imports
+     * @param convertedObjects objects converted so far in this compilation, shared by all of its files
+     * @param symbolTables resolved names of every file of this compilation, and the interner of its types
+     * @param listener receives the time spent converting the file
+     */
+    static ConjureDefinition parseSourceFile(
+            String pathKey,
+            AnnotatedConjureSourceFile annotatedParsed,
+            Map<String, AnnotatedConjureSourceFile> annotatedParsedDefs,
+            ConvertedObjects convertedObjects,
+            SymbolTables symbolTables,
+            CompilationListener listener) {
+        CompilationMeasurement.Timer timer = CompilationMeasurement.start(listener);
+        ConjureDefinition fragment =
+                parseSourceFile(pathKey, annotatedParsed, annotatedParsedDefs, convertedObjects, symbolTables);
+        listener.fileConverted(annotatedParsed.sourceFile(), timer.stop());
+        return fragment;
+    }
+
+    private static ConjureDefinition parseSourceFile(
+            String pathKey,
+            AnnotatedConjureSourceFile annotatedParsed,
+            Map<String, AnnotatedConjureSourceFile> annotatedParsedDefs,
+            ConvertedObjects convertedObjects,
+            SymbolTables symbolTables) {
+        ConjureSourceFile parsed = annotatedParsed.conjureSourceFile();
+
+        try {
+            ConjureTypeParserVisitor.ReferenceTypeResolver typeResolver =
+                    ConjureTypeParserVisitor.ByParsedRepresentationTypeNameResolver.forSourceFile(
+                            pathKey, annotatedParsedDefs, symbolTables);
+
+            EndpointErrorResolver endpointErrorResolver = new EndpointErrorResolver(
+                    symbolTables.forFile(pathKey, parsed.types()),
+                    symbolTables,
+                    annotatedParsed.importProviders(),
+                    annotatedParsedDefs);
+
+            // Resolve objects first, so we can use them in service validations
+            Map<TypeName, TypeDefinition> objects =
+                    convertedObjects.convert(pathKey, () -> parseObjects(parsed.types(), typeResolver));
+            if (convertedObjects.startWalkingImports(pathKey)) {
+                convertImports(parsed.types().conjureImports(), annotatedParsedDefs, convertedObjects, symbolTables);
+            }
+
+            // Holds this file's import closure, as every file it imports has been converted
+            DealiasingTypeVisitor dealiasingVisitor = DealiasingTypeVisitor.caching(convertedObjects.all());
+
+            List<ServiceDefinition> services = new ArrayList<>();
+            parsed.services().forEach((serviceName, service) -> {
+                services.add(parseService(
+                        service,
+                        TypeName.of(serviceName.name(), parseConjurePackage(service.conjurePackage())),
+                        typeResolver,
+                        endpointErrorResolver,
+                        dealiasingVisitor));
+            });
+
+            return ConjureDefinition.builder()
+                    .version(Conjure.SUPPORTED_IR_VERSION)
+                    .types(objects.values())
+                    .errors(parseErrors(parsed.types().definitions(), typeResolver))
+                    .services(services)
+                    .build();
+        } catch (RuntimeException e) {
+            throw new ConjureRuntimeException(
+                    String.format("Encountered error trying to parse file '%s'", annotatedParsed.sourceFile()), e);
+        }
+    }
+
+    /** Combines per-file definitions into a single definition. */
+    static ConjureDefinition mergeFragments(Collection<ConjureDefinition> fragments) {
         ImmutableList.Builder<ServiceDefinition> servicesBuilder = ImmutableList.builder();
         ImmutableList.Builder<ErrorDefinition> errorsBuilder = ImmutableList.builder();
         ImmutableList.Builder<TypeDefinition> typesBuilder = ImmutableList.builder();
-
-        annotatedParsedDefs.values().forEach(annotatedParsed -> {
-            ConjureSourceFile parsed = annotatedParsed.conjureSourceFile();
-
-            try {
-                ConjureTypeParserVisitor.ReferenceTypeResolver typeResolver =
-                        new ConjureTypeParserVisitor.ByParsedRepresentationTypeNameResolver(
-                                parsed.types(), annotatedParsed.importProviders(), annotatedParsedDefs);
-
-                EndpointErrorResolver endpointErrorResolver = new EndpointErrorResolver(
-                        parsed.types().definitions().errors(),
-                        parsed.types().definitions().defaultConjurePackage(),
-                        annotatedParsed.importProviders(),
-                        annotatedParsedDefs);
-
-                // Resolve objects first, so we can use them in service validations
-                Map<TypeName, TypeDefinition> objects = parseObjects(parsed.types(), typeResolver);
-                Map<TypeName, TypeDefinition> importedObjects =
-                        parseImportObjects(parsed.types().conjureImports(), annotatedParsedDefs);
-                Map<TypeName, TypeDefinition> allObjects = new HashMap<>();
-                allObjects.putAll(objects);
-                allObjects.putAll(importedObjects);
-
-                DealiasingTypeVisitor dealiasingVisitor = new DealiasingTypeVisitor(allObjects);
-
-                parsed.services().forEach((serviceName, service) -> {
-                    servicesBuilder.add(parseService(
-                            service,
-                            TypeName.of(serviceName.name(), parseConjurePackage(service.conjurePackage())),
-                            typeResolver,
-                            endpointErrorResolver,
-                            dealiasingVisitor));
-                });
-
-                typesBuilder.addAll(objects.values());
-                errorsBuilder.addAll(parseErrors(parsed.types().definitions(), typeResolver));
-            } catch (RuntimeException e) {
-                throw new ConjureRuntimeException(
-                        String.format("Encountered error trying to parse file '%s'", annotatedParsed.sourceFile()), e);
-            }
+        fragments.forEach(fragment -> {
+            typesBuilder.addAll(fragment.getTypes());
+            errorsBuilder.addAll(fragment.getErrors());
+            servicesBuilder.addAll(fragment.getServices());
         });
 
-        ConjureDefinition definition = ConjureDefinition.builder()
+        return ConjureDefinition.builder()
                 .version(Conjure.SUPPORTED_IR_VERSION)
                 .types(typesBuilder.build())
                 .errors(errorsBuilder.build())
                 .services(servicesBuilder.build())
                 .build();
+    }
 
-        ConjureDefinitionValidator.validateAll(definition, safetyDeclarations);
+    /** Runs the whole-definition validators on a merged definition, and returns it. */
+    static ConjureDefinition validate(
+            ConjureDefinition definition,
+            SafetyDeclarationRequirements safetyDeclarations,
+            CompilationListener listener,
+            int parallelism) {
+        CompilationMeasurement.Timer timer = CompilationMeasurement.start(listener);
+        ConjureDefinitionValidator.validateAll(definition, safetyDeclarations, listener, parallelism);
+        listener.phaseCompleted(CompilationPhase.VALIDATE, timer.stop());
         return definition;
     }
 
     /*
-     * Recursively resolve all imported types
+     * Recursively converts the objects of all imported files. The imports of each file are walked at most once per
+     * compilation, so the total work is linear in the size of the import graph.
      */
-    private static Map<TypeName, TypeDefinition> parseImportObjects(
-            Map<Namespace, ConjureImports> conjureImports, Map<String, AnnotatedConjureSourceFile> externalTypes) {
-        return innerParseImportObjects(conjureImports, externalTypes, new HashSet<>());
-    }
-
-    private static Map<TypeName, TypeDefinition> innerParseImportObjects(
+    private static void convertImports(
             Map<Namespace, ConjureImports> conjureImports,
             Map<String, AnnotatedConjureSourceFile> externalTypes,
-            Set<String> loadedFiles) {
-        Map<TypeName, TypeDefinition> allDefinitions = new HashMap<>();
+            ConvertedObjects convertedObjects,
+            SymbolTables symbolTables) {
         conjureImports.values().forEach(conjureImport -> {
+            convertedObjects.visitImport();
             String pathKey = conjureImport
                     .absoluteFile()
                     .orElseThrow(() ->
                             new SafeIllegalStateException("Absolute file MUST be resolved as part of parsing stage"))
                     .getAbsolutePath();
 
-            // These structures are potentially recursive; load in any given conjure file once
-            if (loadedFiles.contains(pathKey)) {
+            // These structures are potentially recursive; walk the imports of any given conjure file once
+            if (!convertedObjects.startWalkingImports(pathKey)) {
                 return;
             }
-            loadedFiles.add(pathKey);
 
             AnnotatedConjureSourceFile annotatedConjureSourceFile = externalTypes.get(pathKey);
 
@@ -324,16 +400,14 @@ public final class ConjureParserUtils {
                     annotatedConjureSourceFile, "Couldn't find import", UnsafeArg.of("file", conjureImport.file()));
 
             ConjureSourceFile conjureDef = annotatedConjureSourceFile.conjureSourceFile();
-            Map<Namespace, String> importProviders = annotatedConjureSourceFile.importProviders();
-            ReferenceTypeResolver importTypeResolver =
-                    new ConjureTypeParserVisitor.ByParsedRepresentationTypeNameResolver(
-                            conjureDef.types(), importProviders, externalTypes, pathKey);
-            allDefinitions.putAll(parseObjects(conjureDef.types(), importTypeResolver));
-            allDefinitions.putAll(
-                    innerParseImportObjects(conjureDef.types().conjureImports(), externalTypes, loadedFiles));
+            convertedObjects.convert(pathKey, () -> {
+                ReferenceTypeResolver importTypeResolver =
+                        ConjureTypeParserVisitor.ByParsedRepresentationTypeNameResolver.forImportedFile(
+                                pathKey, externalTypes, symbolTables);
+                return parseObjects(conjureDef.types(), importTypeResolver);
+            });
+            convertImports(conjureDef.types().conjureImports(), externalTypes, convertedObjects, symbolTables);
         });
-
-        return allDefinitions;
     }
 
     static ServiceDefinition parseService(
@@ -447,13 +521,13 @@ public final class ConjureParserUtils {
             ReferenceTypeResolver typeResolver,
             EndpointErrorResolver endpointErrorResolver,
             DealiasingTypeVisitor dealiasingVisitor) {
-        HttpPath httpPath = parseHttpPath(def, basePath);
+        HttpPathTemplate pathTemplate = parseHttpPath(def, basePath);
         EndpointDefinition endpoint = EndpointDefinition.builder()
                 .endpointName(EndpointName.of(name))
                 .httpMethod(HttpMethod.valueOf(def.http().method()))
-                .httpPath(httpPath)
+                .httpPath(HttpPath.of(pathTemplate.path()))
                 .auth(def.auth().map(ConjureParserUtils::parseAuthType).orElse(defaultAuth))
-                .args(parseArgs(def.args(), httpPath, typeResolver))
+                .args(parseArgs(def.args(), pathTemplate, typeResolver))
                 .tags(def.tags().stream()
                         .peek(tag -> Preconditions.checkArgument(!tag.isEmpty(), "tag must not be empty"))
                         .collect(Collectors.toSet()))
@@ -473,11 +547,11 @@ public final class ConjureParserUtils {
         return endpoint;
     }
 
-    private static HttpPath parseHttpPath(
+    private static HttpPathTemplate parseHttpPath(
             com.palantir.conjure.parser.services.EndpointDefinition def, PathString basePath) {
-        HttpPath httpPath = HttpPath.of(basePath.resolve(def.http().path()).toString());
-        HttpPathValidator.validate(httpPath);
-        return httpPath;
+        HttpPathTemplate pathTemplate = HttpPathTemplate.parse(basePath.resolve(def.http().path()).toString());
+        HttpPathValidator.validate(pathTemplate);
+        return pathTemplate;
     }
 
     private static Optional<AuthType> parseAuthType(
@@ -493,14 +567,15 @@ public final class ConjureParserUtils {
 
     private static List<ArgumentDefinition> parseArgs(
             Map<ParameterName, com.palantir.conjure.parser.services.ArgumentDefinition> args,
-            HttpPath httpPath,
+            HttpPathTemplate pathTemplate,
             ReferenceTypeResolver typeResolver) {
+        Set<ArgumentName> pathArgs = pathTemplate.pathArgs();
         ImmutableList.Builder<ArgumentDefinition> resultBuilder = ImmutableList.builder();
         for (Map.Entry<ParameterName, com.palantir.conjure.parser.services.ArgumentDefinition> entry :
                 args.entrySet()) {
             com.palantir.conjure.parser.services.ArgumentDefinition original = entry.getValue();
             ArgumentName argName = ArgumentName.of(entry.getKey().name());
-            ParameterType paramType = parseParameterType(original, argName, httpPath);
+            ParameterType paramType = parseParameterType(original, argName, pathArgs);
             ArgumentDefinition.Builder builder = ArgumentDefinition.builder()
                     .argName(argName)
                     .type(original.type().visit(new ConjureTypeParserVisitor(typeResolver)))
@@ -519,13 +594,12 @@ public final class ConjureParserUtils {
     private static ParameterType parseParameterType(
             com.palantir.conjure.parser.services.ArgumentDefinition argumentDef,
             ArgumentName argName,
-            HttpPath httpPath) {
+            Set<ArgumentName> pathArgs) {
 
-        Set<ArgumentName> args = HttpPathValidator.pathArgs(httpPath.get());
         switch (argumentDef.paramType()) {
             case AUTO -> {
                 // AUTO type
-                if (args.contains(argName)) {
+                if (pathArgs.contains(argName)) {
                     // argument exists in request line -- it is a path arg
                     return ParameterType.path(PathParameterType.of());
                 } else {
@@ -17,9 +17,7 @@
 package com.palantir.conjure.defs;
 
 import com.google.common.base.Preconditions;
-import com.palantir.conjure.exceptions.ConjureIllegalStateException;
 import com.palantir.conjure.parser.AnnotatedConjureSourceFile;
-import com.palantir.conjure.parser.types.BaseObjectTypeDefinition;
 import com.palantir.conjure.parser.types.ConjureTypeVisitor;
 import com.palantir.conjure.parser.types.TypesDefinition;
 import com.palantir.conjure.parser.types.builtin.AnyType;
@@ -31,11 +29,9 @@ import com.palantir.conjure.parser.types.collect.OptionalType;
 import com.palantir.conjure.parser.types.collect.SetType;
 import com.palantir.conjure.parser.types.names.Namespace;
 import com.palantir.conjure.parser.types.primitive.PrimitiveType;
-import com.palantir.conjure.parser.types.reference.ExternalTypeDefinition;
 import com.palantir.conjure.parser.types.reference.ForeignReferenceType;
 import com.palantir.conjure.parser.types.reference.LocalReferenceType;
 import com.palantir.conjure.spec.Type;
-import com.palantir.conjure.spec.TypeName;
 import java.util.Map;
 import java.util.Optional;
 
@@ -46,12 +42,18 @@ public final class ConjureTypeParserVisitor implements ConjureTypeVisitor<Type>
         Type resolve(LocalReferenceType reference);
 
         Type resolve(ForeignReferenceType reference);
+
+        /** The interner shared by the types built while resolving references, e.g. for one compilation. */
+        default TypeInterner interner() {
+            return TypeInterner.identity();
+        }
     }
 
     // TODO(rfink): Add explicit test coverage
     public static final class ByParsedRepresentationTypeNameResolver implements ReferenceTypeResolver {
 
-        private final TypesDefinition types;
+        private final SymbolTable localSymbols;
+        private final SymbolTables symbolTables;
         private final Map<Namespace, String> importProviders;
         private final Map<String, AnnotatedConjureSourceFile> externalTypes;
         private final Optional<String> conjureSourceFilePath;
@@ -60,10 +62,7 @@ public final class ConjureTypeParserVisitor implements ConjureTypeVisitor<Type>
                 TypesDefinition types,
                 Map<Namespace, String> importProviders,
                 Map<String, AnnotatedConjureSourceFile> externalTypes) {
-            this.types = types;
-            this.importProviders = importProviders;
-            this.externalTypes = externalTypes;
-            this.conjureSourceFilePath = Optional.empty();
+            this(types, importProviders, externalTypes, Optional.empty());
         }
 
         ByParsedRepresentationTypeNameResolver(
@@ -71,15 +70,67 @@ public final class ConjureTypeParserVisitor implements ConjureTypeVisitor<Type>
                 Map<Namespace, String> importProviders,
                 Map<String, AnnotatedConjureSourceFile> externalTypes,
                 String conjureSourceFilePath) {
-            this.types = types;
+            this(types, importProviders, externalTypes, Optional.of(conjureSourceFilePath));
+        }
+
+        private ByParsedRepresentationTypeNameResolver(
+                TypesDefinition types,
+                Map<Namespace, String> importProviders,
+                Map<String, AnnotatedConjureSourceFile> externalTypes,
+                Optional<String> conjureSourceFilePath) {
+            this(
+                    new SymbolTable(types, TypeInterner.identity()),
+                    new SymbolTables(TypeInterner.identity()),
+                    importProviders,
+                    externalTypes,
+                    conjureSourceFilePath);
+        }
+
+        private ByParsedRepresentationTypeNameResolver(
+                SymbolTable localSymbols,
+                SymbolTables symbolTables,
+                Map<Namespace, String> importProviders,
+                Map<String, AnnotatedConjureSourceFile> externalTypes,
+                Optional<String> conjureSourceFilePath) {
+            this.localSymbols = localSymbols;
+            this.symbolTables = symbolTables;
             this.importProviders = importProviders;
             this.externalTypes = externalTypes;
-            this.conjureSourceFilePath = Optional.of(conjureSourceFilePath);
+            this.conjureSourceFilePath = conjureSourceFilePath;
+        }
+
+        /** Resolves the references made by the source file at {@code pathKey}, one of {@code externalTypes}. */
+        static ByParsedRepresentationTypeNameResolver forSourceFile(
+                String pathKey, Map<String, AnnotatedConjureSourceFile> externalTypes, SymbolTables symbolTables) {
+            return forFile(pathKey, externalTypes, symbolTables, Optional.empty());
+        }
+
+        /**
+         * Resolves the references made by the file at {@code pathKey}, which is converted because another file imports
+         * it, and names it in errors.
+         */
+        static ByParsedRepresentationTypeNameResolver forImportedFile(
+                String pathKey, Map<String, AnnotatedConjureSourceFile> externalTypes, SymbolTables symbolTables) {
+            return forFile(pathKey, externalTypes, symbolTables, Optional.of(pathKey));
+        }
+
+        private static ByParsedRepresentationTypeNameResolver forFile(
+                String pathKey,
+                Map<String, AnnotatedConjureSourceFile> externalTypes,
+                SymbolTables symbolTables,
+                Optional<String> conjureSourceFilePath) {
+            AnnotatedConjureSourceFile sourceFile = externalTypes.get(pathKey);
+            return new ByParsedRepresentationTypeNameResolver(
+                    symbolTables.forFile(pathKey, sourceFile.conjureSourceFile().types()),
+                    symbolTables,
+                    sourceFile.importProviders(),
+                    externalTypes,
+                    conjureSourceFilePath);
         }
 
         @Override
         public Type resolve(LocalReferenceType reference) {
-            return resolveFromTypeName(reference.type(), types);
+            return localSymbols.type(reference.type());
         }
 
         @Override
@@ -95,93 +146,74 @@ public final class ConjureTypeParserVisitor implements ConjureTypeVisitor<Type>
             AnnotatedConjureSourceFile externalFile = externalTypes.get(namespaceFile);
             Preconditions.checkNotNull(
                     externalFile, "File not found for namespace: %s @ %s", reference.namespace(), namespaceFile);
-            return resolveFromTypeName(
-                    reference.type(), externalFile.conjureSourceFile().types());
+            return symbolTables
+                    .forFile(namespaceFile, externalFile.conjureSourceFile().types())
+                    .type(reference.type());
         }
 
-        private static Type resolveFromTypeName(
-                com.palantir.conjure.parser.types.names.TypeName name, TypesDefinition types) {
-            Optional<String> defaultPackage =
-                    types.definitions().defaultConjurePackage().map(ConjureParserUtils::parseConjurePackage);
-            BaseObjectTypeDefinition maybeDirectDef =
-                    types.definitions().objects().get(name);
-            String conjurePackage;
-            if (maybeDirectDef == null) {
-                ExternalTypeDefinition maybeExternalDef = types.imports().get(name);
-                if (maybeExternalDef == null) {
-                    throw new ConjureIllegalStateException("Unknown LocalReferenceType: " + name);
-                }
-
-                String externalPath = maybeExternalDef.external().java();
-                int lastIndex = externalPath.lastIndexOf(".");
-                conjurePackage = externalPath.substring(0, lastIndex);
-                String typeName = externalPath.substring(lastIndex + 1);
-
-                return ConjureParserUtils.parseExternalType(maybeExternalDef, conjurePackage, typeName);
-            } else {
-                // Conjure-defined object
-                conjurePackage =
-                        ConjureParserUtils.parsePackageOrElseThrow(maybeDirectDef.conjurePackage(), defaultPackage);
-                return Type.reference(TypeName.of(name.name(), conjurePackage));
-            }
+        @Override
+        public TypeInterner interner() {
+            return symbolTables.interner();
         }
     }
 
     private final ReferenceTypeResolver nameResolver;
+    private final TypeInterner interner;
 
     public ConjureTypeParserVisitor(ReferenceTypeResolver nameResolver) {
         this.nameResolver = nameResolver;
+        this.interner = nameResolver.interner();
     }
 
     @Override
     public Type visitAny(AnyType _type) {
-        return Type.primitive(com.palantir.conjure.spec.PrimitiveType.ANY);
+        return interner.intern(Type.primitive(com.palantir.conjure.spec.PrimitiveType.ANY));
     }
 
     @Override
     public Type visitList(ListType type) {
-        return Type.list(com.palantir.conjure.spec.ListType.of(type.itemType().visit(this)));
+        return interner.intern(Type.list(com.palantir.conjure.spec.ListType.of(type.itemType().visit(this))));
     }
 
     @Override
     public Type visitMap(MapType type) {
-        return Type.map(com.palantir.conjure.spec.MapType.of(
-                type.keyType().visit(this), type.valueType().visit(this)));
+        return interner.intern(Type.map(com.palantir.conjure.spec.MapType.of(
+                type.keyType().visit(this), type.valueType().visit(this))));
     }
 
     @Override
     public Type visitOptional(OptionalType type) {
-        return Type.optional(
-                com.palantir.conjure.spec.OptionalType.of(type.itemType().visit(this)));
+        return interner.intern(Type.optional(
+                com.palantir.conjure.spec.OptionalType.of(type.itemType().visit(this))));
     }
 
     @Override
     public Type visitPrimitive(PrimitiveType type) {
-        return ConjureParserUtils.parsePrimitiveType(type);
+        return interner.intern(ConjureParserUtils.parsePrimitiveType(type));
     }
 
     @Override
     public Type visitLocalReference(LocalReferenceType type) {
-        return nameResolver.resolve(type);
+        return interner.intern(nameResolver.resolve(type));
     }
 
     @Override
     public Type visitForeignReference(ForeignReferenceType type) {
-        return nameResolver.resolve(type);
+        return interner.intern(nameResolver.resolve(type));
     }
 
     @Override
     public Type visitSet(SetType type) {
-        return Type.set(com.palantir.conjure.spec.SetType.of(type.itemType().visit(this)));
+        return interner.intern(Type.set(com.palantir.conjure.spec.SetType.of(type.itemType().visit(this))));
     }
 
     @Override
     public Type visitBinary(BinaryType _type) {
-        return Type.primitive(com.palantir.conjure.spec.PrimitiveType.BINARY);
+        return interner.intern(Type.primitive(com.palantir.conjure.spec.PrimitiveType.BINARY));
     }
 
     @Override
     public Type visitDateTime(DateTimeType _type) {
-        return Type.primitive(com.palantir.conjure.spec.PrimitiveType.DATETIME);
+        return interner.intern(Type.primitive(com.palantir.conjure.spec.PrimitiveType.DATETIME));
     }
 }
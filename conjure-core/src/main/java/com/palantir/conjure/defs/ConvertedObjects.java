@@ -0,0 +1,83 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.defs;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The objects converted during a compilation, keyed by the canonical path of the file declaring them. Each file is
+ * converted once, and the imports of each file are walked once, no matter how many other files (transitively) import
+ * it. {@link #all()} holds the objects of every file converted so far, which includes the import closure of the file
+ * being converted, so no per-file copy of that closure is needed.
+ */
+final class ConvertedObjects {
+    private final Map<String, Map<TypeName, TypeDefinition>> objectsByFile = new HashMap<>();
+    private final Map<TypeName, TypeDefinition> all = new HashMap<>();
+    private final Map<TypeName, TypeDefinition> allView = Collections.unmodifiableMap(all);
+    private final Set<String> importsWalked = new HashSet<>();
+    private int conversions = 0;
+    private int importVisits = 0;
+
+    /** Returns the objects of the file at {@code pathKey}, converting them with {@code converter} on first use. */
+    Map<TypeName, TypeDefinition> convert(String pathKey, Supplier<Map<TypeName, TypeDefinition>> converter) {
+        Map<TypeName, TypeDefinition> objects = objectsByFile.get(pathKey);
+        if (objects == null) {
+            objects = converter.get();
+            conversions++;
+            objectsByFile.put(pathKey, objects);
+            all.putAll(objects);
+        }
+        return objects;
+    }
+
+    /**
+     * Records that the imports of the file at {@code pathKey} are being walked. Files are marked before their imports
+     * are visited, so cyclic imports terminate.
+     *
+     * @return whether this is the first time, in which case the caller should walk them
+     */
+    boolean startWalkingImports(String pathKey) {
+        return importsWalked.add(pathKey);
+    }
+
+    /** Records that an import of some file has been looked at. */
+    void visitImport() {
+        importVisits++;
+    }
+
+    /** The objects of every file converted so far. */
+    Map<TypeName, TypeDefinition> all() {
+        return allView;
+    }
+
+    @VisibleForTesting
+    int conversions() {
+        return conversions;
+    }
+
+    @VisibleForTesting
+    int importVisits() {
+        return importVisits;
+    }
+}
@@ -27,10 +27,7 @@ import com.palantir.conjure.parser.types.collect.ListType;
 import com.palantir.conjure.parser.types.collect.MapType;
 import com.palantir.conjure.parser.types.collect.OptionalType;
 import com.palantir.conjure.parser.types.collect.SetType;
-import com.palantir.conjure.parser.types.complex.ErrorTypeDefinition;
-import com.palantir.conjure.parser.types.names.ConjurePackage;
 import com.palantir.conjure.parser.types.names.Namespace;
-import com.palantir.conjure.parser.types.names.TypeName;
 import com.palantir.conjure.parser.types.primitive.PrimitiveType;
 import com.palantir.conjure.parser.types.reference.ForeignReferenceType;
 import com.palantir.conjure.parser.types.reference.LocalReferenceType;
@@ -38,7 +35,6 @@ import com.palantir.conjure.spec.ErrorTypeName;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Endpoint error definitions are either references to errors defined in the same file as the endpoint definition, or in
@@ -49,18 +45,18 @@ final class EndpointErrorResolver implements ConjureTypeVisitor<ErrorTypeName> {
     private static final String UNSUPPORTED_TYPE_MESSAGE =
             "Unsupported endpoint error type. Endpoint errors must be references to a Conjure-defined error type";
 
-    private final Map<TypeName, ErrorTypeDefinition> parsedErrors;
-    private final Optional<ConjurePackage> defaultConjurePackage;
+    private final SymbolTable localSymbols;
+    private final SymbolTables symbolTables;
     private final Map<Namespace, String> importProviders;
     private final Map<String, AnnotatedConjureSourceFile> externalTypes;
 
     EndpointErrorResolver(
-            Map<TypeName, ErrorTypeDefinition> parsedErrors,
-            Optional<ConjurePackage> defaultConjurePackage,
+            SymbolTable localSymbols,
+            SymbolTables symbolTables,
             Map<Namespace, String> importProviders,
             Map<String, AnnotatedConjureSourceFile> externalTypes) {
-        this.parsedErrors = parsedErrors;
-        this.defaultConjurePackage = defaultConjurePackage;
+        this.localSymbols = localSymbols;
+        this.symbolTables = symbolTables;
         this.importProviders = importProviders;
         this.externalTypes = externalTypes;
     }
@@ -70,7 +66,7 @@ final class EndpointErrorResolver implements ConjureTypeVisitor<ErrorTypeName> {
     }
 
     private ErrorTypeName resolveReferenceType(LocalReferenceType localReferenceType) {
-        return resolveInternal(localReferenceType.type(), parsedErrors, defaultConjurePackage);
+        return localSymbols.error(localReferenceType.type());
     }
 
     private ErrorTypeName resolveReferenceType(ForeignReferenceType foreignReferenceType) {
@@ -80,28 +76,9 @@ final class EndpointErrorResolver implements ConjureTypeVisitor<ErrorTypeName> {
         AnnotatedConjureSourceFile externalFile = externalTypes.get(namespaceFile);
         Preconditions.checkNotNull(
                 externalFile, "File not found for namespace: %s @ %s", foreignReferenceType.namespace(), namespaceFile);
-        return resolveInternal(
-                foreignReferenceType.type(),
-                externalFile.conjureSourceFile().types().definitions().errors(),
-                externalFile.conjureSourceFile().types().definitions().defaultConjurePackage());
-    }
-
-    private static ErrorTypeName resolveInternal(
-            TypeName name,
-            Map<TypeName, ErrorTypeDefinition> parsedErrorDefinitions,
-            Optional<ConjurePackage> defaultConjurePackage) {
-        ErrorTypeDefinition errorDefinition = parsedErrorDefinitions.get(name);
-        if (errorDefinition == null) {
-            throw new SafeIllegalArgumentException("Unknown error", SafeArg.of("error", name.name()));
-        }
-        return ErrorTypeName.builder()
-                .name(name.name())
-                .package_(ConjureParserUtils.parsePackageOrElseThrow(
-                        errorDefinition.conjurePackage(),
-                        defaultConjurePackage.map(ConjureParserUtils::parseConjurePackage)))
-                .namespace(com.palantir.conjure.spec.ErrorNamespace.of(
-                        errorDefinition.namespace().name()))
-                .build();
+        return symbolTables
+                .forFile(namespaceFile, externalFile.conjureSourceFile().types())
+                .error(foreignReferenceType.type());
     }
 
     @Override
@@ -0,0 +1,365 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.defs;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.palantir.conjure.parser.AnnotatedConjureSourceFile;
+import com.palantir.conjure.parser.ConjureParser;
+import com.palantir.conjure.parser.ConjureSourceFile;
+import com.palantir.conjure.parser.ConjureSourceFileCache;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.logsafe.exceptions.SafeUncheckedIoException;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of the partial IR produced by {@link ConjureParserUtils#parseSourceFile} for each conjure source file,
+ * which lets repeated compilations skip files whose content and transitive imports did not change.
+ *
+ * <p>The cache directory holds two kinds of entries:
+ * <ul>
+ *   <li>{@code imports/<content hash>.json}: the conjure imports declared by a file with the given content, so that
+ *   the import graph can be walked without parsing unchanged files.
+ *   <li>{@code fragments/<closure hash>.json}: the partial IR of a file, keyed by the content of that file, of every
+ *   file it transitively imports and of the import edges between them.
+ * </ul>
+ *
+ * <p>Only files without a cached fragment (and their imports) are parsed; the whole-definition validators in
+ * {@link com.palantir.conjure.defs.validator.ConjureDefinitionValidator} always run on the merged definition.
+ *
+ * <p>Entries are keyed by the build of conjure that wrote them, as well as by content. When that build cannot be
+ * identified, nothing is read from or written to the cache. Reading an entry refreshes its modification time, and
+ * entries unused for a week are deleted whenever a compilation writes new ones, so the directory does not grow without
+ * bound as sources change.
+ */
+final class IncrementalCompilationCache {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new Jdk8Module())
+            .setDefaultPropertyInclusion(JsonInclude.Include.NON_ABSENT);
+    private static final TypeReference<Map<String, String>> IMPORTS_TYPE = new TypeReference<>() {};
+
+    private static final Duration MAX_UNUSED_AGE = Duration.ofDays(7);
+
+    // Bump whenever the cache layout changes in a way that invalidates existing entries. Changes to the per-file
+    // conversion are covered by the build fingerprint.
+    private static final Optional<String> CACHE_VERSION = buildFingerprint().map(build -> "2:" + build);
+
+    private final Path importsDir;
+    private final Path fragmentsDir;
+    private boolean wroteEntries = false;
+
+    IncrementalCompilationCache(File cacheDirectory) {
+        this.importsDir = cacheDirectory.toPath().resolve("imports");
+        this.fragmentsDir = cacheDirectory.toPath().resolve("fragments");
+    }
+
+    ConjureDefinition parse(ConjureArgs args) {
+        CompilationListener listener = args.compilationListener().orElse(CompilationListener.NO_OP);
+        CompilationMeasurement.Timer parseTimer = CompilationMeasurement.start(listener);
+        // Files parsed to discover their imports are parsed once, and reused below if their fragment is missing
+        ConjureSourceFileCache sourceFileCache = args.sourceFileCache().orElseGet(ConjureSourceFileCache::new);
+        Map<String, SourceFile> sourceFiles = discover(args.definitions(), sourceFileCache);
+
+        Map<String, ConjureDefinition> fragments = new HashMap<>();
+        Map<String, String> missingFragments = new LinkedHashMap<>();
+        sourceFiles.keySet().forEach(pathKey -> {
+            String closureHash = closureHash(pathKey, sourceFiles);
+            Optional<ConjureDefinition> fragment = readFragment(closureHash);
+            if (fragment.isPresent()) {
+                fragments.put(pathKey, fragment.get());
+            } else {
+                missingFragments.put(pathKey, closureHash);
+            }
+        });
+
+        Map<String, AnnotatedConjureSourceFile> annotatedParsedDefs = missingFragments.isEmpty()
+                ? Map.of()
+                : ConjureParser.parseAnnotated(
+                        missingFragments.keySet().stream()
+                                .map(pathKey -> sourceFiles.get(pathKey).file)
+                                .collect(Collectors.toList()),
+                        args.parserParallelism(),
+                        sourceFileCache,
+                        listener);
+        listener.phaseCompleted(CompilationPhase.PARSE, parseTimer.stop());
+
+        CompilationMeasurement.Timer convertTimer = CompilationMeasurement.start(listener);
+        ConvertedObjects convertedObjects = new ConvertedObjects();
+        SymbolTables symbolTables = SymbolTables.create();
+        missingFragments.forEach((pathKey, closureHash) -> {
+            ConjureDefinition fragment = ConjureParserUtils.parseSourceFile(
+                    pathKey,
+                    annotatedParsedDefs.get(pathKey),
+                    annotatedParsedDefs,
+                    convertedObjects,
+                    symbolTables,
+                    listener);
+            writeFragment(closureHash, fragment);
+            fragments.put(pathKey, fragment);
+        });
+        ConjureDefinition definition = ConjureParserUtils.mergeFragments(
+                sourceFiles.keySet().stream().map(fragments::get).collect(Collectors.toList()));
+        listener.phaseCompleted(CompilationPhase.CONVERT, convertTimer.stop());
+        if (wroteEntries) {
+            prune(importsDir);
+            prune(fragmentsDir);
+        }
+
+        return ConjureParserUtils.validate(
+                definition, args.safetyDeclarations(), listener, args.validationParallelism());
+    }
+
+    /** Walks the import graph breadth-first, as {@link ConjureParser#parseAnnotated} does. */
+    private Map<String, SourceFile> discover(List<File> definitions, ConjureSourceFileCache sourceFileCache) {
+        Map<String, SourceFile> discovered = new LinkedHashMap<>();
+        Deque<File> toProcess = new ArrayDeque<>();
+        Map<File, File> importedFrom = new HashMap<>();
+        definitions.forEach(toProcess::add);
+
+        while (!toProcess.isEmpty()) {
+            File next = toProcess.poll();
+            File file = canonicalize(next);
+            String pathKey = file.getAbsolutePath();
+            if (discovered.containsKey(pathKey)) {
+                continue;
+            }
+            if (!file.exists()) {
+                throw new ConjureParser.ImportNotFoundException(file, Optional.ofNullable(importedFrom.get(next)));
+            }
+
+            String contentHash = contentHash(file);
+            Map<String, String> imports = readImports(contentHash).orElseGet(() -> {
+                Map<String, String> parsedImports = parseImports(file, sourceFileCache);
+                writeImports(contentHash, parsedImports);
+                return parsedImports;
+            });
+
+            Map<String, String> resolvedImports = new TreeMap<>();
+            imports.forEach((namespace, relativePath) -> {
+                File imported = canonicalize(file.toPath().getParent().resolve(relativePath).toFile());
+                resolvedImports.put(namespace, imported.getAbsolutePath());
+                importedFrom.putIfAbsent(imported, file);
+                toProcess.add(imported);
+            });
+            discovered.put(pathKey, new SourceFile(file, contentHash, resolvedImports));
+        }
+        return discovered;
+    }
+
+    /**
+     * Hashes the content of a file together with the content and import edges of every file it transitively imports.
+     * Import edges are described by the content hash of their target, so that moving files around without changing
+     * what they resolve to keeps the hash stable.
+     */
+    private static String closureHash(String pathKey, Map<String, SourceFile> sourceFiles) {
+        Set<String> closure = new HashSet<>();
+        Deque<String> toVisit = new ArrayDeque<>();
+        toVisit.add(pathKey);
+        while (!toVisit.isEmpty()) {
+            String next = toVisit.poll();
+            if (closure.add(next)) {
+                toVisit.addAll(sourceFiles.get(next).imports.values());
+            }
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(CACHE_VERSION.orElse(""), StandardCharsets.UTF_8);
+        hasher.putString(describe(sourceFiles.get(pathKey), sourceFiles), StandardCharsets.UTF_8);
+        closure.stream()
+                .filter(file -> !file.equals(pathKey))
+                .map(file -> describe(sourceFiles.get(file), sourceFiles))
+                .sorted()
+                .forEach(description -> hasher.putString(description, StandardCharsets.UTF_8));
+        return hasher.hash().toString();
+    }
+
+    private static String describe(SourceFile sourceFile, Map<String, SourceFile> sourceFiles) {
+        return sourceFile.contentHash
+                + sourceFile.imports.entrySet().stream()
+                        .map(entry -> entry.getKey() + '=' + sourceFiles.get(entry.getValue()).contentHash)
+                        .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static Map<String, String> parseImports(File file, ConjureSourceFileCache sourceFileCache) {
+        ConjureSourceFile parsed = ConjureParser.parse(file, sourceFileCache);
+        Map<String, String> imports = new TreeMap<>();
+        parsed.types()
+                .conjureImports()
+                .forEach((namespace, conjureImport) -> imports.put(namespace.name(), conjureImport.file()));
+        return imports;
+    }
+
+    private Optional<Map<String, String>> readImports(String contentHash) {
+        return read(importsDir.resolve(contentHash + ".json"), IMPORTS_TYPE);
+    }
+
+    private void writeImports(String contentHash, Map<String, String> imports) {
+        write(importsDir.resolve(contentHash + ".json"), imports);
+    }
+
+    private Optional<ConjureDefinition> readFragment(String closureHash) {
+        return read(fragmentsDir.resolve(closureHash + ".json"), new TypeReference<ConjureDefinition>() {});
+    }
+
+    private void writeFragment(String closureHash, ConjureDefinition fragment) {
+        write(fragmentsDir.resolve(closureHash + ".json"), fragment);
+    }
+
+    private static <T> Optional<T> read(Path entry, TypeReference<T> type) {
+        if (CACHE_VERSION.isEmpty() || !Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+        try {
+            T value = MAPPER.readValue(entry.toFile(), type);
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+            return Optional.of(value);
+        } catch (IOException e) {
+            // A corrupt or incompatible entry (or one pruned concurrently) is treated as a cache miss, and overwritten
+            // once recomputed
+            return Optional.empty();
+        }
+    }
+
+    private void write(Path entry, Object value) {
+        if (CACHE_VERSION.isEmpty()) {
+            return;
+        }
+        wroteEntries = true;
+        try {
+            Files.createDirectories(entry.getParent());
+            // Write to a temporary file first, so concurrent compilations never observe a partially written entry
+            Path tempFile = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+            try {
+                MAPPER.writeValue(tempFile.toFile(), value);
+                Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw new SafeUncheckedIoException("Failed to write incremental compilation cache entry", e);
+        }
+    }
+
+    /** Deletes the entries of {@code directory}, including abandoned temporary files, unused for too long. */
+    private static void prune(Path directory) {
+        FileTime cutoff = FileTime.from(Instant.now().minus(MAX_UNUSED_AGE));
+        try (Stream<Path> entries = Files.list(directory)) {
+            entries.forEach(entry -> {
+                try {
+                    if (Files.getLastModifiedTime(entry).compareTo(cutoff) < 0) {
+                        Files.deleteIfExists(entry);
+                    }
+                } catch (IOException e) {
+                    // Another compilation may be using or pruning the same entry; it is retried next time
+                }
+            });
+        } catch (NoSuchFileException e) {
+            // Nothing was written to this directory yet
+        } catch (IOException e) {
+            throw new SafeUncheckedIoException("Failed to prune incremental compilation cache", e);
+        }
+    }
+
+    /**
+     * Identifies the build of conjure running, so that entries written by a different converter are never reused: the
+     * implementation version of a released jar, or otherwise a hash of the classes it was loaded from.
+     */
+    private static Optional<String> buildFingerprint() {
+        Package conjurePackage = IncrementalCompilationCache.class.getPackage();
+        if (conjurePackage != null && conjurePackage.getImplementationVersion() != null) {
+            return Optional.of(conjurePackage.getImplementationVersion());
+        }
+        try {
+            CodeSource codeSource = IncrementalCompilationCache.class.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return Optional.empty();
+            }
+            Path location = Path.of(codeSource.getLocation().toURI());
+            Hasher hasher = Hashing.sha256().newHasher();
+            if (Files.isRegularFile(location)) {
+                hasher.putBytes(Files.readAllBytes(location));
+            } else {
+                try (Stream<Path> classes = Files.walk(location)) {
+                    for (Path classFile : classes.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                        hasher.putString(location.relativize(classFile).toString(), StandardCharsets.UTF_8);
+                        hasher.putBytes(Files.readAllBytes(classFile));
+                    }
+                }
+            }
+            return Optional.of(hasher.hash().toString());
+        } catch (IOException | URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String contentHash(File file) {
+        try {
+            return Hashing.sha256().hashBytes(Files.readAllBytes(file.toPath())).toString();
+        } catch (IOException e) {
+            throw new SafeUncheckedIoException("Couldn't read conjure source file", e);
+        }
+    }
+
+    private static File canonicalize(File file) {
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            throw new SafeUncheckedIoException("Couldn't canonicalize file path", e);
+        }
+    }
+
+    private static final class SourceFile {
+        private final File file;
+        private final String contentHash;
+        // From namespace to the canonical path of the imported file
+        private final Map<String, String> imports;
+
+        private SourceFile(File file, String contentHash, Map<String, String> imports) {
+            this.file = file;
+            this.contentHash = contentHash;
+            this.imports = imports;
+        }
+    }
+}
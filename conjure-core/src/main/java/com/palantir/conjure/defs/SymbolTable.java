@@ -0,0 +1,108 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.defs;
+
+import com.palantir.conjure.exceptions.ConjureIllegalStateException;
+import com.palantir.conjure.parser.types.BaseObjectTypeDefinition;
+import com.palantir.conjure.parser.types.TypesDefinition;
+import com.palantir.conjure.parser.types.complex.ErrorTypeDefinition;
+import com.palantir.conjure.parser.types.names.TypeName;
+import com.palantir.conjure.parser.types.reference.ExternalTypeDefinition;
+import com.palantir.conjure.spec.ErrorNamespace;
+import com.palantir.conjure.spec.ErrorTypeName;
+import com.palantir.conjure.spec.Type;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The IR types and error names of the objects, external imports and errors declared by one conjure source file.
+ *
+ * <p>Names are resolved when first looked up rather than up front, so that declarations which are never referenced
+ * only fail validation where they are converted themselves; afterwards, a lookup is a single map access.
+ */
+final class SymbolTable {
+    private final TypesDefinition types;
+    private final Optional<String> defaultPackage;
+    private final TypeInterner interner;
+    private final ConcurrentMap<TypeName, Type> resolvedTypes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TypeName, ErrorTypeName> resolvedErrors = new ConcurrentHashMap<>();
+
+    SymbolTable(TypesDefinition types, TypeInterner interner) {
+        this.types = types;
+        this.defaultPackage = types.definitions().defaultConjurePackage().map(ConjureParserUtils::parseConjurePackage);
+        this.interner = interner;
+    }
+
+    /** Returns the IR type referenced by {@code name}, which is either an object or an external import. */
+    Type type(TypeName name) {
+        Type type = resolvedTypes.get(name);
+        if (type == null) {
+            type = resolveType(name);
+            Type existing = resolvedTypes.putIfAbsent(name, type);
+            return existing == null ? type : existing;
+        }
+        return type;
+    }
+
+    /** Returns the IR name of the error declared as {@code name}. */
+    ErrorTypeName error(TypeName name) {
+        ErrorTypeName error = resolvedErrors.get(name);
+        if (error == null) {
+            error = resolveError(name);
+            ErrorTypeName existing = resolvedErrors.putIfAbsent(name, error);
+            return existing == null ? error : existing;
+        }
+        return error;
+    }
+
+    private Type resolveType(TypeName name) {
+        BaseObjectTypeDefinition maybeDirectDef = types.definitions().objects().get(name);
+        if (maybeDirectDef == null) {
+            ExternalTypeDefinition maybeExternalDef = types.imports().get(name);
+            if (maybeExternalDef == null) {
+                throw new ConjureIllegalStateException("Unknown LocalReferenceType: " + name);
+            }
+
+            String externalPath = maybeExternalDef.external().java();
+            int lastIndex = externalPath.lastIndexOf(".");
+            String conjurePackage = externalPath.substring(0, lastIndex);
+            String typeName = externalPath.substring(lastIndex + 1);
+
+            return interner.intern(ConjureParserUtils.parseExternalType(maybeExternalDef, conjurePackage, typeName));
+        }
+
+        // Conjure-defined object
+        String conjurePackage =
+                ConjureParserUtils.parsePackageOrElseThrow(maybeDirectDef.conjurePackage(), defaultPackage);
+        return interner.intern(
+                Type.reference(interner.intern(com.palantir.conjure.spec.TypeName.of(name.name(), conjurePackage))));
+    }
+
+    private ErrorTypeName resolveError(TypeName name) {
+        ErrorTypeDefinition errorDefinition = types.definitions().errors().get(name);
+        if (errorDefinition == null) {
+            throw new SafeIllegalArgumentException("Unknown error", SafeArg.of("error", name.name()));
+        }
+        return ErrorTypeName.builder()
+                .name(name.name())
+                .package_(ConjureParserUtils.parsePackageOrElseThrow(errorDefinition.conjurePackage(), defaultPackage))
+                .namespace(ErrorNamespace.of(errorDefinition.namespace().name()))
+                .build();
+    }
+}
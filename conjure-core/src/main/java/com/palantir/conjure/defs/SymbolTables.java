@@ -0,0 +1,47 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.defs;
+
+import com.palantir.conjure.parser.types.TypesDefinition;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The {@link SymbolTable} of every source file of a compilation, keyed by canonical file path, so that names declared
+ * by a file are resolved once no matter how many files reference them. Also holds the {@link TypeInterner} shared by
+ * all types converted during the compilation.
+ */
+final class SymbolTables {
+    private final TypeInterner interner;
+    private final ConcurrentMap<String, SymbolTable> tablesByFile = new ConcurrentHashMap<>();
+
+    SymbolTables(TypeInterner interner) {
+        this.interner = interner;
+    }
+
+    static SymbolTables create() {
+        return new SymbolTables(TypeInterner.create());
+    }
+
+    TypeInterner interner() {
+        return interner;
+    }
+
+    /** Returns the symbol table of the file at {@code pathKey}, which declares {@code types}. */
+    SymbolTable forFile(String pathKey, TypesDefinition types) {
+        return tablesByFile.computeIfAbsent(pathKey, _path -> new SymbolTable(types, interner));
+    }
+}
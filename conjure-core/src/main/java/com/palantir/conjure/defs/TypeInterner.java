@@ -0,0 +1,62 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.defs;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeName;
+
+/**
+ * Hash-conses IR {@link Type}s and {@link TypeName}s, so that structurally identical types converted during one
+ * compilation are represented by a single object. This bounds the number of live type objects by the number of
+ * distinct types rather than the number of fields, arguments and markers, and lets equality checks on interned types
+ * succeed on the identity fast path.
+ *
+ * <p>Types are interned bottom-up by {@link ConjureTypeParserVisitor}, so the children of an interned type are
+ * themselves interned. Instances are thread-safe and hold strong references, so should not outlive a compilation.
+ */
+public final class TypeInterner {
+    private static final TypeInterner IDENTITY = new TypeInterner(type -> type, typeName -> typeName);
+
+    private final Interner<Type> types;
+    private final Interner<TypeName> typeNames;
+
+    private TypeInterner(Interner<Type> types, Interner<TypeName> typeNames) {
+        this.types = types;
+        this.typeNames = typeNames;
+    }
+
+    /** Creates an interner which shares instances across all types interned through it. */
+    public static TypeInterner create() {
+        return new TypeInterner(Interners.newStrongInterner(), Interners.newStrongInterner());
+    }
+
+    /** Returns an interner which returns every type as is. */
+    public static TypeInterner identity() {
+        return IDENTITY;
+    }
+
+    /** Returns the canonical instance equal to {@code type}. */
+    public Type intern(Type type) {
+        return types.intern(type);
+    }
+
+    /** Returns the canonical instance equal to {@code typeName}. */
+    public TypeName intern(TypeName typeName) {
+        return typeNames.intern(typeName);
+    }
+}
@@ -16,39 +16,43 @@
 
 package com.palantir.conjure.defs.validator;
 
-import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ListMultimap;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
+import com.google.common.collect.SetMultimap;
+import com.palantir.conjure.defs.CompilationListener;
+import com.palantir.conjure.defs.CompilationMeasurement;
 import com.palantir.conjure.defs.Conjure;
 import com.palantir.conjure.defs.SafetyDeclarationRequirements;
 import com.palantir.conjure.exceptions.ConjureIllegalStateException;
 import com.palantir.conjure.spec.AliasDefinition;
 import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.EndpointDefinition;
 import com.palantir.conjure.spec.EnumDefinition;
 import com.palantir.conjure.spec.ErrorDefinition;
-import com.palantir.conjure.spec.FieldDefinition;
 import com.palantir.conjure.spec.ObjectDefinition;
 import com.palantir.conjure.spec.ServiceDefinition;
 import com.palantir.conjure.spec.Type;
 import com.palantir.conjure.spec.TypeDefinition;
 import com.palantir.conjure.spec.TypeName;
 import com.palantir.conjure.spec.UnionDefinition;
-import com.palantir.conjure.visitor.DealiasingTypeVisitor;
 import com.palantir.conjure.visitor.TypeDefinitionVisitor;
 import com.palantir.conjure.visitor.TypeVisitor;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -58,32 +62,124 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
     ILLEGAL_VERSION(new IllegalVersionValidator()),
     NO_RECURSIVE_TYPES(new NoRecursiveTypesValidator()),
     UNIQUE_NAMES(new UniqueNamesValidator()),
-    NO_NESTED_OPTIONAL(new NoNestedOptionalValidator()),
+    NO_NESTED_OPTIONAL(NoNestedOptionalValidator::validateIndex),
     ILLEGAL_MAP_KEYS(new IllegalMapKeyValidator()),
     UNIQUE_ERROR_NAMES(UniqueErrorNameValidator.INSTANCE);
 
+    private static final String LOG_SAFETY = "LOG_SAFETY";
+
     public static void validateAll(ConjureDefinition definition, SafetyDeclarationRequirements requirements) {
-        for (ConjureValidator<ConjureDefinition> validator : values()) {
-            validator.validate(definition);
+        validateAll(definition, requirements, CompilationListener.NO_OP);
+    }
+
+    /**
+     * Runs every whole-definition validator against a single {@link DefinitionIndex} of {@code definition}, reporting
+     * the time spent in each to {@code listener}.
+     */
+    public static void validateAll(
+            ConjureDefinition definition, SafetyDeclarationRequirements requirements, CompilationListener listener) {
+        DefinitionIndex index = DefinitionIndex.of(definition);
+        for (ConjureDefinitionValidator validator : values()) {
+            CompilationMeasurement.Timer timer = CompilationMeasurement.start(listener);
+            validator.validate(index);
+            listener.validatorCompleted(validator.name(), timer.stop());
+        }
+        CompilationMeasurement.Timer timer = CompilationMeasurement.start(listener);
+        new LogSafetyConjureDefinitionValidator(requirements).validate(index);
+        listener.validatorCompleted(LOG_SAFETY, timer.stop());
+    }
+
+    /**
+     * Equivalent to {@link #validateAll(ConjureDefinition, SafetyDeclarationRequirements, CompilationListener)}, but
+     * runs independent validators concurrently on up to {@code parallelism} threads, and shards the log safety checks
+     * of individual types and endpoints across them.
+     *
+     * <p>Failures are reported exactly as when validating sequentially, regardless of scheduling: the validators up to
+     * {@link #NO_RECURSIVE_TYPES}, which must pass before references can be dealiased, run before all others, and the
+     * first failure in declaration order is thrown.
+     */
+    public static void validateAll(
+            ConjureDefinition definition,
+            SafetyDeclarationRequirements requirements,
+            CompilationListener listener,
+            int parallelism) {
+        Preconditions.checkArgument(parallelism > 0, "Parallelism must be positive: %s", parallelism);
+        if (parallelism == 1) {
+            validateAll(definition, requirements, listener);
+            return;
+        }
+
+        DefinitionIndex index = DefinitionIndex.of(definition);
+        Map<String, Runnable> prerequisites = new LinkedHashMap<>();
+        Map<String, Runnable> others = new LinkedHashMap<>();
+        for (ConjureDefinitionValidator validator : values()) {
+            (validator.compareTo(NO_RECURSIVE_TYPES) <= 0 ? prerequisites : others)
+                    .put(validator.name(), () -> validator.validate(index));
+        }
+        LogSafetyConjureDefinitionValidator logSafety = new LogSafetyConjureDefinitionValidator(requirements);
+        others.put(LOG_SAFETY, () -> logSafety.validate(index, true));
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            runConcurrently(pool, prerequisites, listener);
+            runConcurrently(pool, others, listener);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Runs all validators on {@code pool}, and throws the failure of the first one in iteration order, if any. */
+    private static void runConcurrently(
+            ForkJoinPool pool, Map<String, Runnable> validators, CompilationListener listener) {
+        Map<String, Future<CompilationMeasurement>> measurements = new LinkedHashMap<>();
+        validators.forEach((name, validator) -> measurements.put(name, pool.submit(() -> {
+            CompilationMeasurement.Timer timer = CompilationMeasurement.start(listener);
+            validator.run();
+            return timer.stop();
+        })));
+        for (Map.Entry<String, Future<CompilationMeasurement>> entry : measurements.entrySet()) {
+            listener.validatorCompleted(entry.getKey(), await(entry.getValue()));
         }
-        new LogSafetyConjureDefinitionValidator(requirements).validate(definition);
     }
 
-    private final ConjureValidator<ConjureDefinition> validator;
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConjureIllegalStateException("Interrupted while validating conjure definition", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ConjureIllegalStateException("Failed to validate conjure definition", cause);
+        }
+    }
 
-    ConjureDefinitionValidator(ConjureValidator<ConjureDefinition> validator) {
+    private final ConjureValidator<DefinitionIndex> validator;
+
+    ConjureDefinitionValidator(ConjureValidator<DefinitionIndex> validator) {
         this.validator = validator;
     }
 
     @Override
     public void validate(ConjureDefinition definition) {
-        validator.validate(definition);
+        validate(DefinitionIndex.of(definition));
+    }
+
+    public void validate(DefinitionIndex index) {
+        validator.validate(index);
     }
 
     @com.google.errorprone.annotations.Immutable
-    private static final class UniqueServiceNamesValidator implements ConjureValidator<ConjureDefinition> {
+    private static final class UniqueServiceNamesValidator implements ConjureValidator<DefinitionIndex> {
         @Override
-        public void validate(ConjureDefinition definition) {
+        public void validate(DefinitionIndex index) {
+            ConjureDefinition definition = index.definition();
             Set<String> seenNames = new HashSet<>();
             definition.getServices().forEach(service -> {
                 boolean isNewName = seenNames.add(service.getServiceName().getName());
@@ -96,9 +192,10 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
     }
 
     @com.google.errorprone.annotations.Immutable
-    private static final class IllegalVersionValidator implements ConjureValidator<ConjureDefinition> {
+    private static final class IllegalVersionValidator implements ConjureValidator<DefinitionIndex> {
         @Override
-        public void validate(ConjureDefinition definition) {
+        public void validate(DefinitionIndex index) {
+            ConjureDefinition definition = index.definition();
             Preconditions.checkState(
                     definition.getVersion() == Conjure.SUPPORTED_IR_VERSION,
                     "Definition version must be %s, but version %s is provided instead.",
@@ -108,13 +205,12 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
     }
 
     @com.google.errorprone.annotations.Immutable
-    private static final class UniqueNamesValidator implements ConjureValidator<ConjureDefinition> {
+    private static final class UniqueNamesValidator implements ConjureValidator<DefinitionIndex> {
         @Override
-        public void validate(ConjureDefinition definition) {
+        public void validate(DefinitionIndex index) {
+            ConjureDefinition definition = index.definition();
             Set<TypeName> seenNames = new HashSet<>();
-            definition
-                    .getTypes()
-                    .forEach(typeDef -> verifyNameIsUnique(seenNames, typeDef.accept(TypeDefinitionVisitor.TYPE_NAME)));
+            index.typeNames().forEach(typeName -> verifyNameIsUnique(seenNames, typeName));
             definition.getErrors().forEach(errorDef -> verifyNameIsUnique(seenNames, errorDef.getErrorName()));
             definition.getServices().forEach(serviceDef -> verifyNameIsUnique(seenNames, serviceDef.getServiceName()));
         }
@@ -136,63 +232,93 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
         }
     }
 
+    /**
+     * Rejects types which directly or transitively reference themselves other than through an optional or collection
+     * type. Runs an iterative three-colour depth-first search over the {@link DefinitionIndex#directReferences()
+     * reference graph}, which visits every type and reference once.
+     */
     @com.google.errorprone.annotations.Immutable
-    private static final class NoRecursiveTypesValidator implements ConjureValidator<ConjureDefinition> {
-        @Override
-        public void validate(ConjureDefinition definition) {
-            // create mapping from object type name -> names of reference types that are fields of that type
-            Multimap<TypeName, TypeName> typeToRefFields = HashMultimap.create();
+    private static final class NoRecursiveTypesValidator implements ConjureValidator<DefinitionIndex> {
+        private static final byte UNVISITED = 0;
+        private static final byte IN_PROGRESS = 1;
+        private static final byte DONE = 2;
 
-            definition
-                    .getTypes()
-                    .forEach(type -> getReferenceType(type)
-                            .ifPresent(
-                                    entry -> typeToRefFields.put(type.accept(TypeDefinitionVisitor.TYPE_NAME), entry)));
-
-            for (TypeName name : typeToRefFields.keySet()) {
-                verifyTypeHasNoRecursiveDefinitions(name, typeToRefFields, new ArrayList<>());
+        @Override
+        public void validate(DefinitionIndex index) {
+            SetMultimap<TypeName, TypeName> references = index.directReferences();
+
+            // number every type in the graph, so that the search only deals with int arrays
+            Map<TypeName, Integer> ids = new HashMap<>();
+            List<TypeName> names = new ArrayList<>();
+            references.forEach((from, to) -> {
+                ids.computeIfAbsent(from, name -> assignId(name, names));
+                ids.computeIfAbsent(to, name -> assignId(name, names));
+            });
+            int[][] adjacency = new int[names.size()][];
+            for (int node = 0; node < adjacency.length; node++) {
+                adjacency[node] = references.get(names.get(node)).stream().mapToInt(ids::get).toArray();
             }
-        }
 
-        private static Optional<TypeName> getReferenceType(TypeDefinition typeDef) {
-            if (typeDef.accept(TypeDefinitionVisitor.IS_OBJECT)) {
-                ObjectDefinition objectDef = typeDef.accept(TypeDefinitionVisitor.OBJECT);
-                for (FieldDefinition currField : objectDef.getFields()) {
-                    Optional<TypeName> referenceType = resolveReferenceType(currField.getType());
-                    if (referenceType.isPresent()) {
-                        return referenceType;
-                    }
-                }
-            } else if (typeDef.accept(TypeDefinitionVisitor.IS_ALIAS)) {
-                AliasDefinition aliasDef = typeDef.accept(TypeDefinitionVisitor.ALIAS);
-                return resolveReferenceType(aliasDef.getAlias());
+            int[] cycle = findCycle(adjacency);
+            if (cycle.length > 0) {
+                throw new ConjureIllegalStateException("Illegal recursive data type: "
+                        + Arrays.stream(cycle)
+                                .mapToObj(node -> names.get(node).getName())
+                                .collect(Collectors.joining(" -> ")));
             }
-            return Optional.empty();
         }
 
-        private static Optional<TypeName> resolveReferenceType(Type type) {
-            if (type.accept(TypeVisitor.IS_REFERENCE)) {
-                return Optional.of(type.accept(TypeVisitor.REFERENCE));
-            } else if (type.accept(TypeVisitor.IS_PRIMITIVE)) {
-                return Optional.of(
-                        TypeName.of(type.accept(TypeVisitor.PRIMITIVE).get().name(), ""));
-            }
-            return Optional.empty();
+        private static int assignId(TypeName name, List<TypeName> names) {
+            names.add(name);
+            return names.size() - 1;
         }
 
-        private void verifyTypeHasNoRecursiveDefinitions(
-                TypeName typeName, Multimap<TypeName, TypeName> typeMap, List<TypeName> path) {
-            if (path.contains(typeName)) {
-                path.add(typeName);
-                throw new ConjureIllegalStateException("Illegal recursive data type: "
-                        + Joiner.on(" -> ").join(Lists.transform(path, TypeName::getName)));
+        /**
+         * Returns the nodes of the first cycle found, starting and ending with the same node, or an empty array if the
+         * graph is acyclic.
+         */
+        private static int[] findCycle(int[][] adjacency) {
+            byte[] state = new byte[adjacency.length];
+            // every node is pushed at most once, so the stack never holds more than all nodes
+            int[] stack = new int[adjacency.length];
+            int[] nextEdge = new int[adjacency.length];
+            for (int root = 0; root < adjacency.length; root++) {
+                if (state[root] != UNVISITED) {
+                    continue;
+                }
+                int depth = 0;
+                stack[0] = root;
+                nextEdge[0] = 0;
+                state[root] = IN_PROGRESS;
+                while (depth >= 0) {
+                    int node = stack[depth];
+                    if (nextEdge[depth] == adjacency[node].length) {
+                        state[node] = DONE;
+                        depth--;
+                        continue;
+                    }
+                    int target = adjacency[node][nextEdge[depth]++];
+                    if (state[target] == IN_PROGRESS) {
+                        return cycleEndingAt(stack, depth, target);
+                    } else if (state[target] == UNVISITED) {
+                        state[target] = IN_PROGRESS;
+                        depth++;
+                        stack[depth] = target;
+                        nextEdge[depth] = 0;
+                    }
+                }
             }
+            return new int[0];
+        }
 
-            path.add(typeName);
-            for (TypeName currField : typeMap.get(typeName)) {
-                verifyTypeHasNoRecursiveDefinitions(currField, typeMap, path);
+        private static int[] cycleEndingAt(int[] stack, int depth, int target) {
+            int start = depth;
+            while (stack[start] != target) {
+                start--;
             }
-            path.remove(path.size() - 1);
+            int[] cycle = Arrays.copyOfRange(stack, start, depth + 2);
+            cycle[cycle.length - 1] = target;
+            return cycle;
         }
     }
 
@@ -200,9 +326,12 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
     public static final class NoNestedOptionalValidator implements ConjureValidator<ConjureDefinition> {
         @Override
         public void validate(ConjureDefinition definition) {
-            // create mapping for resolving reference types during validation
-            Map<TypeName, TypeDefinition> definitionMap = definition.getTypes().stream()
-                    .collect(Collectors.toMap(entry -> entry.accept(TypeDefinitionVisitor.TYPE_NAME), entry -> entry));
+            validateIndex(DefinitionIndex.of(definition));
+        }
+
+        static void validateIndex(DefinitionIndex index) {
+            ConjureDefinition definition = index.definition();
+            Map<TypeName, TypeDefinition> definitionMap = index.typesByName();
             definition.getTypes().forEach(def -> validateTypeDefinition(def, definitionMap));
             definition.getErrors().forEach(def -> validateErrorDefinition(def, definitionMap));
             definition.getServices().forEach(def -> validateServiceDefinition(def, definitionMap));
@@ -316,23 +445,20 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
     }
 
     @com.google.errorprone.annotations.Immutable
-    private static final class IllegalMapKeyValidator implements ConjureValidator<ConjureDefinition> {
+    private static final class IllegalMapKeyValidator implements ConjureValidator<DefinitionIndex> {
 
         @Override
-        public void validate(ConjureDefinition definition) {
-            // create mapping for resolving reference types during validation
-            Map<TypeName, TypeDefinition> definitionMap = definition.getTypes().stream()
-                    .collect(Collectors.toMap(entry -> entry.accept(TypeDefinitionVisitor.TYPE_NAME), entry -> entry));
-            definition.getTypes().forEach(def -> validateTypeDefinition(def, definitionMap));
-            definition.getErrors().forEach(def -> validateErrorDefinition(def, definitionMap));
-            definition.getServices().forEach(def -> validateServiceDefinition(def, definitionMap));
+        public void validate(DefinitionIndex index) {
+            ConjureDefinition definition = index.definition();
+            definition.getTypes().forEach(def -> validateTypeDefinition(def, index));
+            definition.getErrors().forEach(def -> validateErrorDefinition(def, index));
+            definition.getServices().forEach(def -> validateServiceDefinition(def, index));
         }
 
-        private static void validateServiceDefinition(
-                ServiceDefinition serviceDef, Map<TypeName, TypeDefinition> definitionMap) {
+        private static void validateServiceDefinition(ServiceDefinition serviceDef, DefinitionIndex index) {
             serviceDef.getEndpoints().forEach(endpoint -> {
                 endpoint.getArgs().stream()
-                        .filter(arg -> recursivelyFindIllegalKeys(arg.getType(), definitionMap, false))
+                        .filter(arg -> recursivelyFindIllegalKeys(arg.getType(), index, false))
                         .findAny()
                         .ifPresent(_arg -> {
                             throw new ConjureIllegalStateException(
@@ -341,7 +467,7 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
                                             + ". Map keys can only be primitive Conjure types.");
                         });
                 endpoint.getReturns().ifPresent(returnType -> {
-                    if (recursivelyFindIllegalKeys(returnType, definitionMap, false)) {
+                    if (recursivelyFindIllegalKeys(returnType, index, false)) {
                         throw new ConjureIllegalStateException("Illegal map key found in return type of endpoint "
                                 + endpoint.getEndpointName().get() + ". Map keys can only be primitive Conjure types.");
                     }
@@ -349,10 +475,9 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
             });
         }
 
-        private static void validateErrorDefinition(
-                ErrorDefinition errorDef, Map<TypeName, TypeDefinition> definitionMap) {
+        private static void validateErrorDefinition(ErrorDefinition errorDef, DefinitionIndex index) {
             Stream.concat(errorDef.getSafeArgs().stream(), errorDef.getUnsafeArgs().stream())
-                    .filter(arg -> recursivelyFindIllegalKeys(arg.getType(), definitionMap, false))
+                    .filter(arg -> recursivelyFindIllegalKeys(arg.getType(), index, false))
                     .findAny()
                     .ifPresent(_arg -> {
                         throw new ConjureIllegalStateException("Illegal map key found in one of arguments of error "
@@ -361,14 +486,13 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
                     });
         }
 
-        private static void validateTypeDefinition(
-                TypeDefinition typeDef, Map<TypeName, TypeDefinition> definitionMap) {
+        private static void validateTypeDefinition(TypeDefinition typeDef, DefinitionIndex index) {
 
             typeDef.accept(new TypeDefinition.Visitor<Void>() {
                 @Override
                 public Void visitAlias(AliasDefinition _value) {
                     AliasDefinition aliasDef = typeDef.accept(TypeDefinitionVisitor.ALIAS);
-                    if (recursivelyFindIllegalKeys(aliasDef.getAlias(), definitionMap, false)) {
+                    if (recursivelyFindIllegalKeys(aliasDef.getAlias(), index, false)) {
                         throw new ConjureIllegalStateException("Illegal map key found in alias "
                                 + aliasDef.getTypeName().getName() + ". Map keys can only be primitive Conjure types.");
                     }
@@ -380,7 +504,7 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
                     ObjectDefinition objectDefinition = typeDef.accept(TypeDefinitionVisitor.OBJECT);
                     objectDefinition.getFields().stream()
                             .filter(fieldDefinition ->
-                                    recursivelyFindIllegalKeys(fieldDefinition.getType(), definitionMap, false))
+                                    recursivelyFindIllegalKeys(fieldDefinition.getType(), index, false))
                             .findAny()
                             .ifPresent(found -> {
                                 throw new ConjureIllegalStateException(String.format(
@@ -397,7 +521,7 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
                     UnionDefinition unionDefinition = typeDef.accept(TypeDefinitionVisitor.UNION);
                     unionDefinition.getUnion().stream()
                             .filter(fieldDefinition ->
-                                    recursivelyFindIllegalKeys(fieldDefinition.getType(), definitionMap, false))
+                                    recursivelyFindIllegalKeys(fieldDefinition.getType(), index, false))
                             .findAny()
                             .ifPresent(found -> {
                                 throw new ConjureIllegalStateException(String.format(
@@ -421,20 +545,17 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
             });
         }
 
-        private static boolean recursivelyFindIllegalKeys(
-                Type type, Map<TypeName, TypeDefinition> definitionMap, boolean isMapKey) {
+        private static boolean recursivelyFindIllegalKeys(Type type, DefinitionIndex index, boolean isMapKey) {
             if (type.accept(TypeVisitor.IS_MAP)) {
                 if (isMapKey) {
                     return true;
                 }
-                return recursivelyFindIllegalKeys(type.accept(TypeVisitor.MAP).getKeyType(), definitionMap, true)
-                        || recursivelyFindIllegalKeys(
-                                type.accept(TypeVisitor.MAP).getValueType(), definitionMap, false);
+                return recursivelyFindIllegalKeys(type.accept(TypeVisitor.MAP).getKeyType(), index, true)
+                        || recursivelyFindIllegalKeys(type.accept(TypeVisitor.MAP).getValueType(), index, false);
             }
 
             if (isMapKey) {
-                return new DealiasingTypeVisitor(definitionMap)
-                        .dealias(type)
+                return index.dealias(type)
                         .fold(
                                 typeDefinition -> !typeDefinition.accept(TypeDefinitionVisitor.IS_ENUM),
                                 subType -> !subType.accept(TypeVisitor.IS_PRIMITIVE)
@@ -445,7 +566,7 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
     }
 
     @com.google.errorprone.annotations.Immutable
-    private static final class LogSafetyConjureDefinitionValidator implements ConjureValidator<ConjureDefinition> {
+    private static final class LogSafetyConjureDefinitionValidator implements ConjureValidator<DefinitionIndex> {
 
         private final SafetyDeclarationRequirements safetyDeclarations;
 
@@ -454,73 +575,85 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
         }
 
         @Override
-        public void validate(ConjureDefinition definition) {
+        public void validate(DefinitionIndex index) {
+            validate(index, false);
+        }
+
+        /**
+         * Validates every type and endpoint argument. If {@code parallel}, types and endpoints are checked in parallel
+         * on the current fork join pool; errors are reported in declaration order either way.
+         */
+        void validate(DefinitionIndex index, boolean parallel) {
+            ConjureDefinition definition = index.definition();
             List<String> errors = new ArrayList<>();
 
-            definition
-                    .getTypes()
-                    .forEach(type ->
-                            SafetyValidator.validate(type, safetyDeclarations).forEach(errors::add));
-
-            definition
-                    .getServices()
-                    .forEach(serviceDefinition -> serviceDefinition
-                            .getEndpoints()
-                            .forEach(endpointDefinition -> endpointDefinition
-                                    .getArgs()
-                                    .forEach(argumentDefinition -> {
-                                        SafetyValidator.validateDefinition(
-                                                        endpointDefinition,
-                                                        argumentDefinition.getArgName(),
-                                                        argumentDefinition.getSafety(),
-                                                        argumentDefinition.getType(),
-                                                        safetyDeclarations)
-                                                .map(message -> String.format(
-                                                        "%s.%s(%s): %s",
-                                                        serviceDefinition
-                                                                .getServiceName()
-                                                                .getName(),
-                                                        endpointDefinition.getEndpointName(),
-                                                        argumentDefinition.getArgName(),
-                                                        message))
-                                                .forEach(errors::add);
-
-                                        // In strict mode we don't allow legacy safety tags or markers
-                                        if (safetyDeclarations.required()) {
-                                            if (argumentDefinition.getTags().contains("safe")
-                                                    || argumentDefinition
-                                                            .getTags()
-                                                            .contains("unsafe")) {
-                                                errors.add(String.format(
-                                                        "%s.%s(%s): Safety tags have been replaced by the 'safety'"
-                                                            + " field and are no longer allowed when 'requireSafety'"
-                                                            + " is enabled",
-                                                        serviceDefinition
-                                                                .getServiceName()
-                                                                .getName(),
-                                                        endpointDefinition.getEndpointName(),
-                                                        argumentDefinition.getArgName()));
-                                            }
-                                            if (argumentDefinition.getMarkers().stream()
-                                                    .anyMatch(LogSafetyConjureDefinitionValidator::isSafetyMarker)) {
-                                                errors.add(String.format(
-                                                        "%s.%s(%s): Safety markers have been replaced by the 'safety'"
-                                                            + " field and are no longer allowed when 'requireSafety'"
-                                                            + " is enabled",
-                                                        serviceDefinition
-                                                                .getServiceName()
-                                                                .getName(),
-                                                        endpointDefinition.getEndpointName(),
-                                                        argumentDefinition.getArgName()));
-                                            }
-                                        }
-                                    })));
+            Stream<TypeDefinition> types = parallel
+                    ? definition.getTypes().parallelStream()
+                    : definition.getTypes().stream();
+            errors.addAll(types.flatMap(type -> SafetyValidator.validate(type, safetyDeclarations))
+                    .collect(Collectors.toList()));
+
+            List<Map.Entry<ServiceDefinition, EndpointDefinition>> endpoints = new ArrayList<>();
+            definition.getServices().forEach(serviceDefinition -> serviceDefinition
+                    .getEndpoints()
+                    .forEach(endpointDefinition ->
+                            endpoints.add(new SimpleImmutableEntry<>(serviceDefinition, endpointDefinition))));
+            Stream<Map.Entry<ServiceDefinition, EndpointDefinition>> endpointStream =
+                    parallel ? endpoints.parallelStream() : endpoints.stream();
+            errors.addAll(endpointStream
+                    .flatMap(entry -> validateEndpoint(entry.getKey(), entry.getValue()))
+                    .collect(Collectors.toList()));
 
             if (!errors.isEmpty()) {
                 throw new ConjureIllegalStateException(String.join("\n", errors));
             }
         }
 
+        private Stream<String> validateEndpoint(
+                ServiceDefinition serviceDefinition, EndpointDefinition endpointDefinition) {
+            List<String> errors = new ArrayList<>();
+            endpointDefinition.getArgs().forEach(argumentDefinition -> {
+                SafetyValidator.validateDefinition(
+                                endpointDefinition,
+                                argumentDefinition.getArgName(),
+                                argumentDefinition.getSafety(),
+                                argumentDefinition.getType(),
+                                safetyDeclarations)
+                        .map(message -> String.format(
+                                "%s.%s(%s): %s",
+                                serviceDefinition.getServiceName().getName(),
+                                endpointDefinition.getEndpointName(),
+                                argumentDefinition.getArgName(),
+                                message))
+                        .forEach(errors::add);
+
+                // In strict mode we don't allow legacy safety tags or markers
+                if (safetyDeclarations.required()) {
+                    if (argumentDefinition.getTags().contains("safe")
+                            || argumentDefinition.getTags().contains("unsafe")) {
+                        errors.add(String.format(
+                                "%s.%s(%s): Safety tags have been replaced by the 'safety'"
+                                        + " field and are no longer allowed when 'requireSafety'"
+                                        + " is enabled",
+                                serviceDefinition.getServiceName().getName(),
+                                endpointDefinition.getEndpointName(),
+                                argumentDefinition.getArgName()));
+                    }
+                    if (argumentDefinition.getMarkers().stream()
+                            .anyMatch(LogSafetyConjureDefinitionValidator::isSafetyMarker)) {
+                        errors.add(String.format(
+                                "%s.%s(%s): Safety markers have been replaced by the 'safety'"
+                                        + " field and are no longer allowed when 'requireSafety'"
+                                        + " is enabled",
+                                serviceDefinition.getServiceName().getName(),
+                                endpointDefinition.getEndpointName(),
+                                argumentDefinition.getArgName()));
+                    }
+                }
+            });
+            return errors.stream();
+        }
+
         private static boolean isSafetyMarker(Type type) {
             if (type.accept(TypeVisitor.IS_REFERENCE)) {
                 TypeName marker = type.accept(TypeVisitor.REFERENCE);
@@ -532,12 +665,12 @@ public enum ConjureDefinitionValidator implements ConjureValidator<ConjureDefini
     }
 
     @com.google.errorprone.annotations.Immutable
-    private enum UniqueErrorNameValidator implements ConjureValidator<ConjureDefinition> {
+    private enum UniqueErrorNameValidator implements ConjureValidator<DefinitionIndex> {
         INSTANCE;
 
         @Override
-        public void validate(ConjureDefinition definition) {
-            ListMultimap<String, ErrorDefinition> errors = definition.getErrors().stream()
+        public void validate(DefinitionIndex index) {
+            ListMultimap<String, ErrorDefinition> errors = index.definition().getErrors().stream()
                     .collect(Multimaps.toMultimap(
                             errorDefinition -> errorDefinition.getNamespace().get()
                                     + ':'
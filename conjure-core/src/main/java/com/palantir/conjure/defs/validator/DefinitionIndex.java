@@ -0,0 +1,157 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.defs.validator;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+import com.palantir.conjure.either.Either;
+import com.palantir.conjure.spec.AliasDefinition;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.EnumDefinition;
+import com.palantir.conjure.spec.FieldDefinition;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.spec.UnionDefinition;
+import com.palantir.conjure.visitor.DealiasingTypeVisitor;
+import com.palantir.conjure.visitor.TypeDefinitionVisitor;
+import com.palantir.conjure.visitor.TypeVisitor;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookup tables over a {@link ConjureDefinition}, built in a single pass and shared by all whole-definition
+ * validators, so that each of them does not walk and index the definition again.
+ *
+ * <p>The index is immutable; dealiased references are computed on first use and memoized, because dealiasing an
+ * alias which is part of a cycle only terminates once {@link ConjureDefinitionValidator#NO_RECURSIVE_TYPES} has
+ * rejected the definition.
+ */
+public final class DefinitionIndex {
+    private final ConjureDefinition definition;
+    private final ImmutableList<TypeName> typeNames;
+    private final ImmutableMap<TypeName, TypeDefinition> typesByName;
+    private final ImmutableSetMultimap<TypeName, TypeName> directReferences;
+    private final DealiasingTypeVisitor dealiasingVisitor;
+
+    private DefinitionIndex(ConjureDefinition definition) {
+        this.definition = definition;
+        ImmutableList.Builder<TypeName> typeNamesBuilder = ImmutableList.builderWithExpectedSize(
+                definition.getTypes().size());
+        Map<TypeName, TypeDefinition> typesByNameBuilder = new LinkedHashMap<>();
+        ImmutableSetMultimap.Builder<TypeName, TypeName> directReferencesBuilder = ImmutableSetMultimap.builder();
+        for (TypeDefinition type : definition.getTypes()) {
+            TypeName typeName = type.accept(TypeDefinitionVisitor.TYPE_NAME);
+            typeNamesBuilder.add(typeName);
+            typesByNameBuilder.putIfAbsent(typeName, type);
+            type.accept(new DirectReferenceCollector(typeName, directReferencesBuilder));
+        }
+        this.typeNames = typeNamesBuilder.build();
+        this.typesByName = ImmutableMap.copyOf(typesByNameBuilder);
+        this.directReferences = directReferencesBuilder.build();
+        this.dealiasingVisitor = DealiasingTypeVisitor.caching(typesByName);
+    }
+
+    public static DefinitionIndex of(ConjureDefinition definition) {
+        return new DefinitionIndex(definition);
+    }
+
+    public ConjureDefinition definition() {
+        return definition;
+    }
+
+    /** Names of every type definition, in declaration order, including duplicates. */
+    public List<TypeName> typeNames() {
+        return typeNames;
+    }
+
+    /**
+     * Type definitions by name. Should several types share a name, the first one is indexed;
+     * {@link ConjureDefinitionValidator#UNIQUE_NAMES} rejects such definitions.
+     */
+    public Map<TypeName, TypeDefinition> typesByName() {
+        return typesByName;
+    }
+
+    /**
+     * For every alias, the type it aliases, and for every object, the type of its first field of reference or
+     * primitive type, where those are references. Cycles in this graph are rejected by
+     * {@link ConjureDefinitionValidator#NO_RECURSIVE_TYPES}.
+     */
+    public SetMultimap<TypeName, TypeName> directReferences() {
+        return directReferences;
+    }
+
+    /** {@link DealiasingTypeVisitor#dealias(Type)}, with every reference resolved at most once per index. */
+    public Either<TypeDefinition, Type> dealias(Type type) {
+        return dealiasingVisitor.dealias(type);
+    }
+
+    private static final class DirectReferenceCollector implements TypeDefinition.Visitor<Void> {
+        private final TypeName typeName;
+        private final ImmutableSetMultimap.Builder<TypeName, TypeName> directReferences;
+
+        private DirectReferenceCollector(
+                TypeName typeName, ImmutableSetMultimap.Builder<TypeName, TypeName> directReferences) {
+            this.typeName = typeName;
+            this.directReferences = directReferences;
+        }
+
+        @Override
+        public Void visitAlias(AliasDefinition value) {
+            addIfReference(value.getAlias());
+            return null;
+        }
+
+        @Override
+        public Void visitObject(ObjectDefinition value) {
+            // Only the first field of reference or primitive type is followed, as NO_RECURSIVE_TYPES always has
+            for (FieldDefinition field : value.getFields()) {
+                Type type = field.getType();
+                if (type.accept(TypeVisitor.IS_REFERENCE) || type.accept(TypeVisitor.IS_PRIMITIVE)) {
+                    addIfReference(type);
+                    break;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Void visitEnum(EnumDefinition _value) {
+            return null;
+        }
+
+        @Override
+        public Void visitUnion(UnionDefinition _value) {
+            return null;
+        }
+
+        @Override
+        public Void visitUnknown(String _unknownType) {
+            return null;
+        }
+
+        private void addIfReference(Type type) {
+            if (type.accept(TypeVisitor.IS_REFERENCE)) {
+                directReferences.put(typeName, type.accept(TypeVisitor.REFERENCE));
+            }
+        }
+    }
+}
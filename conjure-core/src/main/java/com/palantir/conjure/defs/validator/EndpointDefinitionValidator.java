@@ -20,6 +20,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.palantir.conjure.CaseConverter;
+import com.palantir.conjure.HeaderPattern;
 import com.palantir.conjure.either.Either;
 import com.palantir.conjure.exceptions.ConjureRuntimeException;
 import com.palantir.conjure.spec.ArgumentDefinition;
@@ -209,7 +210,7 @@ public enum EndpointDefinitionValidator implements ConjureContextualValidator<En
                     });
 
             Set<ArgumentName> pathArgs =
-                    HttpPathValidator.pathArgs(definition.getHttpPath().get());
+                    HttpPathTemplate.of(definition.getHttpPath()).pathArgs();
             Set<ArgumentName> extraParams = Sets.difference(pathParamIds, pathArgs);
             Preconditions.checkState(
                     extraParams.isEmpty(),
@@ -420,11 +421,11 @@ public enum EndpointDefinitionValidator implements ConjureContextualValidator<En
                     ParameterId paramId =
                             paramType.accept(ParameterTypeVisitor.HEADER).getParamId();
                     Preconditions.checkState(
-                            HEADER_PATTERN.matcher(paramId.get()).matches(),
+                            HeaderPattern.INSTANCE.matches(paramId.get()),
                             "Header parameter id %s on endpoint %s must match pattern %s",
                             paramId.get(),
                             describe(definition),
-                            HEADER_PATTERN);
+                            HeaderPattern.INSTANCE.pattern());
 
                     Preconditions.checkState(
                             !PROTOCOL_HEADERS.contains(paramId.get()),
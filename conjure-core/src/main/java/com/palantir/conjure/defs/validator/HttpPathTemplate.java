@@ -0,0 +1,180 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.defs.validator;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.palantir.conjure.spec.ArgumentName;
+import com.palantir.conjure.spec.HttpPath;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An http path split into its segments by a single scan, which exposes the path parameters of the path without
+ * building a Jersey {@code UriTemplate}.
+ *
+ * <p>Segments are only recognised as path parameters when they consist of a single {@code {name}} or
+ * {@code {name:regex}} expression, which is the only form that {@link HttpPathValidator#validate} accepts.
+ */
+public final class HttpPathTemplate {
+    private static final String ROUTE_KEY_VARIABLE = "{arg}";
+
+    private final String path;
+    private final List<Segment> segments;
+    private final List<String> variableNames;
+    private final String routeKey;
+
+    private HttpPathTemplate(String path, List<Segment> segments, List<String> variableNames, String routeKey) {
+        this.path = path;
+        this.segments = segments;
+        this.variableNames = variableNames;
+        this.routeKey = routeKey;
+    }
+
+    public static HttpPathTemplate of(HttpPath httpPath) {
+        return parse(httpPath.get());
+    }
+
+    public static HttpPathTemplate parse(String path) {
+        ImmutableList.Builder<Segment> segments = ImmutableList.builder();
+        ImmutableList.Builder<String> variableNames = ImmutableList.builder();
+        StringBuilder routeKey = new StringBuilder(path.length());
+
+        int len = path.length();
+        int segmentStart = 0;
+        for (int i = 0; i <= len; i++) {
+            if (i < len && path.charAt(i) != '/') {
+                continue;
+            }
+            if (i > segmentStart) {
+                Segment segment = Segment.scan(path, segmentStart, i);
+                segments.add(segment);
+                if (segment.isVariable()) {
+                    variableNames.add(segment.variableName());
+                    routeKey.append(ROUTE_KEY_VARIABLE);
+                } else {
+                    routeKey.append(segment.text());
+                }
+            }
+            if (i < len) {
+                routeKey.append('/');
+            }
+            segmentStart = i + 1;
+        }
+
+        return new HttpPathTemplate(path, segments.build(), variableNames.build(), routeKey.toString());
+    }
+
+    /** The path this template was parsed from. */
+    public String path() {
+        return path;
+    }
+
+    /** The non-empty segments of the path, in order. */
+    public List<Segment> segments() {
+        return segments;
+    }
+
+    /** The names of all path parameters, in order of appearance and including duplicates. */
+    public List<String> variableNames() {
+        return variableNames;
+    }
+
+    public Set<ArgumentName> pathArgs() {
+        ImmutableSet.Builder<ArgumentName> pathArgs = ImmutableSet.builder();
+        variableNames.forEach(name -> pathArgs.add(ArgumentName.of(name)));
+        return pathArgs.build();
+    }
+
+    /**
+     * The path with every path parameter replaced by {@code {arg}}, e.g. {@code /foo/{arg}} for both
+     * {@code /foo/{bar}} and {@code /foo/{baz:.+}}. Paths cannot differ only in the name or regex of a path parameter,
+     * so two endpoints with the same method and route key conflict.
+     */
+    public String routeKey() {
+        return routeKey;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    /** A single segment of an http path: either a literal, or a path parameter with an optional regex. */
+    public static final class Segment {
+        private final String text;
+        private final Optional<String> variableName;
+        private final Optional<String> regex;
+
+        private Segment(String text, Optional<String> variableName, Optional<String> regex) {
+            this.text = text;
+            this.variableName = variableName;
+            this.regex = regex;
+        }
+
+        private static Segment scan(String path, int start, int end) {
+            String text = path.substring(start, end);
+            if (end - start < 2 || path.charAt(start) != '{' || path.charAt(end - 1) != '}') {
+                return new Segment(text, Optional.empty(), Optional.empty());
+            }
+
+            int colon = -1;
+            for (int i = start + 1; i < end - 1; i++) {
+                char curChar = path.charAt(i);
+                if (curChar == '{' || curChar == '}') {
+                    // Not a single expression, e.g. {{foo}}
+                    return new Segment(text, Optional.empty(), Optional.empty());
+                }
+                if (curChar == ':' && colon < 0) {
+                    colon = i;
+                }
+            }
+
+            return colon < 0
+                    ? new Segment(text, Optional.of(path.substring(start + 1, end - 1)), Optional.empty())
+                    : new Segment(
+                            text,
+                            Optional.of(path.substring(start + 1, colon)),
+                            Optional.of(path.substring(colon + 1, end - 1)));
+        }
+
+        /** The segment as written in the path, e.g. {@code foo} or {@code {bar:.+}}. */
+        public String text() {
+            return text;
+        }
+
+        public boolean isVariable() {
+            return variableName.isPresent();
+        }
+
+        /** The name of the path parameter. Only valid for {@link #isVariable() variable} segments. */
+        public String variableName() {
+            return variableName.orElseThrow();
+        }
+
+        /** The regex of the path parameter, e.g. {@code .+}, if the segment is a path parameter which declares one. */
+        public Optional<String> regex() {
+            return regex;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+}
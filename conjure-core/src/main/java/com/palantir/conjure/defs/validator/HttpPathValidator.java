@@ -17,93 +17,79 @@
 package com.palantir.conjure.defs.validator;
 
 import com.google.common.base.Preconditions;
-import com.google.common.base.Splitter;
+import com.palantir.conjure.PathParameterPattern;
+import com.palantir.conjure.PathSegmentPattern;
 import com.palantir.conjure.spec.ArgumentName;
 import com.palantir.conjure.spec.HttpPath;
 import com.palantir.util.syntacticpath.Path;
 import com.palantir.util.syntacticpath.Paths;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import org.glassfish.jersey.uri.UriTemplate;
-import org.glassfish.jersey.uri.internal.UriTemplateParser;
 
 public final class HttpPathValidator {
 
     private HttpPathValidator() {}
 
     public static final String PATTERN = "[a-z][a-z0-9]*([A-Z0-9][a-z0-9]+)*";
-    private static final Pattern SEGMENT_PATTERN = Pattern.compile("^[a-zA-Z][a-zA-Z0-9._-]*$");
-    private static final Pattern PARAM_SEGMENT_PATTERN = Pattern.compile("^\\{" + PATTERN + "}$");
-    private static final Pattern PARAM_REGEX_SEGMENT_PATTERN =
-            Pattern.compile("^\\{" + PATTERN + "(" + Pattern.quote(":.+") + "|" + Pattern.quote(":.*") + ")" + "}$");
 
     /**
      * returns path arguments of the http path.
      */
     public static Set<ArgumentName> pathArgs(String httpPath) {
-        UriTemplate uriTemplate = new UriTemplate(httpPath);
-        return uriTemplate.getTemplateVariables().stream().map(ArgumentName::of).collect(Collectors.toSet());
+        return HttpPathTemplate.parse(httpPath).pathArgs();
     }
 
     /** validates if a new instance has the correct syntax. */
     public static void validate(HttpPath httpPath) {
-        Path path = Paths.get(httpPath.get());
+        validate(HttpPathTemplate.of(httpPath));
+    }
+
+    /** validates if a new instance has the correct syntax. */
+    public static void validate(HttpPathTemplate template) {
+        Path path = Paths.get(template.path());
         Preconditions.checkArgument(
                 path.isAbsolute(), "Conjure paths must be absolute, i.e., start with '/': %s", path);
         Preconditions.checkArgument(
                 path.getSegments().isEmpty() || !path.isFolder(), "Conjure paths must not end with a '/': %s", path);
 
-        for (String segment : path.getSegments()) {
+        List<HttpPathTemplate.Segment> segments = template.segments();
+        for (HttpPathTemplate.Segment segment : segments) {
             Preconditions.checkArgument(
-                    SEGMENT_PATTERN.matcher(segment).matches()
-                            || PARAM_SEGMENT_PATTERN.matcher(segment).matches()
-                            || PARAM_REGEX_SEGMENT_PATTERN.matcher(segment).matches(),
+                    PathSegmentPattern.INSTANCE.matches(segment.text())
+                            || PathParameterPattern.PLAIN.matches(segment.text())
+                            || PathParameterPattern.WITH_REGEX.matches(segment.text()),
                     "Segment %s of path %s did not match required segment patterns %s or parameter name "
                             + "patterns %s or %s",
                     segment,
                     path,
-                    SEGMENT_PATTERN,
-                    PARAM_SEGMENT_PATTERN,
-                    PARAM_REGEX_SEGMENT_PATTERN);
+                    PathSegmentPattern.INSTANCE.pattern(),
+                    PathParameterPattern.PLAIN.pattern(),
+                    PathParameterPattern.WITH_REGEX.pattern());
         }
 
         // verify that path template variables are unique
         Set<String> templateVars = new HashSet<>();
-        new UriTemplate(path.toString()).getTemplateVariables().forEach(var -> {
+        template.variableNames().forEach(var -> {
             Preconditions.checkState(
-                    !templateVars.contains(var), "Path parameter %s appears more than once in path %s", var, path);
-            templateVars.add(var);
+                    templateVars.add(var), "Path parameter %s appears more than once in path %s", var, path);
         });
 
-        UriTemplateParser uriTemplateParser = new UriTemplateParser(path.toString());
-        Map<String, Pattern> nameToPattern = uriTemplateParser.getNameToPattern();
-        List<String> segments = Splitter.on('/').splitToList(uriTemplateParser.getNormalizedTemplate());
         for (int i = 0; i < segments.size(); i++) {
-            String segment = segments.get(i);
-            if (!(segment.startsWith("{") && segment.endsWith("}"))) {
-                // path literal
-                continue;
-            }
-
-            // variable
-            Pattern varPattern = nameToPattern.get(segment.substring(1, segment.length() - 1));
-            if (varPattern.equals(UriTemplateParser.TEMPLATE_VALUE_PATTERN)) {
-                // no regular expression specified -- OK
+            HttpPathTemplate.Segment segment = segments.get(i);
+            if (!segment.isVariable() || segment.regex().isEmpty()) {
+                // path literal, or no regular expression specified -- OK
                 continue;
             }
 
             // if regular expression was specified, it must be ".+" or ".*" based on invariant previously enforced
             Preconditions.checkState(
-                    i == segments.size() - 1 || !varPattern.pattern().equals(".*"),
+                    i == segments.size() - 1 || !segment.regex().get().equals(".*"),
                     "Path parameter %s in path %s specifies regular expression %s, but this regular "
                             + "expression is only permitted if the path parameter is the last segment",
-                    segment,
+                    "{" + segment.variableName() + "}",
                     path,
-                    varPattern);
+                    segment.regex().get());
         }
     }
 
@@ -0,0 +1,210 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.defs.validator;
+
+import com.palantir.conjure.exceptions.ConjureIllegalStateException;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.EndpointDefinition;
+import com.palantir.conjure.spec.ServiceDefinition;
+import com.palantir.conjure.spec.TypeName;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Rejects endpoints of different services whose routes overlap, i.e. which share an http method and could both match
+ * the same request path, so that the services can be deployed behind a single gateway. Conflicts between endpoints of
+ * the same service are left to {@link ServiceDefinitionValidator}, as servers route those to the endpoint with the
+ * longest literal prefix.
+ *
+ * <p>Not part of {@link ConjureDefinitionValidator#validateAll}; enabled through
+ * {@link com.palantir.conjure.defs.ConjureArgs#validateRouteConflicts()}.
+ *
+ * <p>Every endpoint is inserted into a segment trie per http method, in which a path parameter matches any single
+ * segment and a trailing {@code {name:.+}} or {@code {name:.*}} parameter matches any remainder of the path. The tries
+ * are then walked once, pairing up nodes which are reachable by the same request path, so that only routes which
+ * actually overlap are ever compared. A {@code {name:.+}} parameter which is not the last segment is treated like a
+ * plain parameter.
+ */
+@com.google.errorprone.annotations.Immutable
+public enum RouteConflictValidator implements ConjureValidator<ConjureDefinition> {
+    INSTANCE;
+
+    @Override
+    public void validate(ConjureDefinition definition) {
+        Map<String, Node> tries = new HashMap<>();
+        for (ServiceDefinition service : definition.getServices()) {
+            for (EndpointDefinition endpoint : service.getEndpoints()) {
+                Route route = new Route(service, endpoint);
+                tries.computeIfAbsent(route.method, _method -> new Node()).insert(route);
+            }
+        }
+
+        Set<String> conflicts = new TreeSet<>();
+        tries.values().forEach(root -> visit(root, root, conflicts));
+        if (!conflicts.isEmpty()) {
+            throw new ConjureIllegalStateException(conflicts.stream()
+                    .collect(Collectors.joining(
+                            "\n - ", "Endpoints of different services have overlapping routes:\n - ", "")));
+        }
+    }
+
+    /** Records conflicts between routes of two nodes which are reachable by the same request path. */
+    private static void visit(Node left, Node right, Set<String> conflicts) {
+        // Routes which end here match the same path, and trailing {name:.*} parameters match the empty remainder
+        addConflicts(left.terminal, right.terminal, conflicts);
+        addConflicts(left.greedyZeroOrMore, right.terminal, conflicts);
+        addConflicts(left.terminal, right.greedyZeroOrMore, conflicts);
+        if (left.hasGreedy() || right.hasGreedy()) {
+            addConflicts(left.greedy(), right.greedy(), conflicts);
+            addConflicts(left.greedy(), right.below(), conflicts);
+            addConflicts(left.below(), right.greedy(), conflicts);
+        }
+
+        if (left == right) {
+            left.literals.values().forEach(child -> visit(child, child, conflicts));
+            if (left.parameter != null) {
+                visit(left.parameter, left.parameter, conflicts);
+                left.literals.values().forEach(child -> visit(child, left.parameter, conflicts));
+            }
+            return;
+        }
+
+        left.literals.forEach((segment, leftChild) -> {
+            Node rightChild = right.literals.get(segment);
+            if (rightChild != null) {
+                visit(leftChild, rightChild, conflicts);
+            }
+            if (right.parameter != null) {
+                visit(leftChild, right.parameter, conflicts);
+            }
+        });
+        if (left.parameter != null) {
+            right.literals.values().forEach(rightChild -> visit(left.parameter, rightChild, conflicts));
+            if (right.parameter != null) {
+                visit(left.parameter, right.parameter, conflicts);
+            }
+        }
+    }
+
+    private static void addConflicts(List<Route> left, List<Route> right, Set<String> conflicts) {
+        for (Route leftRoute : left) {
+            for (Route rightRoute : right) {
+                if (!leftRoute.service.equals(rightRoute.service)) {
+                    conflicts.add(
+                            leftRoute.compareTo(rightRoute) < 0
+                                    ? leftRoute + " and " + rightRoute
+                                    : rightRoute + " and " + leftRoute);
+                }
+            }
+        }
+    }
+
+    private static final class Route implements Comparable<Route> {
+        private final TypeName service;
+        private final String method;
+        private final String description;
+        private final HttpPathTemplate template;
+
+        private Route(ServiceDefinition service, EndpointDefinition endpoint) {
+            // Services are identified by package and name, as services of different packages may share a name
+            this.service = service.getServiceName();
+            this.method = endpoint.getHttpMethod().toString();
+            this.template = HttpPathTemplate.of(endpoint.getHttpPath());
+            this.description = method + " " + template.path() + " (" + this.service.getPackage() + "."
+                    + this.service.getName() + "." + endpoint.getEndpointName().get() + ")";
+        }
+
+        @Override
+        public int compareTo(Route other) {
+            return description.compareTo(other.description);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node parameter;
+        // Routes whose path ends at this node
+        private final List<Route> terminal = new ArrayList<>();
+        // Routes whose path continues from this node with a trailing {name:.+} or {name:.*} parameter
+        private final List<Route> greedyOneOrMore = new ArrayList<>();
+        private final List<Route> greedyZeroOrMore = new ArrayList<>();
+        // Routes which match at least one further segment from this node, computed on demand
+        private List<Route> below;
+
+        void insert(Route route) {
+            List<HttpPathTemplate.Segment> segments = route.template.segments();
+            Node node = this;
+            for (int i = 0; i < segments.size(); i++) {
+                HttpPathTemplate.Segment segment = segments.get(i);
+                boolean isLast = i == segments.size() - 1;
+                if (isLast && segment.regex().isPresent()) {
+                    (segment.regex().get().equals(".*") ? node.greedyZeroOrMore : node.greedyOneOrMore).add(route);
+                    return;
+                }
+                if (segment.isVariable()) {
+                    if (node.parameter == null) {
+                        node.parameter = new Node();
+                    }
+                    node = node.parameter;
+                } else {
+                    node = node.literals.computeIfAbsent(segment.text(), _segment -> new Node());
+                }
+            }
+            node.terminal.add(route);
+        }
+
+        boolean hasGreedy() {
+            return !greedyOneOrMore.isEmpty() || !greedyZeroOrMore.isEmpty();
+        }
+
+        List<Route> greedy() {
+            List<Route> greedy = new ArrayList<>(greedyOneOrMore.size() + greedyZeroOrMore.size());
+            greedy.addAll(greedyOneOrMore);
+            greedy.addAll(greedyZeroOrMore);
+            return greedy;
+        }
+
+        List<Route> below() {
+            if (below == null) {
+                List<Route> routes = new ArrayList<>();
+                literals.values().forEach(child -> child.collectAll(routes));
+                if (parameter != null) {
+                    parameter.collectAll(routes);
+                }
+                below = routes;
+            }
+            return below;
+        }
+
+        private void collectAll(List<Route> routes) {
+            routes.addAll(terminal);
+            routes.addAll(greedyOneOrMore);
+            routes.addAll(greedyZeroOrMore);
+            routes.addAll(below());
+        }
+    }
+}
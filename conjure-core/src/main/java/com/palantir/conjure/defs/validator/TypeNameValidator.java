@@ -18,27 +18,25 @@ package com.palantir.conjure.defs.validator;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.palantir.conjure.UpperCamelCasePattern;
 import com.palantir.conjure.spec.PrimitiveType;
 import com.palantir.conjure.spec.TypeName;
 import java.util.List;
-import java.util.regex.Pattern;
 
 public final class TypeNameValidator {
 
     private TypeNameValidator() {}
 
-    private static final Pattern CUSTOM_TYPE_PATTERN = Pattern.compile("^[A-Z][a-z0-9]+([A-Z][a-z0-9]+)*$");
-
     static final List<String> PRIMITIVE_TYPES =
             Lists.transform(java.util.Arrays.asList(PrimitiveType.Value.values()), PrimitiveType.Value::name);
 
     public static void validate(TypeName typeName) {
         Preconditions.checkArgument(
-                CUSTOM_TYPE_PATTERN.matcher(typeName.getName()).matches()
+                UpperCamelCasePattern.INSTANCE.matches(typeName.getName())
                         || PRIMITIVE_TYPES.contains(typeName.getName()),
                 "TypeNames must be a primitive type %s or match pattern %s: %s",
                 PRIMITIVE_TYPES,
-                CUSTOM_TYPE_PATTERN,
+                UpperCamelCasePattern.INSTANCE.pattern(),
                 typeName.getName());
     }
 }
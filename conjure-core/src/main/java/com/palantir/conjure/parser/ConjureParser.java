@@ -19,13 +19,19 @@ package com.palantir.conjure.parser;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.AnnotationIntrospector;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.palantir.conjure.defs.CompilationListener;
+import com.palantir.conjure.defs.CompilationMeasurement;
 import com.palantir.conjure.exceptions.ConjureRuntimeException;
+import com.palantir.conjure.parser.types.TypeExpressionCache;
 import com.palantir.conjure.parser.types.TypesDefinition;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalStateException;
 import com.palantir.logsafe.exceptions.SafeUncheckedIoException;
 import java.io.File;
@@ -33,12 +39,18 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 public final class ConjureParser {
@@ -72,7 +84,15 @@ public final class ConjureParser {
 
     /** Deserializes a {@link ConjureSourceFile} from its YAML representation in the given file. */
     public static ConjureSourceFile parse(File file) {
-        CachingParser parser = new CachingParser();
+        return parse(file, new ConjureSourceFileCache());
+    }
+
+    /**
+     * Deserializes a {@link ConjureSourceFile} as {@link #parse(File)} does, reusing it from {@code cache} if the file
+     * has not changed since it was parsed, and adding it to {@code cache} otherwise.
+     */
+    public static ConjureSourceFile parse(File file, ConjureSourceFileCache cache) {
+        CachingParser parser = new CachingParser(cache, CompilationListener.NO_OP);
         return parser.parse(file);
     }
 
@@ -87,20 +107,55 @@ public final class ConjureParser {
      * Parse all files {@literal &} imports (breadth-first).
      */
     public static Map<String, AnnotatedConjureSourceFile> parseAnnotated(Collection<File> files) {
-        CachingParser parser = new CachingParser();
+        return parseAnnotated(files, 1);
+    }
 
+    /**
+     * Parse all files {@literal &} imports (breadth-first), parsing the files of each wave of the import frontier
+     * concurrently on up to {@code parallelism} threads.
+     *
+     * <p>Files are parsed in the same breadth-first order as {@link #parseAnnotated(Collection)}, so the result and
+     * any {@link ImportNotFoundException} thrown are identical to those of the sequential variant.
+     */
+    public static Map<String, AnnotatedConjureSourceFile> parseAnnotated(Collection<File> files, int parallelism) {
+        return parseAnnotated(files, parallelism, new ConjureSourceFileCache());
+    }
+
+    /**
+     * Parse all files {@literal &} imports (breadth-first) on up to {@code parallelism} threads, reusing any files
+     * in {@code cache} which have not changed since they were parsed, and adding newly parsed files to it.
+     */
+    public static Map<String, AnnotatedConjureSourceFile> parseAnnotated(
+            Collection<File> files, int parallelism, ConjureSourceFileCache cache) {
+        return parseAnnotated(files, parallelism, cache, CompilationListener.NO_OP);
+    }
+
+    /**
+     * Parse all files {@literal &} imports (breadth-first) on up to {@code parallelism} threads as
+     * {@link #parseAnnotated(Collection, int, ConjureSourceFileCache)} does, reporting the time spent on each file to
+     * {@code listener}.
+     */
+    public static Map<String, AnnotatedConjureSourceFile> parseAnnotated(
+            Collection<File> files, int parallelism, ConjureSourceFileCache cache, CompilationListener listener) {
+        Preconditions.checkArgument(
+                parallelism > 0, "Parallelism must be positive", SafeArg.of("parallelism", parallelism));
+        CachingParser parser = new CachingParser(cache, listener);
+        Map<String, AnnotatedConjureSourceFile> parsed = parallelism == 1
+                ? parseSequentially(files, parser)
+                : parseConcurrently(files, parallelism, parser);
+        listener.typeExpressionsParsed(parser.typeExpressionCache.hitCount(), parser.typeExpressionCache.missCount());
+        return parsed;
+    }
+
+    private static Map<String, AnnotatedConjureSourceFile> parseSequentially(
+            Collection<File> files, CachingParser parser) {
         Map<String, AnnotatedConjureSourceFile> parsed = new HashMap<>();
         Queue<FileWithProvenance> toProcess =
                 new ArrayDeque<>(files.stream().map(FileWithProvenance::of).collect(Collectors.toList()));
 
         while (!toProcess.isEmpty()) {
             FileWithProvenance nextFileWithProvenance = toProcess.poll();
-            File nextFile;
-            try {
-                nextFile = nextFileWithProvenance.file().getCanonicalFile();
-            } catch (IOException e) {
-                throw new SafeUncheckedIoException("Couldn't canonicalize file path", e);
-            }
+            File nextFile = canonicalize(nextFileWithProvenance.file());
             String key = nextFile.getAbsolutePath();
 
             if (!parsed.containsKey(key)) {
@@ -118,6 +173,78 @@ public final class ConjureParser {
         return parsed;
     }
 
+    private static Map<String, AnnotatedConjureSourceFile> parseConcurrently(
+            Collection<File> files, int parallelism, CachingParser parser) {
+        Map<String, AnnotatedConjureSourceFile> parsed = new HashMap<>();
+        List<FileWithProvenance> wave = files.stream().map(FileWithProvenance::of).collect(Collectors.toList());
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            while (!wave.isEmpty()) {
+                // Canonicalize and de-duplicate in queue order, so the first provenance of a file wins just as it
+                // does when the queue is drained sequentially
+                Map<String, FileWithProvenance> toProcess = new LinkedHashMap<>();
+                for (FileWithProvenance fileWithProvenance : wave) {
+                    File file = canonicalize(fileWithProvenance.file());
+                    String key = file.getAbsolutePath();
+                    if (!parsed.containsKey(key) && !toProcess.containsKey(key)) {
+                        toProcess.put(key, ImmutableFileWithProvenance.copyOf(fileWithProvenance).withFile(file));
+                    }
+                }
+
+                List<Future<AnnotatedConjureSourceFile>> futures = new ArrayList<>(toProcess.size());
+                for (FileWithProvenance fileWithProvenance : toProcess.values()) {
+                    futures.add(pool.submit(() -> parseSingleFile(
+                            parser, fileWithProvenance.file(), fileWithProvenance.importedFrom())));
+                }
+
+                // Collect in submission order, so the first failure in breadth-first order is the one reported
+                List<FileWithProvenance> nextWave = new ArrayList<>();
+                for (Future<AnnotatedConjureSourceFile> future : futures) {
+                    AnnotatedConjureSourceFile annotatedConjureSourceFile = await(future);
+                    File sourceFile = annotatedConjureSourceFile.sourceFile();
+                    parsed.put(sourceFile.getAbsolutePath(), annotatedConjureSourceFile);
+
+                    // Add all imports as files to be parsed in the next wave
+                    annotatedConjureSourceFile.importProviders().values().stream()
+                            .map(File::new)
+                            .forEach(file -> nextWave.add(FileWithProvenance.of(file, sourceFile)));
+                }
+                wave = nextWave;
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return parsed;
+    }
+
+    private static File canonicalize(File file) {
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            throw new SafeUncheckedIoException("Couldn't canonicalize file path", e);
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SafeIllegalStateException("Interrupted while parsing conjure files", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new SafeIllegalStateException("Failed to parse conjure file", cause);
+        }
+    }
+
     private static AnnotatedConjureSourceFile parseSingleFile(
             CachingParser parser, File file, Optional<File> importedFrom) {
         ConjureSourceFile parsed = parser.parse(file, importedFrom);
@@ -138,11 +265,17 @@ public final class ConjureParser {
     }
 
     private static final class CachingParser {
-        // From absolute path to the parsed file
-        private final Map<String, ConjureSourceFile> cache;
+        private final ConjureSourceFileCache cache;
+        private final CompilationListener listener;
+        // Shared by all files parsed in one compilation, but not across compilations like the parsed files are
+        private final TypeExpressionCache typeExpressionCache = new TypeExpressionCache();
+        private final ObjectReader reader;
 
-        private CachingParser() {
-            this.cache = new HashMap<>();
+        private CachingParser(ConjureSourceFileCache cache, CompilationListener listener) {
+            this.cache = cache;
+            this.listener = listener;
+            this.reader = MAPPER.readerFor(ConjureSourceFile.class)
+                    .withAttribute(TypeExpressionCache.class, typeExpressionCache);
         }
 
         ConjureSourceFile parse(File file) {
@@ -152,16 +285,17 @@ public final class ConjureParser {
         ConjureSourceFile parse(File file, Optional<File> importedFrom) {
             // HashMap.computeIfAbsent does not work with recursion; the size of the map gets corrupted,
             // and if the map gets resized during the recursion, some of the new nodes can be put in wrong
-            // buckets. Therefore don't use computeIfAbsent in parse/parseInternal
+            // buckets. ConcurrentHashMap.computeIfAbsent instead throws or deadlocks on recursive updates, and
+            // holds a bin lock for the duration of the parse. Therefore don't use computeIfAbsent in
+            // parse/parseInternal; a racing duplicate parse is harmless, and the first result stored wins.
             // See https://bugs.java.com/view_bug.do?bug_id=JDK-8071667
-            ConjureSourceFile result = cache.get(file.getAbsolutePath());
-            if (result != null) {
-                return result;
-            }
-
-            result = parseInternal(file, importedFrom);
-            cache.put(file.getAbsolutePath(), result);
-            return result;
+            // The stamp is taken before reading the file, so a concurrent modification invalidates the entry.
+            CompilationMeasurement.Timer timer = CompilationMeasurement.start(listener);
+            ConjureSourceFileCache.FileStamp stamp = ConjureSourceFileCache.FileStamp.of(file);
+            ConjureSourceFile parsed = cache.get(file, stamp)
+                    .orElseGet(() -> cache.put(file, stamp, parseInternal(file, importedFrom)));
+            listener.fileParsed(file, timer.stop());
+            return parsed;
         }
 
         private ConjureSourceFile parseInternal(File file, Optional<File> importedFrom) {
@@ -170,7 +304,7 @@ public final class ConjureParser {
             }
 
             try {
-                ConjureSourceFile definition = MAPPER.readValue(file, ConjureSourceFile.class);
+                ConjureSourceFile definition = reader.readValue(file);
 
                 // For ease of book-keeping, resolve the import paths here
                 Path baseDir = file.toPath().getParent();
@@ -0,0 +1,99 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.parser;
+
+import java.io.File;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe cache of parsed {@link ConjureSourceFile}s, keyed by absolute path. A cache may be shared between
+ * compilations, e.g. by a long-lived compiler process; an entry is only reused while the last-modified time and size
+ * of its file are unchanged.
+ */
+public final class ConjureSourceFileCache {
+    private final ConcurrentMap<String, CachedFile> cache = new ConcurrentHashMap<>();
+
+    /** Number of parsed files currently held by this cache. */
+    public int size() {
+        return cache.size();
+    }
+
+    /** Drops all parsed files from this cache. */
+    public void clear() {
+        cache.clear();
+    }
+
+    Optional<ConjureSourceFile> get(File file, FileStamp stamp) {
+        CachedFile cached = cache.get(file.getAbsolutePath());
+        if (cached == null || !cached.stamp.equals(stamp)) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.parsed);
+    }
+
+    /**
+     * Stores the result of parsing {@code file} when it had the given stamp, unless an entry for the same stamp was
+     * stored concurrently, and returns the entry that is now cached.
+     */
+    ConjureSourceFile put(File file, FileStamp stamp, ConjureSourceFile parsed) {
+        return cache.compute(
+                        file.getAbsolutePath(),
+                        (_path, existing) -> existing != null && existing.stamp.equals(stamp)
+                                ? existing
+                                : new CachedFile(stamp, parsed))
+                .parsed;
+    }
+
+    /** The attributes of a file which, if unchanged, indicate that its content is unchanged. */
+    static final class FileStamp {
+        private final long lastModified;
+        private final long length;
+
+        private FileStamp(long lastModified, long length) {
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        static FileStamp of(File file) {
+            return new FileStamp(file.lastModified(), file.length());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof FileStamp otherStamp
+                    && lastModified == otherStamp.lastModified
+                    && length == otherStamp.length;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(lastModified) * 31 + Long.hashCode(length);
+        }
+    }
+
+    private static final class CachedFile {
+        private final FileStamp stamp;
+        private final ConjureSourceFile parsed;
+
+        private CachedFile(FileStamp stamp, ConjureSourceFile parsed) {
+            this.stamp = stamp;
+            this.parsed = parsed;
+        }
+    }
+}
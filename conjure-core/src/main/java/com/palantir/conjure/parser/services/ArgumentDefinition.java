@@ -27,6 +27,7 @@ import com.palantir.conjure.defs.ConjureImmutablesStyle;
 import com.palantir.conjure.parser.LogSafetyDefinition;
 import com.palantir.conjure.parser.services.ArgumentDefinition.ArgumentDefinitionDeserializer;
 import com.palantir.conjure.parser.types.ConjureType;
+import com.palantir.conjure.parser.types.TypeExpressionCache;
 import com.palantir.parsec.ParseException;
 import java.io.IOException;
 import java.util.Locale;
@@ -104,13 +105,13 @@ public interface ArgumentDefinition {
     final class ArgumentDefinitionDeserializer extends JsonDeserializer<ArgumentDefinition> {
         @SuppressWarnings("deprecation")
         @Override
-        public ArgumentDefinition deserialize(JsonParser parser, DeserializationContext _context)
+        public ArgumentDefinition deserialize(JsonParser parser, DeserializationContext context)
                 throws IOException, JsonProcessingException {
 
             String candidate = parser.getValueAsString();
             if (candidate != null) {
                 try {
-                    return of(ConjureType.fromString(candidate));
+                    return of(TypeExpressionCache.parse(context, candidate));
                 } catch (ParseException e) {
                     throw new RuntimeException(e);
                 }
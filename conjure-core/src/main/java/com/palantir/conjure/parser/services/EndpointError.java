@@ -16,14 +16,21 @@
 
 package com.palantir.conjure.parser.services;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.palantir.conjure.defs.ConjureImmutablesStyle;
+import com.palantir.conjure.parser.services.EndpointError.EndpointErrorDeserializer;
 import com.palantir.conjure.parser.services.ImmutableEndpointError.Json;
 import com.palantir.conjure.parser.types.ConjureType;
+import com.palantir.conjure.parser.types.TypeExpressionCache;
 import com.palantir.parsec.ParseException;
+import java.io.IOException;
 import java.util.Optional;
 import org.immutables.value.Value;
 
+@JsonDeserialize(using = EndpointErrorDeserializer.class)
 @Value.Immutable
 @ConjureImmutablesStyle
 public interface EndpointError {
@@ -35,17 +42,44 @@ public interface EndpointError {
         return ImmutableEndpointError.builder().error(errorName).build();
     }
 
-    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    /** Parses an error declared by its type expression alone. */
     static EndpointError fromString(String error) {
         try {
-            return EndpointError.of(ConjureType.fromString(error));
+            return fromString(error, Optional.empty());
         } catch (ParseException e) {
             throw new RuntimeException(e);
         }
     }
 
-    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
     static EndpointError fromJson(Json json) {
         return ImmutableEndpointError.fromJson(json);
     }
+
+    /** Parses {@code error} with the {@link TypeExpressionCache} of {@code context}, if any. */
+    private static EndpointError fromString(String error, Optional<DeserializationContext> context)
+            throws ParseException {
+        return of(
+                context.isPresent()
+                        ? TypeExpressionCache.parse(context.get(), error)
+                        : ConjureType.fromString(error));
+    }
+
+    // solve Jackson sad-times for multiple parser
+    final class EndpointErrorDeserializer extends JsonDeserializer<EndpointError> {
+        @SuppressWarnings("deprecation")
+        @Override
+        public EndpointError deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+
+            String candidate = parser.getValueAsString();
+            if (candidate != null) {
+                try {
+                    return fromString(candidate, Optional.of(context));
+                } catch (ParseException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            return fromJson(parser.readValueAs(Json.class));
+        }
+    }
 }
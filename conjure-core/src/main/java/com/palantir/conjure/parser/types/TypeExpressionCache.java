@@ -0,0 +1,81 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.parser.types;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.parsec.ParseException;
+
+/**
+ * Bounded, thread-safe cache from type expressions such as {@code optional<string>} to their parsed
+ * {@link ConjureType}, which are immutable and can therefore be shared between all fields, arguments and errors
+ * declaring the same type. A cache is meant to live for a single compilation, since the same few expressions make up
+ * most of the types declared across an API.
+ *
+ * <p>When parsing source files, the cache is handed to the deserializers of type expressions as the
+ * {@link DeserializationContext} attribute keyed by this class.
+ */
+public final class TypeExpressionCache {
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Cache<String, ConjureType> cache;
+
+    public TypeExpressionCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public TypeExpressionCache(int maximumSize) {
+        Preconditions.checkArgument(
+                maximumSize > 0, "Maximum size must be positive", SafeArg.of("maximumSize", maximumSize));
+        this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+
+    /** Parses the given type expression, or returns the type parsed from an identical expression before. */
+    public ConjureType parse(String expression) throws ParseException {
+        ConjureType type = cache.getIfPresent(expression);
+        if (type == null) {
+            // A racing duplicate parse is harmless, as both results are equal
+            type = TypeExpressionParser.parse(expression);
+            cache.put(expression, type);
+        }
+        return type;
+    }
+
+    /** Number of expressions answered from this cache. */
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /** Number of expressions which had to be parsed, including those which failed to parse. */
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * Parses the given type expression using the cache registered with {@code context}, if any, as
+     * {@link ConjureType#fromString} otherwise.
+     */
+    public static ConjureType parse(DeserializationContext context, String expression) throws ParseException {
+        Object cache = context.getAttribute(TypeExpressionCache.class);
+        if (cache instanceof TypeExpressionCache typeExpressionCache) {
+            return typeExpressionCache.parse(expression);
+        }
+        return ConjureType.fromString(expression);
+    }
+}
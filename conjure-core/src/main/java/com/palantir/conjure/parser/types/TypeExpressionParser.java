@@ -0,0 +1,302 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.parser.types;
+
+import com.palantir.conjure.parser.types.builtin.AnyType;
+import com.palantir.conjure.parser.types.builtin.BinaryType;
+import com.palantir.conjure.parser.types.builtin.DateTimeType;
+import com.palantir.conjure.parser.types.collect.ListType;
+import com.palantir.conjure.parser.types.collect.MapType;
+import com.palantir.conjure.parser.types.collect.OptionalType;
+import com.palantir.conjure.parser.types.collect.SetType;
+import com.palantir.conjure.parser.types.names.Namespace;
+import com.palantir.conjure.parser.types.names.TypeName;
+import com.palantir.conjure.parser.types.reference.ForeignReferenceType;
+import com.palantir.conjure.parser.types.reference.LocalReferenceType;
+import com.palantir.parsec.ParseException;
+import com.palantir.parsec.ParserState;
+import com.palantir.parsec.StringParserState;
+import java.util.function.Function;
+
+/**
+ * Predictive recursive-descent parser for type expressions such as {@code map<string, list<imported.Foo>>}, which
+ * accepts the same grammar and reports the same errors as {@link TypeParser}.
+ *
+ * <p>Rather than trying every alternative in turn, the parser dispatches on the leading character to the one keyword
+ * which can match there, and scans names as index ranges over the input; parser states are only created to report
+ * errors. Where an alternative fails, the remaining ones are still tried in the order of {@link TypeParser}, so that
+ * the first error in that order is the one reported.
+ */
+public final class TypeExpressionParser {
+    private static final int EOF = -1;
+
+    private final CharSequence input;
+    private int position;
+
+    private TypeExpressionParser(CharSequence input) {
+        this.input = input;
+    }
+
+    /** Parses the whole of {@code input} as a single type expression. */
+    public static ConjureType parse(CharSequence input) throws ParseException {
+        TypeExpressionParser parser = new TypeExpressionParser(input);
+        ConjureType type = parser.parseType();
+        if (type == null || parser.position != input.length()) {
+            throw new ParseException("Couldn't fully parse input", parser.stateAt(parser.position));
+        }
+        return type;
+    }
+
+    /**
+     * Parses a type starting at the current position. Returns null without consuming any input if no alternative
+     * matches, and otherwise throws the error of the first alternative which failed.
+     */
+    private ConjureType parseType() throws ParseException {
+        int start = position;
+        Exception failure = null;
+
+        switch (charAt(start)) {
+            case 'm':
+                if (consume("map")) {
+                    try {
+                        return parseMap();
+                    } catch (ParseException e) {
+                        failure = e;
+                        position = start;
+                    }
+                }
+                break;
+            case 'l':
+                if (consume("list")) {
+                    try {
+                        return parseCollection("list", ListType::of);
+                    } catch (ParseException e) {
+                        failure = e;
+                        position = start;
+                    }
+                }
+                break;
+            case 's':
+                if (consume("set")) {
+                    try {
+                        return parseCollection("set", SetType::of);
+                    } catch (ParseException e) {
+                        failure = e;
+                        position = start;
+                    }
+                }
+                break;
+            case 'o':
+                if (consume("optional")) {
+                    try {
+                        // TypeParser describes optional types as "list" in its errors
+                        return parseCollection("list", OptionalType::of);
+                    } catch (ParseException e) {
+                        failure = e;
+                        position = start;
+                    }
+                }
+                break;
+            case 'a':
+                if (consume("any")) {
+                    return AnyType.of();
+                }
+                break;
+            case 'b':
+                if (consume("binary")) {
+                    return BinaryType.of();
+                }
+                break;
+            case 'd':
+                if (consume("datetime")) {
+                    return DateTimeType.of();
+                }
+                break;
+            default:
+                break;
+        }
+
+        // Foreign reference, i.e. namespace "." name
+        int namespaceEnd = scanNamespace(start);
+        if (charAt(namespaceEnd) == '.') {
+            int nameEnd = scanIdentifier(namespaceEnd + 1);
+            try {
+                ForeignReferenceType type = ForeignReferenceType.of(
+                        Namespace.of(substringOrNull(start, namespaceEnd)),
+                        TypeName.of(substringOrNull(namespaceEnd + 1, nameEnd)));
+                position = nameEnd;
+                return type;
+            } catch (RuntimeException e) {
+                failure = addFailure(failure, e);
+            }
+        }
+
+        // Local reference, including primitive types
+        int nameEnd = scanIdentifier(start);
+        if (nameEnd > start) {
+            try {
+                LocalReferenceType type = LocalReferenceType.of(TypeName.of(substringOrNull(start, nameEnd)));
+                position = nameEnd;
+                return type;
+            } catch (RuntimeException e) {
+                failure = addFailure(failure, e);
+            }
+        }
+
+        if (failure == null) {
+            return null;
+        }
+        if (failure instanceof ParseException parseException) {
+            throw parseException;
+        }
+        throw new ParseException(failure.getMessage(), stateAt(start), failure);
+    }
+
+    private ConjureType parseCollection(String description, Function<ConjureType, ConjureType> factory)
+            throws ParseException {
+        expectStart(description);
+        skipWhitespace();
+        int itemStart = position;
+        ConjureType itemType = parseType();
+        if (itemType == null) {
+            throw new ParseException("Didn't match conjureType inside of " + description, stateAt(itemStart));
+        }
+        expectEnd(description);
+        return factory.apply(itemType);
+    }
+
+    private MapType parseMap() throws ParseException {
+        expectStart("map");
+        skipWhitespace();
+        int keyStart = position;
+        ConjureType keyType = parseType();
+        if (keyType == null) {
+            throw new ParseException(
+                    "Didn't match conjureType \",\" conjureType inside of map", stateAt(keyStart));
+        }
+
+        int keyEnd = position;
+        skipWhitespace();
+        if (charAt(position) != ',') {
+            throw new ParseException("Missing separator \",\"", stateAt(keyEnd));
+        }
+        position++;
+
+        int separatorEnd = position;
+        skipWhitespace();
+        ConjureType valueType = parseType();
+        if (valueType == null) {
+            throw new ParseException(
+                    "Found key '" + keyType + "' without associated value.", stateAt(separatorEnd));
+        }
+
+        expectEnd("map");
+        return MapType.of(keyType, valueType);
+    }
+
+    private void expectStart(String description) throws ParseException {
+        int keywordEnd = position;
+        skipWhitespace();
+        if (charAt(position) != '<') {
+            throw new ParseException("Expected start token \"<\" for " + description, stateAt(keywordEnd));
+        }
+        position++;
+    }
+
+    private void expectEnd(String description) throws ParseException {
+        int itemEnd = position;
+        skipWhitespace();
+        if (charAt(position) != '>') {
+            throw new ParseException("Expected end token \">\" for " + description, stateAt(itemEnd));
+        }
+        position++;
+    }
+
+    private boolean consume(String keyword) {
+        int end = position + keyword.length();
+        if (end > input.length()) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            if (input.charAt(position + i) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        position = end;
+        return true;
+    }
+
+    private void skipWhitespace() {
+        while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+            position++;
+        }
+    }
+
+    /** Returns the end of the run of {@code [_a-zA-Z0-9]} at {@code start}, which must not start with a digit. */
+    private int scanNamespace(int start) {
+        int end = start;
+        if (end < input.length() && isDigit(input.charAt(end))) {
+            return end;
+        }
+        while (end < input.length() && isNamespaceCharacter(input.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private int scanIdentifier(int start) {
+        int end = start;
+        while (end < input.length() && Character.isJavaIdentifierPart(input.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private int charAt(int index) {
+        return index < input.length() ? input.charAt(index) : EOF;
+    }
+
+    private String substringOrNull(int start, int end) {
+        return end > start ? input.subSequence(start, end).toString() : null;
+    }
+
+    private ParserState stateAt(int index) {
+        ParserState state = new StringParserState(input);
+        for (int i = 0; i < index; i++) {
+            state.next();
+        }
+        return state;
+    }
+
+    private static Exception addFailure(Exception failure, RuntimeException next) {
+        if (failure == null) {
+            return next;
+        }
+        failure.addSuppressed(next);
+        return failure;
+    }
+
+    private static boolean isDigit(char character) {
+        return '0' <= character && character <= '9';
+    }
+
+    private static boolean isNamespaceCharacter(char character) {
+        return '_' == character
+                || ('a' <= character && character <= 'z')
+                || ('A' <= character && character <= 'Z')
+                || isDigit(character);
+    }
+}
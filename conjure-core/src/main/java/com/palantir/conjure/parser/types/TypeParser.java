@@ -30,7 +30,6 @@ import com.palantir.conjure.parser.types.reference.LocalReferenceType;
 import com.palantir.parsec.ParseException;
 import com.palantir.parsec.Parser;
 import com.palantir.parsec.ParserState;
-import com.palantir.parsec.ParserState.MarkedLocation;
 import com.palantir.parsec.Parsers;
 import com.palantir.parsec.StringParserState;
 import com.palantir.parsec.parsers.ExpectationResult;
@@ -41,9 +40,22 @@ import com.palantir.parsec.parsers.RawStringParser;
 public enum TypeParser implements Parser<ConjureType> {
     INSTANCE;
 
+    // Built once, so that the lookahead table of the choice is shared by all parses
+    private final Parser<ConjureType> typeParser = Parsers.or(
+            "conjureType",
+            MapTypeParser.INSTANCE,
+            ListTypeParser.INSTANCE,
+            SetTypeParser.INSTANCE,
+            OptionalTypeParser.INSTANCE,
+            TypeFromString.of("any", AnyType.of(), AnyType.class),
+            TypeFromString.of("binary", BinaryType.of(), BinaryType.class),
+            TypeFromString.of("datetime", DateTimeType.of(), DateTimeType.class),
+            ForeignReferenceTypeParser.INSTANCE,
+            TypeReferenceParser.INSTANCE);
+
     public ConjureType parse(String input) throws ParseException {
         ParserState inputParserState = new StringParserState(input);
-        ConjureType resultType = Parsers.eof(typeParser()).parse(inputParserState);
+        ConjureType resultType = Parsers.eof(typeParser).parse(inputParserState);
         if (resultType == null) {
             throw new ParseException("Couldn't fully parse input", inputParserState);
         }
@@ -52,7 +64,7 @@ public enum TypeParser implements Parser<ConjureType> {
 
     @Override
     public ConjureType parse(ParserState input) throws ParseException {
-        return typeParser().parse(input);
+        return typeParser.parse(input);
     }
 
     @Override
@@ -60,20 +72,6 @@ public enum TypeParser implements Parser<ConjureType> {
         return "conjureType";
     }
 
-    private Parser<ConjureType> typeParser() {
-        return Parsers.or(
-                "conjureType",
-                MapTypeParser.INSTANCE,
-                ListTypeParser.INSTANCE,
-                SetTypeParser.INSTANCE,
-                OptionalTypeParser.INSTANCE,
-                TypeFromString.of("any", AnyType.of(), AnyType.class),
-                TypeFromString.of("binary", BinaryType.of(), BinaryType.class),
-                TypeFromString.of("datetime", DateTimeType.of(), DateTimeType.class),
-                ForeignReferenceTypeParser.INSTANCE,
-                TypeReferenceParser.INSTANCE);
-    }
-
     private enum TypeReferenceParser implements Parser<LocalReferenceType> {
         INSTANCE;
 
@@ -91,10 +89,11 @@ public enum TypeParser implements Parser<ConjureType> {
 
         @Override
         public LocalReferenceType parse(ParserState input) throws ParseException {
-            MarkedLocation mark = input.mark();
+            int position = input.getCharPosition();
+            ParserState.MarkedLocation mark = Parsers.markUnlessRewindable(input);
             String typeReference = REF_PARSER.parse(input);
             if (typeReference == null) {
-                mark.rewind();
+                Parsers.rewind(input, position, mark);
                 return null;
             }
             TypeName typeName = TypeName.of(typeReference);
@@ -105,6 +104,11 @@ public enum TypeParser implements Parser<ConjureType> {
         public String description() {
             return "typeReference";
         }
+
+        @Override
+        public boolean mayStartWith(int character) {
+            return REF_PARSER.mayStartWith(character);
+        }
     }
 
     // TODO(qchen): Change to ExternalType?
@@ -146,6 +150,12 @@ public enum TypeParser implements Parser<ConjureType> {
         public String description() {
             return "foreignType";
         }
+
+        @Override
+        public boolean mayStartWith(int character) {
+            // Without a namespace, the "." is still expected and the type name then fails to parse
+            return character == '.' || NAMESPACE_PARSER.mayStartWith(character);
+        }
     }
 
     private enum ListTypeParser implements Parser<ListType> {
@@ -167,6 +177,11 @@ public enum TypeParser implements Parser<ConjureType> {
         public String description() {
             return "list";
         }
+
+        @Override
+        public boolean mayStartWith(int character) {
+            return character == 'l';
+        }
     }
 
     private enum SetTypeParser implements Parser<SetType> {
@@ -188,6 +203,11 @@ public enum TypeParser implements Parser<ConjureType> {
         public String description() {
             return "set";
         }
+
+        @Override
+        public boolean mayStartWith(int character) {
+            return character == 's';
+        }
     }
 
     private enum OptionalTypeParser implements Parser<OptionalType> {
@@ -209,6 +229,11 @@ public enum TypeParser implements Parser<ConjureType> {
         public String description() {
             return "list";
         }
+
+        @Override
+        public boolean mayStartWith(int character) {
+            return character == 'o';
+        }
     }
 
     private enum MapTypeParser implements Parser<MapType> {
@@ -238,6 +263,11 @@ public enum TypeParser implements Parser<ConjureType> {
         public String description() {
             return "map";
         }
+
+        @Override
+        public boolean mayStartWith(int character) {
+            return character == 'm';
+        }
     }
 
     private static final class TypeFromString<T> implements Parser<T> {
@@ -264,6 +294,11 @@ public enum TypeParser implements Parser<ConjureType> {
             return type;
         }
 
+        @Override
+        public boolean mayStartWith(int character) {
+            return character == type.charAt(0);
+        }
+
         public static <T> TypeFromString<T> of(String type, T instance, Class<T> _metric) {
             return new TypeFromString<>(type, instance);
         }
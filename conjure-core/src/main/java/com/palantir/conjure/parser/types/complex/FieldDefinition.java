@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.palantir.conjure.defs.ConjureImmutablesStyle;
 import com.palantir.conjure.parser.LogSafetyDefinition;
 import com.palantir.conjure.parser.types.ConjureType;
+import com.palantir.conjure.parser.types.TypeExpressionCache;
 import com.palantir.conjure.parser.types.complex.FieldDefinition.FieldDefinitionDeserializer;
 import com.palantir.parsec.ParseException;
 import java.io.IOException;
@@ -50,12 +51,12 @@ public interface FieldDefinition {
     final class FieldDefinitionDeserializer extends JsonDeserializer<FieldDefinition> {
         @SuppressWarnings("deprecation")
         @Override
-        public FieldDefinition deserialize(JsonParser parser, DeserializationContext _context) throws IOException {
+        public FieldDefinition deserialize(JsonParser parser, DeserializationContext context) throws IOException {
 
             String candidate = parser.getValueAsString();
             if (candidate != null) {
                 try {
-                    return of(ConjureType.fromString(candidate));
+                    return of(TypeExpressionCache.parse(context, candidate));
                 } catch (ParseException e) {
                     throw new RuntimeException(e);
                 }
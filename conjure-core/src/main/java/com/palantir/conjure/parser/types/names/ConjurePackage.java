@@ -22,9 +22,9 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
+import com.palantir.conjure.PackagePattern;
 import com.palantir.conjure.defs.ConjureImmutablesStyle;
 import java.util.List;
-import java.util.regex.Pattern;
 import org.immutables.value.Value;
 
 /**
@@ -47,12 +47,10 @@ public abstract class ConjurePackage {
 
     @Value.Check
     protected final void check() {
-        // TODO(rfink): NPE when the pattern is static !?!?
-        Pattern validPackage = Pattern.compile("^([a-z][a-z0-9]+(\\.[a-z][a-z0-9]*)*)?$");
         Preconditions.checkArgument(
-                validPackage.matcher(name()).matches(),
+                PackagePattern.INSTANCE.matches(name()),
                 "Conjure package names must match pattern %s: %s",
-                validPackage.pattern(),
+                PackagePattern.INSTANCE.pattern(),
                 name());
     }
 
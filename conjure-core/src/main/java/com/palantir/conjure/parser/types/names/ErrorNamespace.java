@@ -20,9 +20,9 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.common.base.Preconditions;
+import com.palantir.conjure.UpperCamelCasePattern;
 import com.palantir.conjure.defs.ConjureImmutablesStyle;
 import com.palantir.conjure.parser.types.complex.ErrorTypeDefinition;
-import java.util.regex.Pattern;
 import org.immutables.value.Value;
 
 /**
@@ -33,17 +33,15 @@ import org.immutables.value.Value;
 @ConjureImmutablesStyle
 public abstract class ErrorNamespace {
 
-    private static final Pattern UPPER_CAMEL_CASE = Pattern.compile("(([A-Z][a-z0-9]+)+)");
-
     @JsonValue
     public abstract String name();
 
     @Value.Check
     protected final void check() {
         Preconditions.checkArgument(
-                UPPER_CAMEL_CASE.matcher(name()).matches(),
+                UpperCamelCasePattern.INSTANCE.matches(name()),
                 "Namespace for errors must match pattern %s: %s",
-                UPPER_CAMEL_CASE,
+                UpperCamelCasePattern.INSTANCE.pattern(),
                 name());
     }
 
@@ -19,9 +19,9 @@ package com.palantir.conjure.parser.types.names;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.common.base.Preconditions;
+import com.palantir.conjure.NamespacePattern;
 import com.palantir.conjure.defs.ConjureImmutablesStyle;
 import com.palantir.conjure.parser.types.TypesDefinition;
-import java.util.regex.Pattern;
 import org.immutables.value.Value;
 
 /**
@@ -31,17 +31,15 @@ import org.immutables.value.Value;
 @ConjureImmutablesStyle
 public abstract class Namespace {
 
-    private static final Pattern NAMESPACE_PATTERN = Pattern.compile("^[_a-zA-Z][_a-zA-Z0-9]*$");
-
     @JsonValue
     public abstract String name();
 
     @Value.Check
     protected final void check() {
         Preconditions.checkArgument(
-                NAMESPACE_PATTERN.matcher(name()).matches(),
+                NamespacePattern.INSTANCE.matches(name()),
                 "Namespaces must match pattern %s: %s",
-                NAMESPACE_PATTERN,
+                NamespacePattern.INSTANCE.pattern(),
                 name());
     }
 
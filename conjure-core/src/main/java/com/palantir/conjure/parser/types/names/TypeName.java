@@ -19,11 +19,11 @@ package com.palantir.conjure.parser.types.names;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.common.base.Preconditions;
+import com.palantir.conjure.UpperCamelCasePattern;
 import com.palantir.conjure.defs.ConjureImmutablesStyle;
 import com.palantir.conjure.parser.types.NamedTypesDefinition;
 import com.palantir.conjure.spec.PrimitiveType;
 import java.util.Set;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.immutables.value.Value;
 
@@ -35,7 +35,6 @@ import org.immutables.value.Value;
 @ConjureImmutablesStyle
 public abstract class TypeName {
 
-    private static final Pattern CUSTOM_TYPE_PATTERN = Pattern.compile("^[A-Z][a-z0-9]+([A-Z][a-z0-9]+)*$");
     static final Set<String> PRIMITIVE_TYPES = PrimitiveType.values().stream()
             .map(PrimitiveType::toString)
             .map(String::toLowerCase)
@@ -47,10 +46,10 @@ public abstract class TypeName {
     @Value.Check
     protected final void check() {
         Preconditions.checkArgument(
-                CUSTOM_TYPE_PATTERN.matcher(name()).matches() || PRIMITIVE_TYPES.contains(name()),
+                UpperCamelCasePattern.INSTANCE.matches(name()) || PRIMITIVE_TYPES.contains(name()),
                 "TypeNames must be a primitive type %s or match pattern %s: %s",
                 PRIMITIVE_TYPES,
-                CUSTOM_TYPE_PATTERN,
+                UpperCamelCasePattern.INSTANCE.pattern(),
                 name());
     }
 
@@ -24,4 +24,13 @@ public interface Parser<T> {
      * Human-intelligible description of this parser for use in error messages.
      */
     String description();
+
+    /**
+     * Returns false if this parser is certain to return null, rather than a result or an exception, when the input
+     * starts with the given character, or is at its end if {@code character} is -1. {@link Parsers#or} uses this to
+     * skip alternatives which cannot match.
+     */
+    default boolean mayStartWith(int _character) {
+        return true;
+    }
 }
@@ -17,6 +17,9 @@
 package com.palantir.parsec;
 
 import com.google.errorprone.annotations.CheckReturnValue;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeUnsupportedOperationException;
+import java.util.Objects;
 
 public interface ParserState {
 
@@ -42,6 +45,72 @@ public interface ParserState {
 
     int getCharPosition();
 
+    /**
+     * Whether {@link #rewindTo(int)} can return to any earlier position. If so, parsers which backtrack rewind by
+     * position, which does not allocate, and otherwise they fall back to {@link #mark()}. States which override
+     * {@code rewindTo} to move backwards should override this too.
+     */
+    default boolean canRewind() {
+        return false;
+    }
+
+    /**
+     * Moves back to a position previously returned by {@link #getCharPosition()}. Unlike {@link #mark()}, this does not
+     * allocate, so it is preferred on hot paths where {@link #canRewind()} holds.
+     *
+     * <p>The default implementation can only move forward, by calling {@link #next()}; states which can return to
+     * earlier positions, such as {@link StringParserState}, override it.
+     */
+    default void rewindTo(int charPosition) {
+        if (charPosition < getCharPosition()) {
+            throw new SafeUnsupportedOperationException(
+                    "This parser state cannot rewind to an earlier position",
+                    SafeArg.of("charPosition", charPosition),
+                    SafeArg.of("currentCharPosition", getCharPosition()));
+        }
+        while (getCharPosition() < charPosition && curr() != -1) {
+            next();
+        }
+    }
+
+    /**
+     * Returns the input between two positions previously returned by {@link #getCharPosition()}. Implementations may
+     * return a view which does not copy the underlying characters, as {@link StringParserState} does.
+     *
+     * <p>The default implementation copies the characters into a new string, rereading them after
+     * {@link #rewindTo(int) rewinding} to {@code start}, and then returns to the current position. It therefore
+     * requires {@link #canRewind()} unless {@code start} is not behind the current position.
+     */
+    default CharSequence region(int start, int end) {
+        MarkedLocation current = mark();
+        rewindTo(start);
+        StringBuilder region = new StringBuilder(end - start);
+        while (getCharPosition() < end && curr() != -1) {
+            region.append((char) curr());
+            next();
+        }
+        current.rewind();
+        Objects.checkFromToIndex(start, end, start + region.length());
+        return region.toString();
+    }
+
+    /**
+     * Consumes {@code keyword} if the input continues with it, and otherwise leaves the position unchanged.
+     *
+     * @return whether the keyword was consumed
+     */
+    default boolean consume(CharSequence keyword) {
+        MarkedLocation start = mark();
+        for (int i = 0; i < keyword.length(); i++) {
+            if (curr() != keyword.charAt(i)) {
+                start.rewind();
+                return false;
+            }
+            next();
+        }
+        return true;
+    }
+
     String fetchSnippetForException();
 
     /** Creates a new state object identical to this one, which does not follow location mutations to the original. */
@@ -16,11 +16,14 @@
 
 package com.palantir.parsec;
 
-import com.palantir.parsec.ParserState.MarkedLocation;
 import com.palantir.parsec.parsers.BetweenParser;
+import com.palantir.parsec.parsers.ChoiceParser;
 import com.palantir.parsec.parsers.ExpectantParser;
 import com.palantir.parsec.parsers.ExpectationResult;
 import com.palantir.parsec.parsers.RawStringParser;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 public final class Parsers {
 
@@ -38,6 +41,23 @@ public final class Parsers {
         }
     });
 
+    // Like WHITESPACE, but without materializing the whitespace it consumes
+    private static final Parser<ExpectationResult> SKIP_WHITESPACE = new Parser<ExpectationResult>() {
+        @Override
+        public ExpectationResult parse(ParserState input) {
+            int curr = input.curr();
+            while (curr != -1 && Character.isWhitespace((char) curr)) {
+                curr = input.next();
+            }
+            return ExpectationResult.CORRECT;
+        }
+
+        @Override
+        public String description() {
+            return "Character.isWhitespace";
+        }
+    };
+
     /**
      * Runs the prefix parser, followed by the `parser`, returning result of the latter.
      *
@@ -78,7 +98,7 @@ public final class Parsers {
      * @return the specified parser
      */
     public static <T> Parser<T> whitespace(Parser<T> parser) {
-        return prefix(whitespace(), parser);
+        return prefix(SKIP_WHITESPACE, parser);
     }
 
     /**
@@ -93,11 +113,12 @@ public final class Parsers {
         return new Parser<T>() {
             @Override
             public T parse(ParserState input) throws ParseException {
-                MarkedLocation mark = input.mark();
+                int start = input.getCharPosition();
+                ParserState.MarkedLocation mark = markUnlessRewindable(input);
                 T result = parser.parse(input);
 
                 if (nullOrUnexpected(result)) {
-                    mark.rewind();
+                    rewind(input, start, mark);
                 }
                 return result;
             }
@@ -106,14 +127,20 @@ public final class Parsers {
             public String description() {
                 return parser.description();
             }
+
+            @Override
+            public boolean mayStartWith(int character) {
+                return parser.mayStartWith(character);
+            }
         };
     }
 
     /**
-     * Parse either firstOption or iterate through otherOptions and return result.
+     * Parse either firstOption or iterate through otherOptions and return result. Options which cannot start with the
+     * next character according to {@link Parser#mayStartWith} are skipped.
      *
-     * Exceptions are caught while trying options - if no options succeed, then the last exception thrown is re-thrown
-     * as a {@code ParseError}.
+     * Exceptions are caught while trying options - if no options succeed, then the first exception thrown is re-thrown
+     * as a {@code ParseError}, with any later ones suppressed.
      *
      * @param <T> the type the parsers return
      * @param firstOption the first parser to try
@@ -125,58 +152,10 @@ public final class Parsers {
             final String description,
             final Parser<? extends T> firstOption,
             final Parser<? extends T>... otherOptions) {
-        return new Parser<T>() {
-            @Override
-            public T parse(ParserState input) throws ParseException {
-
-                T result;
-                Exception exception = null;
-
-                MarkedLocation mark = input.mark();
-                try {
-                    result = gingerly(firstOption).parse(input);
-                } catch (RuntimeException | ParseException e) {
-                    exception = e;
-                    mark.rewind();
-                    result = null;
-                }
-
-                if (result != null) {
-                    return result;
-                }
-                for (Parser<? extends T> nextOption : otherOptions) {
-                    mark = input.mark();
-                    try {
-                        result = gingerly(nextOption).parse(input);
-                    } catch (RuntimeException | ParseException e) {
-                        if (exception == null) {
-                            exception = e;
-                        } else {
-                            exception.addSuppressed(e);
-                        }
-                        mark.rewind();
-                    }
-
-                    if (result != null) {
-                        return result;
-                    }
-                }
-
-                if (exception != null) {
-                    if (exception instanceof ParseException) {
-                        throw (ParseException) exception;
-                    }
-                    throw new ParseException(exception.getMessage(), input, exception);
-                }
-
-                return null;
-            }
-
-            @Override
-            public String description() {
-                return description;
-            }
-        };
+        List<Parser<? extends T>> options = new ArrayList<>(1 + otherOptions.length);
+        options.add(firstOption);
+        options.addAll(Arrays.asList(otherOptions));
+        return new ChoiceParser<>(description, options);
     }
 
     public static ExpectantParser expect(String expectation) {
@@ -213,6 +192,11 @@ public final class Parsers {
             public String description() {
                 return "end-of-file";
             }
+
+            @Override
+            public boolean mayStartWith(int character) {
+                return parser.mayStartWith(character);
+            }
         };
     }
 
@@ -222,6 +206,26 @@ public final class Parsers {
      * @param obj object to compare
      * @return true when the argument is null or is equal to {@link ExpectationResult#INCORRECT}
      */
+    /**
+     * Marks the current position of {@code input} for {@link #rewind}. Returns {@code null} where {@code input}
+     * {@link ParserState#canRewind() can rewind} by position alone, so that backtracking does not allocate.
+     */
+    public static ParserState.MarkedLocation markUnlessRewindable(ParserState input) {
+        return input.canRewind() ? null : input.mark();
+    }
+
+    /**
+     * Returns {@code input} to {@code position}, as previously returned by {@link ParserState#getCharPosition()}, using
+     * {@code mark} as returned by {@link #markUnlessRewindable} for that position.
+     */
+    public static void rewind(ParserState input, int position, ParserState.MarkedLocation mark) {
+        if (mark == null) {
+            input.rewindTo(position);
+        } else {
+            mark.rewind();
+        }
+    }
+
     public static boolean nullOrUnexpected(Object obj) {
         return obj == null || ExpectationResult.INCORRECT.equals(obj);
     }
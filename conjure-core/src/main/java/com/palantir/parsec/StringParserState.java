@@ -16,6 +16,7 @@
 
 package com.palantir.parsec;
 
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -54,6 +55,36 @@ public final class StringParserState implements ParserState {
         return current;
     }
 
+    @Override
+    public boolean canRewind() {
+        return true;
+    }
+
+    @Override
+    public void rewindTo(int charPosition) {
+        current = charPosition;
+    }
+
+    @Override
+    public CharSequence region(int start, int end) {
+        return new Region(seq, start, end);
+    }
+
+    @Override
+    public boolean consume(CharSequence keyword) {
+        int length = keyword.length();
+        if (current + length > seq.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (seq.charAt(current + i) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        current += length;
+        return true;
+    }
+
     @Override
     public String fetchSnippetForException() {
         String[] lines = seq.toString().split("\n", -1);
@@ -105,4 +136,39 @@ public final class StringParserState implements ParserState {
         snapshot.current = current;
         return snapshot;
     }
+
+    /** A view of part of the input, which only copies characters when converted to a string. */
+    private static final class Region implements CharSequence {
+        private final CharSequence seq;
+        private final int start;
+        private final int end;
+
+        private Region(CharSequence seq, int start, int end) {
+            Objects.checkFromToIndex(start, end, seq.length());
+            this.seq = seq;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return seq.charAt(start + Objects.checkIndex(index, length()));
+        }
+
+        @Override
+        public CharSequence subSequence(int subStart, int subEnd) {
+            Objects.checkFromToIndex(subStart, subEnd, length());
+            return new Region(seq, start + subStart, start + subEnd);
+        }
+
+        @Override
+        public String toString() {
+            return seq.subSequence(start, end).toString();
+        }
+    }
 }
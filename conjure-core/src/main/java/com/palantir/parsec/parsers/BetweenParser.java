@@ -19,7 +19,6 @@ package com.palantir.parsec.parsers;
 import com.palantir.parsec.ParseException;
 import com.palantir.parsec.Parser;
 import com.palantir.parsec.ParserState;
-import com.palantir.parsec.ParserState.MarkedLocation;
 import com.palantir.parsec.Parsers;
 
 public final class BetweenParser<T> implements Parser<T> {
@@ -41,9 +40,10 @@ public final class BetweenParser<T> implements Parser<T> {
 
         // First, consume the thing you expect to find at the beginning.
         // This is likely to be a string constant like "{".
-        MarkedLocation mark = input.mark();
+        int position = input.getCharPosition();
+        ParserState.MarkedLocation mark = Parsers.markUnlessRewindable(input);
         if (Parsers.nullOrUnexpected(start.parse(input))) {
-            mark.rewind();
+            Parsers.rewind(input, position, mark);
             throw new ParseException("Expected start token " + start.description() + " for " + description, input);
         }
 
@@ -58,9 +58,10 @@ public final class BetweenParser<T> implements Parser<T> {
 
         // Finally, consume the thing you expect to find at the end.
         // This is likely to be a string constant like "}".
-        mark = input.mark();
+        position = input.getCharPosition();
+        mark = Parsers.markUnlessRewindable(input);
         if (Parsers.nullOrUnexpected(end.parse(input))) {
-            mark.rewind();
+            Parsers.rewind(input, position, mark);
             throw new ParseException("Expected end token " + end.description() + " for " + description, input);
         }
 
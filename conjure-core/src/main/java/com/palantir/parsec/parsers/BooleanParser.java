@@ -23,9 +23,11 @@ import com.palantir.parsec.Parsers;
 
 public final class BooleanParser implements Parser<Boolean> {
 
+    private static final Parser<String> RAW_STRING_PARSER = new RawStringParser();
+
     @Override
     public Boolean parse(ParserState input) throws ParseException {
-        String val = new RawStringParser().parse(input);
+        String val = RAW_STRING_PARSER.parse(input);
         return !Parsers.nullOrEmpty(val)
                 && (val.equalsIgnoreCase("true") || val.equalsIgnoreCase("yes") || val.equalsIgnoreCase("1"));
     }
@@ -0,0 +1,118 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.parsec.parsers;
+
+import com.palantir.parsec.ParseException;
+import com.palantir.parsec.Parser;
+import com.palantir.parsec.ParserState;
+import com.palantir.parsec.Parsers;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tries each of a list of parsers in turn and returns the first result, skipping the parsers which cannot match the
+ * next character according to {@link Parser#mayStartWith}.
+ *
+ * <p>If no parser matches, the exception thrown by the first parser which failed is rethrown with the exceptions of the
+ * others suppressed, and otherwise null is returned.
+ */
+public final class ChoiceParser<T> implements Parser<T> {
+    // Candidates are tabulated for ASCII characters and the end of input, and filtered on the fly otherwise
+    private static final int TABULATED_CHARACTERS = 128;
+
+    private final String description;
+    private final List<Parser<? extends T>> options;
+    private final List<List<Parser<? extends T>>> optionsByFirstCharacter;
+
+    public ChoiceParser(String description, List<? extends Parser<? extends T>> options) {
+        this.description = description;
+        this.options = List.copyOf(options);
+        List<List<Parser<? extends T>>> table = new ArrayList<>(TABULATED_CHARACTERS + 1);
+        for (int character = -1; character < TABULATED_CHARACTERS; character++) {
+            List<Parser<? extends T>> candidates = new ArrayList<>();
+            for (Parser<? extends T> option : this.options) {
+                if (option.mayStartWith(character)) {
+                    candidates.add(option);
+                }
+            }
+            table.add(List.copyOf(candidates));
+        }
+        this.optionsByFirstCharacter = List.copyOf(table);
+    }
+
+    @Override
+    public T parse(ParserState input) throws ParseException {
+        int character = input.curr();
+        boolean tabulated = character < TABULATED_CHARACTERS;
+        List<Parser<? extends T>> candidates = tabulated ? optionsByFirstCharacter.get(character + 1) : options;
+
+        int start = input.getCharPosition();
+        ParserState.MarkedLocation mark = Parsers.markUnlessRewindable(input);
+        Exception exception = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            Parser<? extends T> option = candidates.get(i);
+            if (!tabulated && !option.mayStartWith(character)) {
+                continue;
+            }
+
+            T result;
+            try {
+                result = option.parse(input);
+            } catch (RuntimeException | ParseException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+                Parsers.rewind(input, start, mark);
+                continue;
+            }
+
+            if (Parsers.nullOrUnexpected(result)) {
+                Parsers.rewind(input, start, mark);
+            }
+            if (result != null) {
+                return result;
+            }
+        }
+
+        if (exception != null) {
+            if (exception instanceof ParseException) {
+                throw (ParseException) exception;
+            }
+            throw new ParseException(exception.getMessage(), input, exception);
+        }
+        return null;
+    }
+
+    @Override
+    public String description() {
+        return description;
+    }
+
+    @Override
+    public boolean mayStartWith(int character) {
+        if (character < TABULATED_CHARACTERS) {
+            return !optionsByFirstCharacter.get(character + 1).isEmpty();
+        }
+        for (Parser<? extends T> option : options) {
+            if (option.mayStartWith(character)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
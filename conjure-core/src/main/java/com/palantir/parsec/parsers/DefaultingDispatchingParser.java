@@ -19,7 +19,6 @@ package com.palantir.parsec.parsers;
 import com.palantir.parsec.ParseException;
 import com.palantir.parsec.Parser;
 import com.palantir.parsec.ParserState;
-import com.palantir.parsec.ParserState.MarkedLocation;
 import com.palantir.parsec.Parsers;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,10 +42,10 @@ public final class DefaultingDispatchingParser<T> implements Parser<T> {
         this.description = description;
         this.map = new HashMap<String, Parser<T>>(parsers);
         if (whitespaceParser == null) {
-            inputStringParser = directiveParser;
+            inputStringParser = Parsers.gingerly(directiveParser);
             this.map.putAll(parsers);
         } else {
-            inputStringParser = Parsers.prefix(whitespaceParser, directiveParser);
+            inputStringParser = Parsers.gingerly(Parsers.prefix(whitespaceParser, directiveParser));
             for (Map.Entry<String, Parser<T>> entry : parsers.entrySet()) {
                 this.map.put(entry.getKey(), Parsers.prefix(whitespaceParser, entry.getValue()));
             }
@@ -68,16 +67,17 @@ public final class DefaultingDispatchingParser<T> implements Parser<T> {
         T lastResult = null;
         while (input.curr() != -1) {
 
-            MarkedLocation mark = input.mark();
+            int position = input.getCharPosition();
+            ParserState.MarkedLocation mark = Parsers.markUnlessRewindable(input);
             // Mark is now before directive.
 
             // Gingerly will put its own mark at the exact same location.
-            String directive = Parsers.gingerly(inputStringParser).parse(input);
+            String directive = inputStringParser.parse(input);
 
             if (Parsers.nullOrEmpty(directive)) {
                 // If we get here, we couldn't parse a directive.
                 // Gingerly rewound to its mark; we should rewind too.
-                mark.rewind();
+                Parsers.rewind(input, position, mark);
                 break;
             } else {
                 // If we get here, directive was parsed okay.
@@ -91,7 +91,7 @@ public final class DefaultingDispatchingParser<T> implements Parser<T> {
 
                     // The default parser has to handle the entire line, so
                     // rewind to before the directive.
-                    mark.rewind();
+                    Parsers.rewind(input, position, mark);
 
                     // lastResult = Parsers.gingerly(defaultParser).parse(input);
                     lastResult = defaultParser.parse(input);
@@ -45,10 +45,10 @@ public final class DispatchingParser<T> implements Parser<T> {
         this.description = description;
         parserLookup = new HashMap<String, Parser<T>>();
         if (whitespaceParser == null) {
-            inputStringParser = directiveParser;
+            inputStringParser = Parsers.gingerly(directiveParser);
             parserLookup.putAll(parsers);
         } else {
-            inputStringParser = Parsers.prefix(whitespaceParser, directiveParser);
+            inputStringParser = Parsers.gingerly(Parsers.prefix(whitespaceParser, directiveParser));
             for (Map.Entry<String, Parser<T>> entry : parsers.entrySet()) {
                 parserLookup.put(entry.getKey(), Parsers.prefix(whitespaceParser, entry.getValue()));
             }
@@ -59,7 +59,7 @@ public final class DispatchingParser<T> implements Parser<T> {
     public T parse(ParserState input) throws ParseException {
         T lastResult = null;
         while (input.curr() != -1) {
-            String directive = Parsers.gingerly(inputStringParser).parse(input);
+            String directive = inputStringParser.parse(input);
             if (Parsers.nullOrEmpty(directive)) {
                 break;
             } else if (parserLookup.containsKey(directive)) {
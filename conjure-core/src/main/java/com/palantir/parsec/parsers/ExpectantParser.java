@@ -29,18 +29,8 @@ public final class ExpectantParser implements Parser<ExpectationResult> {
 
     @Override
     public ExpectationResult parse(ParserState input) {
-        StringBuilder sb = new StringBuilder();
-        int curr = input.curr();
-        while (curr != -1 && sb.length() < expectation.length()) {
-            sb.append((char) curr);
-            curr = input.next();
-        }
-
-        if (sb.toString().equals(expectation)) {
-            return ExpectationResult.CORRECT;
-        } else {
-            return ExpectationResult.INCORRECT;
-        }
+        // Matched in place, leaving the position unchanged on a mismatch
+        return input.consume(expectation) ? ExpectationResult.CORRECT : ExpectationResult.INCORRECT;
     }
 
     @Override
@@ -24,22 +24,22 @@ import com.palantir.parsec.parsers.KeyValueParser.KeyValue;
 
 public final class KeyValueParser<A, B> implements Parser<KeyValue<A, B>> {
 
-    private Parser<A> keyParser;
-    private Parser<B> valueParser;
-    private Parser<?> separator;
+    private final Parser<A> keyParser;
+    private final Parser<B> valueParser;
+    private final Parser<?> separator;
 
     public KeyValueParser(Parser<A> keyParser, Parser<?> separator, Parser<B> valueParser) {
-        this.keyParser = keyParser;
-        this.separator = separator;
-        this.valueParser = valueParser;
+        this.keyParser = Parsers.gingerly(keyParser);
+        this.separator = Parsers.gingerly(separator);
+        this.valueParser = Parsers.gingerly(valueParser);
     }
 
     @Override
     public KeyValue<A, B> parse(ParserState input) throws ParseException {
-        A key = Parsers.gingerly(keyParser).parse(input);
+        A key = keyParser.parse(input);
         if (!Parsers.nullOrUnexpected(key)) {
-            if (!Parsers.nullOrUnexpected(Parsers.gingerly(separator).parse(input))) {
-                B val = Parsers.gingerly(valueParser).parse(input);
+            if (!Parsers.nullOrUnexpected(separator.parse(input))) {
+                B val = valueParser.parse(input);
                 if (!Parsers.nullOrUnexpected(val)) {
                     return new KeyValue<>(key, val);
                 } else {
@@ -29,21 +29,21 @@ public final class ListParser<T> implements Parser<List<T>> {
     private final Parser<T> valueParser;
 
     public ListParser(Parser<T> valueParser, Parser<?> separator) {
-        this.valueParser = valueParser;
-        this.separator = separator;
+        this.valueParser = Parsers.gingerly(valueParser);
+        this.separator = Parsers.gingerly(separator);
     }
 
     @Override
     public List<T> parse(ParserState input) throws ParseException {
         List<T> results = new ArrayList<>();
         do {
-            T val = Parsers.gingerly(valueParser).parse(input);
+            T val = valueParser.parse(input);
             if (!Parsers.nullOrUnexpected(val)) {
                 results.add(val);
             } else {
                 break;
             }
-        } while (Parsers.gingerly(separator).parse(input) != null);
+        } while (separator.parse(input) != null);
         return results;
     }
 
@@ -30,18 +30,18 @@ public final class MapParser<A, B> implements Parser<Map<A, B>> {
     private final Parser<?> separator;
 
     public MapParser(Parser<A> keyParser, Parser<B> valueParser, Parser<?> separator) {
-        this.keyParser = keyParser;
-        this.valueParser = valueParser;
-        this.separator = separator;
+        this.keyParser = Parsers.gingerly(keyParser);
+        this.valueParser = Parsers.gingerly(valueParser);
+        this.separator = Parsers.gingerly(separator);
     }
 
     @Override
     public Map<A, B> parse(ParserState input) throws ParseException {
         Map<A, B> results = new HashMap<>();
         do {
-            A key = Parsers.gingerly(keyParser).parse(input);
+            A key = keyParser.parse(input);
             if (!Parsers.nullOrUnexpected(key)) {
-                B val = Parsers.gingerly(valueParser).parse(input);
+                B val = valueParser.parse(input);
                 if (!Parsers.nullOrUnexpected(val)) {
                     results.put(key, val);
                 } else {
@@ -50,7 +50,7 @@ public final class MapParser<A, B> implements Parser<Map<A, B>> {
             } else {
                 break;
             }
-        } while (Parsers.gingerly(separator).parse(input) != null);
+        } while (separator.parse(input) != null);
         return results;
     }
 
@@ -42,21 +42,32 @@ public final class RawStringParser implements Parser<String> {
 
     @Override
     public String parse(ParserState input) {
-        StringBuilder sb = new StringBuilder();
         int curr = input.curr();
-        boolean firstChar = true;
+        if (!mayStartWith(curr)) {
+            return null;
+        }
+        if (!input.canRewind()) {
+            // The input cannot be reread, so copy characters as they are consumed
+            StringBuilder sb = new StringBuilder();
+            while (curr != -1 && condition.isAllowed((char) curr)) {
+                sb.append((char) curr);
+                curr = input.next();
+            }
+            return sb.toString();
+        }
+        int start = input.getCharPosition();
         // not at end of the file and character is explicitly allowed
         while (curr != -1 && condition.isAllowed((char) curr)) {
-            if (firstChar) {
-                if (condition.notAllowedToStartWith((char) curr)) {
-                    return null;
-                }
-                firstChar = false;
-            }
-            sb.append((char) curr);
             curr = input.next();
         }
-        return sb.length() > 0 ? sb.toString() : null;
+        return input.region(start, input.getCharPosition()).toString();
+    }
+
+    @Override
+    public boolean mayStartWith(int character) {
+        return character != -1
+                && condition.isAllowed((char) character)
+                && !condition.notAllowedToStartWith((char) character);
     }
 
     @Override
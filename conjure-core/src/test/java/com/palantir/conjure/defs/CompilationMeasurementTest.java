@@ -0,0 +1,42 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.defs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class CompilationMeasurementTest {
+
+    @Test
+    public void measuresWorkForListeners() throws InterruptedException {
+        CompilationMeasurement.Timer timer = CompilationMeasurement.start(new CompilationListener() {});
+        Thread.sleep(5);
+
+        assertThat(timer.stop().wallTime()).isGreaterThanOrEqualTo(Duration.ofMillis(5));
+    }
+
+    @Test
+    public void measuresNothingForNoOpListener() throws InterruptedException {
+        CompilationMeasurement.Timer timer = CompilationMeasurement.start(CompilationListener.NO_OP);
+        Thread.sleep(5);
+
+        CompilationMeasurement measurement = timer.stop();
+        assertThat(measurement.wallTime()).isZero();
+        assertThat(measurement.allocatedBytes()).isZero();
+    }
+}
@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.collect.ImmutableList;
 import com.palantir.conjure.exceptions.ConjureRuntimeException;
+import com.palantir.conjure.parser.AnnotatedConjureSourceFile;
 import com.palantir.conjure.parser.ConjureParser;
 import com.palantir.conjure.spec.ConjureDefinition;
 import com.palantir.conjure.spec.Documentation;
@@ -29,11 +30,22 @@ import com.palantir.conjure.spec.ErrorNamespace;
 import com.palantir.conjure.spec.ErrorTypeName;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import org.junit.Ignore;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class ConjureDefTest {
 
+    @TempDir
+    public Path temporaryFolder;
+
     @Test
     public void resolvesImportedAliases() {
         ConjureDefinition conjureDefinition = ConjureParserUtils.parseConjureDef(
@@ -41,6 +53,56 @@ public class ConjureDefTest {
         assertThat(conjureDefinition.getTypes()).hasSize(3);
     }
 
+    @Test
+    public void reportsEveryPhaseToListener() {
+        List<CompilationPhase> phases = new ArrayList<>();
+        List<File> parsedFiles = new ArrayList<>();
+        List<File> convertedFiles = new ArrayList<>();
+        List<String> validators = new ArrayList<>();
+        CompilationListener listener = new CompilationListener() {
+            @Override
+            public void phaseCompleted(CompilationPhase phase, CompilationMeasurement measurement) {
+                assertThat(measurement.allocatedBytes()).isNotNegative();
+                phases.add(phase);
+            }
+
+            @Override
+            public void fileParsed(File file, CompilationMeasurement _measurement) {
+                parsedFiles.add(file);
+            }
+
+            @Override
+            public void fileConverted(File file, CompilationMeasurement _measurement) {
+                convertedFiles.add(file);
+            }
+
+            @Override
+            public void validatorCompleted(String validator, CompilationMeasurement _measurement) {
+                validators.add(validator);
+            }
+        };
+
+        Conjure.parse(ConjureArgs.builder()
+                .definitions(ImmutableList.of(new File("src/test/resources/example-conjure-imports.yml")))
+                .safetyDeclarations(SafetyDeclarationRequirements.ALLOWED)
+                .compilationListener(listener)
+                .build());
+
+        assertThat(phases)
+                .containsExactly(
+                        CompilationPhase.PARSE,
+                        CompilationPhase.CONVERT,
+                        CompilationPhase.VALIDATE,
+                        CompilationPhase.NORMALIZE);
+        assertThat(parsedFiles)
+                .extracting(File::getName)
+                .containsExactly("example-conjure-imports.yml", "test-service.yml");
+        assertThat(convertedFiles)
+                .extracting(File::getName)
+                .containsExactlyInAnyOrder("example-conjure-imports.yml", "test-service.yml");
+        assertThat(validators).contains("NO_RECURSIVE_TYPES", "LOG_SAFETY");
+    }
+
     @Test
     public void resolvesRecursiveImportType() {
         ConjureDefinition conjureDefinition = ConjureParserUtils.parseConjureDef(
@@ -161,4 +223,43 @@ public class ConjureDefTest {
                 .isInstanceOf(NullPointerException.class)
                 .hasMessage("Import not found for namespace: Namespace{name=imports}");
     }
+
+    @Test
+    void resolvesLongImportChain() throws IOException {
+        // every file aliases the type of the file it imports, so each file's objects are needed by all later files
+        int chainLength = 200;
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < chainLength; i++) {
+            StringBuilder yaml = new StringBuilder("types:\n");
+            if (i > 0) {
+                yaml.append("  conjure-imports:\n");
+                yaml.append("    previous: link").append(i - 1).append(".yml\n");
+            }
+            yaml.append("  definitions:\n");
+            yaml.append("    default-package: com.palantir.chain\n");
+            yaml.append("    objects:\n");
+            yaml.append("      Link").append(i).append(":\n");
+            yaml.append("        alias: ").append(i > 0 ? "previous.Link" + (i - 1) : "string").append('\n');
+            Path file = temporaryFolder.resolve("link" + i + ".yml");
+            Files.write(file, yaml.toString().getBytes(StandardCharsets.UTF_8));
+            files.add(file.toFile());
+        }
+
+        Map<String, AnnotatedConjureSourceFile> annotatedParsedDefs = ConjureParser.parseAnnotated(files);
+        ConvertedObjects convertedObjects = new ConvertedObjects();
+        SymbolTables symbolTables = SymbolTables.create();
+        List<ConjureDefinition> fragments = new ArrayList<>();
+        annotatedParsedDefs.forEach((pathKey, annotatedParsed) -> fragments.add(ConjureParserUtils.parseSourceFile(
+                pathKey,
+                annotatedParsed,
+                annotatedParsedDefs,
+                convertedObjects,
+                symbolTables,
+                CompilationListener.NO_OP)));
+
+        assertThat(ConjureParserUtils.mergeFragments(fragments).getTypes()).hasSize(chainLength);
+        // each file is converted once, and each import is followed once, rather than once per importing file
+        assertThat(convertedObjects.conversions()).isEqualTo(chainLength);
+        assertThat(convertedObjects.importVisits()).isEqualTo(chainLength - 1);
+    }
 }
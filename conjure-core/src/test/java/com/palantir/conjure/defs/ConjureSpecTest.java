@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
@@ -77,6 +78,7 @@ public final class ConjureSpecTest {
             String yml = getYmlAsString(testName, entry.getValue().conjure());
             try {
                 ConjureParserUtils.parseConjureDef(annotatedConjureDefFrom(yml));
+                parseConcurrently(yml);
             } catch (Exception e) {
                 Assertions.fail("Conjure for case should be valid according to the spec: " + testName, e);
             }
@@ -98,6 +100,10 @@ public final class ConjureSpecTest {
                                 + "\ndid not contain:\n"
                                 + entry.getValue().expectedError())
                         .hasMessageContaining(entry.getValue().expectedError());
+                Assertions.assertThatThrownBy(() -> parseConcurrently(yml))
+                        .withFailMessage("Parallel validation did not report the same failure for case: " + testName)
+                        .isInstanceOf(e.getClass())
+                        .hasMessage(e.getMessage());
             }
         });
     }
@@ -110,6 +116,14 @@ public final class ConjureSpecTest {
                 .build());
     }
 
+    private void parseConcurrently(String yml) throws JsonProcessingException {
+        ConjureParserUtils.parseConjureDef(
+                Map.of(new File("test").getAbsolutePath(), annotatedConjureDefFrom(yml).get(0)),
+                SafetyDeclarationRequirements.ALLOWED,
+                CompilationListener.NO_OP,
+                4);
+    }
+
     private static String getYmlAsString(String testName, Object obj) {
         String yml;
         try {
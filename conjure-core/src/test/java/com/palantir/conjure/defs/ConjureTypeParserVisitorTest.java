@@ -16,14 +16,21 @@
 
 package com.palantir.conjure.defs;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import com.palantir.conjure.defs.ConjureTypeParserVisitor.ByParsedRepresentationTypeNameResolver;
 import com.palantir.conjure.defs.ConjureTypeParserVisitor.ReferenceTypeResolver;
+import com.palantir.conjure.parser.types.ConjureType;
 import com.palantir.conjure.parser.types.TypesDefinition;
 import com.palantir.conjure.parser.types.names.Namespace;
 import com.palantir.conjure.parser.types.names.TypeName;
 import com.palantir.conjure.parser.types.reference.ForeignReferenceType;
+import com.palantir.conjure.parser.types.reference.LocalReferenceType;
+import com.palantir.conjure.spec.ListType;
+import com.palantir.conjure.spec.MapType;
+import com.palantir.conjure.spec.Type;
+import com.palantir.parsec.ParseException;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 
@@ -39,4 +46,34 @@ public class ConjureTypeParserVisitorTest {
                         () -> resolver.resolve(ForeignReferenceType.of(Namespace.of("namespace"), TypeName.of("Type"))))
                 .withMessageContaining(conjureSourceFileName);
     }
+
+    @Test
+    void internsStructurallyIdenticalTypes() throws ParseException {
+        TypeInterner interner = TypeInterner.create();
+        ReferenceTypeResolver resolver = new ReferenceTypeResolver() {
+            @Override
+            public Type resolve(LocalReferenceType reference) {
+                return Type.reference(com.palantir.conjure.spec.TypeName.of(reference.type().name(), "com.palantir"));
+            }
+
+            @Override
+            public Type resolve(ForeignReferenceType reference) {
+                return Type.reference(com.palantir.conjure.spec.TypeName.of(reference.type().name(), "com.palantir"));
+            }
+
+            @Override
+            public TypeInterner interner() {
+                return interner;
+            }
+        };
+
+        Type first = ConjureType.fromString("map<Foo, list<Foo>>").visit(new ConjureTypeParserVisitor(resolver));
+        Type second = ConjureType.fromString("map<Foo, list<Foo>>").visit(new ConjureTypeParserVisitor(resolver));
+        Type listOfFoo = ConjureType.fromString("list<Foo>").visit(new ConjureTypeParserVisitor(resolver));
+        Type foo = ConjureType.fromString("Foo").visit(new ConjureTypeParserVisitor(resolver));
+
+        assertThat(second).isSameAs(first);
+        assertThat(interner.intern(Type.map(MapType.of(foo, listOfFoo)))).isSameAs(first);
+        assertThat(interner.intern(Type.list(ListType.of(foo)))).isSameAs(listOfFoo);
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.defs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.conjure.parser.ConjureParser;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.visitor.TypeDefinitionVisitor;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IncrementalCompilationCacheTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void cachedCompilationMatchesUncached() {
+        List<File> files = ImmutableList.of(
+                new File("src/test/resources/example-conjure-imports.yml"),
+                new File("src/test/resources/example-imported-endpoint-error.yml"));
+
+        ConjureDefinition uncached = Conjure.parse(ConjureArgs.builder()
+                .definitions(files)
+                .safetyDeclarations(SafetyDeclarationRequirements.ALLOWED)
+                .build());
+        ConjureDefinition cold = compileWithCache(files);
+        ConjureDefinition warm = compileWithCache(files);
+
+        assertThat(cold).isEqualTo(uncached);
+        assertThat(warm).isEqualTo(uncached);
+    }
+
+    @Test
+    public void recompilesFilesWhoseImportsChanged() throws IOException {
+        write("imported.yml", "Imported", "string");
+        Path importing = temporaryFolder.resolve("importing.yml");
+        Files.write(
+                importing,
+                String.join(
+                                "\n",
+                                "types:",
+                                "  conjure-imports:",
+                                "    imported: imported.yml",
+                                "  definitions:",
+                                "    default-package: com.palantir.incremental",
+                                "    objects:",
+                                "      Importing:",
+                                "        alias: imported.Imported")
+                        .getBytes(StandardCharsets.UTF_8));
+        List<File> files = ImmutableList.of(importing.toFile());
+
+        assertThat(compileWithCache(files).getTypes()).hasSize(2);
+
+        // Renaming the imported type must invalidate the cached IR of the importing file
+        write("imported.yml", "Renamed", "string");
+        assertThatThrownBy(() -> compileWithCache(files))
+                .rootCause()
+                .hasMessageContaining("Unknown LocalReferenceType");
+
+        write("imported.yml", "Imported", "integer");
+        assertThat(compileWithCache(files).getTypes())
+                .extracting(type -> type.accept(TypeDefinitionVisitor.TYPE_NAME))
+                .containsExactly(
+                        TypeName.of("Imported", "com.palantir.incremental"),
+                        TypeName.of("Importing", "com.palantir.incremental"));
+    }
+
+    @Test
+    public void prunesEntriesUnusedForAWeek() throws IOException {
+        write("pruned.yml", "Pruned", "string");
+        List<File> files = ImmutableList.of(temporaryFolder.resolve("pruned.yml").toFile());
+        compileWithCache(files);
+        Path fragments = temporaryFolder.resolve("cache").resolve("fragments");
+        List<Path> stale = listFiles(fragments);
+        assertThat(stale).hasSize(1);
+        Files.setLastModifiedTime(stale.get(0), FileTime.from(Instant.now().minus(Duration.ofDays(8))));
+
+        // A compilation that writes new entries deletes the stale one
+        write("pruned.yml", "Pruned", "integer");
+        compileWithCache(files);
+        assertThat(listFiles(fragments)).hasSize(1).doesNotContainAnyElementsOf(stale);
+    }
+
+    @Test
+    public void reportsMissingImports() {
+        File file = new File("src/test/resources/imports-file-that-does-not-exist.yml");
+
+        assertThatThrownBy(() -> compileWithCache(ImmutableList.of(file)))
+                .isInstanceOf(ConjureParser.ImportNotFoundException.class)
+                .hasMessageContaining("imported from " + file.getAbsolutePath());
+    }
+
+    private ConjureDefinition compileWithCache(List<File> files) {
+        return Conjure.parse(ConjureArgs.builder()
+                .definitions(files)
+                .safetyDeclarations(SafetyDeclarationRequirements.ALLOWED)
+                .cacheDirectory(temporaryFolder.resolve("cache").toFile())
+                .build());
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private void write(String fileName, String typeName, String alias) throws IOException {
+        Path file = temporaryFolder.resolve(fileName);
+        Files.write(
+                file,
+                String.join(
+                                "\n",
+                                "types:",
+                                "  definitions:",
+                                "    default-package: com.palantir.incremental",
+                                "    objects:",
+                                "      " + typeName + ":",
+                                "        alias: " + alias)
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.defs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.conjure.exceptions.ConjureIllegalStateException;
+import com.palantir.conjure.parser.ConjureParser;
+import com.palantir.conjure.parser.types.TypesDefinition;
+import com.palantir.conjure.parser.types.names.TypeName;
+import com.palantir.conjure.spec.ErrorNamespace;
+import com.palantir.conjure.spec.ErrorTypeName;
+import com.palantir.conjure.spec.Type;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.io.File;
+import org.junit.jupiter.api.Test;
+
+public class SymbolTableTest {
+    private static final String EXTERNAL_TYPES = "src/test/resources/example-external-types.yml";
+
+    @Test
+    void resolvesObjectsOnce() {
+        SymbolTable symbols = new SymbolTable(types(EXTERNAL_TYPES), TypeInterner.create());
+
+        Type type = symbols.type(TypeName.of("ComplexObjectWithImports"));
+
+        assertThat(type)
+                .isEqualTo(Type.reference(com.palantir.conjure.spec.TypeName.of(
+                        "ComplexObjectWithImports", "test.api.with.external.types")));
+        assertThat(symbols.type(TypeName.of("ComplexObjectWithImports"))).isSameAs(type);
+    }
+
+    @Test
+    void resolvesExternalImports() {
+        TypesDefinition types = types(EXTERNAL_TYPES);
+        SymbolTable symbols = new SymbolTable(types, TypeInterner.create());
+
+        Type type = symbols.type(TypeName.of("ExampleLongImport"));
+
+        assertThat(type)
+                .isEqualTo(ConjureParserUtils.parseExternalType(
+                        types.imports().get(TypeName.of("ExampleLongImport")), "java.lang", "Long"));
+        assertThat(symbols.type(TypeName.of("ExampleLongImport"))).isSameAs(type);
+    }
+
+    @Test
+    void resolvesErrors() {
+        SymbolTable symbols =
+                new SymbolTable(types("src/test/resources/example-imported-endpoint-error.yml"), TypeInterner.create());
+
+        assertThat(symbols.error(TypeName.of("InvalidArgument")))
+                .isEqualTo(ErrorTypeName.builder()
+                        .name("InvalidArgument")
+                        .package_("test.api.with.imported.errors")
+                        .namespace(ErrorNamespace.of("OtherNamespace"))
+                        .build());
+    }
+
+    @Test
+    void rejectsUnknownNames() {
+        SymbolTable symbols = new SymbolTable(types(EXTERNAL_TYPES), TypeInterner.create());
+
+        assertThatThrownBy(() -> symbols.type(TypeName.of("Unknown")))
+                .isInstanceOf(ConjureIllegalStateException.class)
+                .hasMessageContaining("Unknown LocalReferenceType");
+        assertThatThrownBy(() -> symbols.error(TypeName.of("Unknown")))
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasMessageContaining("Unknown error");
+    }
+
+    private static TypesDefinition types(String path) {
+        return ConjureParser.parse(new File(path)).types();
+    }
+}
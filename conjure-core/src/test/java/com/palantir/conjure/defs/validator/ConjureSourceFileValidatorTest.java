@@ -84,6 +84,45 @@ public class ConjureSourceFileValidatorTest {
                 .hasMessage("Illegal recursive data type: Foo -> Foo");
     }
 
+    @Test
+    public void testRecursiveTypeReportsOnlyCycle() {
+        ConjureDefinition conjureDef = ConjureDefinition.builder()
+                .version(1)
+                .types(ImmutableList.of(
+                        TypeDefinition.object(ObjectDefinition.builder()
+                                .typeName(TypeName.of("Baz", PACKAGE))
+                                .fields(field(FieldName.of("foo"), "Foo"))
+                                .build()),
+                        TypeDefinition.object(ObjectDefinition.builder()
+                                .typeName(FOO)
+                                .fields(field(FieldName.of("bar"), "Bar"))
+                                .build()),
+                        TypeDefinition.alias(AliasDefinition.builder()
+                                .typeName(BAR)
+                                .alias(Type.reference(FOO))
+                                .build())))
+                .build();
+
+        assertThatThrownBy(() -> ConjureDefinitionValidator.NO_RECURSIVE_TYPES.validate(conjureDef))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Illegal recursive data type: Foo -> Bar -> Foo");
+    }
+
+    @Test
+    public void testDeepReferenceChainIsNotRecursive() {
+        ImmutableList.Builder<TypeDefinition> types = ImmutableList.builder();
+        for (int i = 0; i < 10_000; i++) {
+            types.add(TypeDefinition.object(ObjectDefinition.builder()
+                    .typeName(TypeName.of("Type" + i, PACKAGE))
+                    .fields(field(FieldName.of("next"), "Type" + (i + 1)))
+                    .build()));
+        }
+        ConjureDefinition conjureDef =
+                ConjureDefinition.builder().version(1).types(types.build()).build();
+
+        assertThatNoException().isThrownBy(() -> ConjureDefinitionValidator.NO_RECURSIVE_TYPES.validate(conjureDef));
+    }
+
     @Test
     public void testRecursiveTypeOkInReference() {
         Type referenceType = Type.reference(FOO);
@@ -0,0 +1,112 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.defs.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.either.Either;
+import com.palantir.conjure.spec.AliasDefinition;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.FieldDefinition;
+import com.palantir.conjure.spec.FieldName;
+import com.palantir.conjure.spec.ListType;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.OptionalType;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class DefinitionIndexTest {
+    private static final TypeName FOO = TypeName.of("Foo", "com.palantir.foo");
+    private static final TypeName BAR = TypeName.of("Bar", "com.palantir.foo");
+    private static final TypeName BAZ = TypeName.of("Baz", "com.palantir.foo");
+
+    @Test
+    public void testIndexesFirstDirectReferenceOfObjectsAndAliases() {
+        DefinitionIndex index = DefinitionIndex.of(ConjureDefinition.builder()
+                .version(1)
+                .types(TypeDefinition.object(ObjectDefinition.builder()
+                        .typeName(FOO)
+                        .fields(field("optionalBaz", Type.optional(OptionalType.of(Type.reference(BAZ)))))
+                        .fields(field("bazs", Type.list(ListType.of(Type.reference(BAZ)))))
+                        .fields(field("bar", Type.reference(BAR)))
+                        .fields(field("baz", Type.reference(BAZ)))
+                        .fields(field("name", Type.primitive(PrimitiveType.STRING)))
+                        .build()))
+                .types(TypeDefinition.alias(AliasDefinition.builder()
+                        .typeName(BAR)
+                        .alias(Type.reference(BAZ))
+                        .build()))
+                .types(TypeDefinition.alias(AliasDefinition.builder()
+                        .typeName(BAZ)
+                        .alias(Type.primitive(PrimitiveType.STRING))
+                        .build()))
+                .build());
+
+        assertThat(index.typeNames()).containsExactly(FOO, BAR, BAZ);
+        assertThat(index.directReferences().asMap())
+                .containsOnlyKeys(FOO, BAR)
+                .containsEntry(FOO, Set.of(BAR))
+                .containsEntry(BAR, Set.of(BAZ));
+    }
+
+    @Test
+    public void testFirstDefinitionOfDuplicateNameWins() {
+        TypeDefinition first = TypeDefinition.alias(AliasDefinition.builder()
+                .typeName(FOO)
+                .alias(Type.primitive(PrimitiveType.STRING))
+                .build());
+        TypeDefinition second = TypeDefinition.alias(AliasDefinition.builder()
+                .typeName(FOO)
+                .alias(Type.primitive(PrimitiveType.INTEGER))
+                .build());
+
+        DefinitionIndex index = DefinitionIndex.of(
+                ConjureDefinition.builder().version(1).types(first).types(second).build());
+
+        assertThat(index.typeNames()).containsExactly(FOO, FOO);
+        assertThat(index.typesByName()).containsExactly(Map.entry(FOO, first));
+    }
+
+    @Test
+    public void testDealiasesThroughAliasChains() {
+        DefinitionIndex index = DefinitionIndex.of(ConjureDefinition.builder()
+                .version(1)
+                .types(TypeDefinition.alias(AliasDefinition.builder()
+                        .typeName(FOO)
+                        .alias(Type.reference(BAR))
+                        .build()))
+                .types(TypeDefinition.alias(AliasDefinition.builder()
+                        .typeName(BAR)
+                        .alias(Type.primitive(PrimitiveType.UUID))
+                        .build()))
+                .build());
+
+        assertThat(index.dealias(Type.reference(FOO))).isEqualTo(Either.right(Type.primitive(PrimitiveType.UUID)));
+        assertThat(index.dealias(Type.reference(FOO))).isSameAs(index.dealias(Type.reference(FOO)));
+    }
+
+    private static FieldDefinition field(String name, Type type) {
+        return FieldDefinition.builder()
+                .fieldName(FieldName.of(name))
+                .type(type)
+                .build();
+    }
+}
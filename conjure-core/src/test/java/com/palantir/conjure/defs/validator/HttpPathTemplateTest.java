@@ -0,0 +1,72 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.defs.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.spec.ArgumentName;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public final class HttpPathTemplateTest {
+
+    @Test
+    public void testSegments() {
+        HttpPathTemplate template = HttpPathTemplate.parse("/abc/{foo}/v1.2/{bar:.+}");
+
+        assertThat(template.segments())
+                .extracting(HttpPathTemplate.Segment::text)
+                .containsExactly("abc", "{foo}", "v1.2", "{bar:.+}");
+        assertThat(template.segments())
+                .extracting(HttpPathTemplate.Segment::isVariable)
+                .containsExactly(false, true, false, true);
+        assertThat(template.segments())
+                .extracting(HttpPathTemplate.Segment::regex)
+                .containsExactly(Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(".+"));
+        assertThat(template.variableNames()).containsExactly("foo", "bar");
+        assertThat(template.pathArgs()).containsExactly(ArgumentName.of("foo"), ArgumentName.of("bar"));
+    }
+
+    @Test
+    public void testRootPath() {
+        HttpPathTemplate template = HttpPathTemplate.parse("/");
+
+        assertThat(template.segments()).isEmpty();
+        assertThat(template.variableNames()).isEmpty();
+        assertThat(template.routeKey()).isEqualTo("/");
+    }
+
+    @Test
+    public void testVariableNamesKeepDuplicates() {
+        assertThat(HttpPathTemplate.parse("/path/{arg}/{arg}").variableNames()).containsExactly("arg", "arg");
+    }
+
+    @Test
+    public void testMalformedVariablesAreLiterals() {
+        assertThat(HttpPathTemplate.parse("/path/{{arg}}/{{arg}/{}").segments())
+                .noneMatch(HttpPathTemplate.Segment::isVariable);
+    }
+
+    @Test
+    public void testRouteKeyIgnoresVariableNamesAndRegexes() {
+        assertThat(HttpPathTemplate.parse("/path/{arg}/resolve/{arg2}").routeKey())
+                .isEqualTo(HttpPathTemplate.parse("/path/{other}/resolve/{other2:.+}").routeKey())
+                .isEqualTo("/path/{arg}/resolve/{arg}");
+        assertThat(HttpPathTemplate.parse("/path/{arg}/resolve").routeKey())
+                .isNotEqualTo(HttpPathTemplate.parse("/path/arg/resolve").routeKey());
+    }
+}
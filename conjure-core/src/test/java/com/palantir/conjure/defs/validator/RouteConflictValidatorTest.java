@@ -0,0 +1,143 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.defs.validator;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.conjure.exceptions.ConjureIllegalStateException;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.EndpointDefinition;
+import com.palantir.conjure.spec.EndpointName;
+import com.palantir.conjure.spec.HttpMethod;
+import com.palantir.conjure.spec.HttpPath;
+import com.palantir.conjure.spec.ServiceDefinition;
+import com.palantir.conjure.spec.TypeName;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+public final class RouteConflictValidatorTest {
+
+    @Test
+    public void testDistinctRoutes() {
+        assertThatCode(() -> validate(
+                        service("ServiceA", endpoint("a", HttpMethod.GET, "/a/{id}")),
+                        service("ServiceB", endpoint("b", HttpMethod.GET, "/b/{id}")),
+                        service("ServiceC", endpoint("c", HttpMethod.POST, "/a/{id}"))))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    public void testSameServiceIsIgnored() {
+        assertThatCode(() -> validate(service(
+                        "ServiceA",
+                        endpoint("a", HttpMethod.GET, "/path/{arg:.+}"),
+                        endpoint("b", HttpMethod.GET, "/path/another/{arg:.+}"))))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    public void testIdenticalRoutes() {
+        assertThatThrownBy(() -> validate(
+                        service("ServiceA", endpoint("a", HttpMethod.GET, "/path/{arg}")),
+                        service("ServiceB", endpoint("b", HttpMethod.GET, "/path/{other}"))))
+                .isInstanceOf(ConjureIllegalStateException.class)
+                .hasMessage("Endpoints of different services have overlapping routes:\n"
+                        + " - GET /path/{arg} (com.palantir.product.ServiceA.a)"
+                        + " and GET /path/{other} (com.palantir.product.ServiceB.b)");
+    }
+
+    @Test
+    public void testParameterAndLiteral() {
+        assertThatThrownBy(() -> validate(
+                        service("ServiceA", endpoint("a", HttpMethod.GET, "/path/{arg}/resolve")),
+                        service("ServiceB", endpoint("b", HttpMethod.GET, "/path/literal/resolve"))))
+                .isInstanceOf(ConjureIllegalStateException.class)
+                .hasMessage("Endpoints of different services have overlapping routes:\n"
+                        + " - GET /path/literal/resolve (com.palantir.product.ServiceB.b)"
+                        + " and GET /path/{arg}/resolve (com.palantir.product.ServiceA.a)");
+    }
+
+    @Test
+    public void testGreedyTails() {
+        assertThatThrownBy(() -> validate(
+                        service("ServiceA", endpoint("a", HttpMethod.GET, "/files/{path:.+}")),
+                        service(
+                                "ServiceB",
+                                endpoint("b", HttpMethod.GET, "/files/{id}/content"),
+                                endpoint("c", HttpMethod.GET, "/files")),
+                        service("ServiceC", endpoint("d", HttpMethod.GET, "/files/{rest:.*}"))))
+                .isInstanceOf(ConjureIllegalStateException.class)
+                .hasMessage("Endpoints of different services have overlapping routes:\n"
+                        + " - GET /files (com.palantir.product.ServiceB.c)"
+                        + " and GET /files/{rest:.*} (com.palantir.product.ServiceC.d)\n"
+                        + " - GET /files/{id}/content (com.palantir.product.ServiceB.b)"
+                        + " and GET /files/{path:.+} (com.palantir.product.ServiceA.a)\n"
+                        + " - GET /files/{id}/content (com.palantir.product.ServiceB.b)"
+                        + " and GET /files/{rest:.*} (com.palantir.product.ServiceC.d)\n"
+                        + " - GET /files/{path:.+} (com.palantir.product.ServiceA.a)"
+                        + " and GET /files/{rest:.*} (com.palantir.product.ServiceC.d)");
+    }
+
+    @Test
+    public void testSameNamedServicesOfDifferentPackages() {
+        assertThatThrownBy(() -> validate(
+                        service("ServiceA", endpoint("a", HttpMethod.GET, "/path/{arg}")),
+                        service(
+                                TypeName.of("ServiceA", "com.palantir.other"),
+                                endpoint("b", HttpMethod.GET, "/path/{other}"))))
+                .isInstanceOf(ConjureIllegalStateException.class)
+                .hasMessage("Endpoints of different services have overlapping routes:\n"
+                        + " - GET /path/{arg} (com.palantir.product.ServiceA.a) and GET /path/{other}"
+                        + " (com.palantir.other.ServiceA.b)");
+    }
+
+    @Test
+    public void testDifferentLengths() {
+        assertThatCode(() -> validate(
+                        service("ServiceA", endpoint("a", HttpMethod.GET, "/path/{arg}")),
+                        service("ServiceB", endpoint("b", HttpMethod.GET, "/path/{arg}/more")),
+                        service("ServiceC", endpoint("c", HttpMethod.GET, "/path"))))
+                .doesNotThrowAnyException();
+    }
+
+    private static void validate(ServiceDefinition... services) {
+        RouteConflictValidator.INSTANCE.validate(ConjureDefinition.builder()
+                .version(1)
+                .services(Arrays.asList(services))
+                .build());
+    }
+
+    private static ServiceDefinition service(String name, EndpointDefinition... endpoints) {
+        return service(TypeName.of(name, "com.palantir.product"), endpoints);
+    }
+
+    private static ServiceDefinition service(TypeName name, EndpointDefinition... endpoints) {
+        return ServiceDefinition.builder()
+                .serviceName(name)
+                .endpoints(Arrays.asList(endpoints))
+                .build();
+    }
+
+    private static EndpointDefinition endpoint(String name, HttpMethod method, String path) {
+        return EndpointDefinition.builder()
+                .endpointName(EndpointName.of(name))
+                .httpMethod(method)
+                .httpPath(HttpPath.of(path))
+                .build();
+    }
+}
@@ -266,6 +266,33 @@ public class ConjureParserTest {
         assertThat(result.types().conjureImports()).isNotEmpty();
     }
 
+    @Test
+    public void testParallelParseMatchesSequential() throws IOException {
+        List<String> inners = ImmutableList.of("innerOne", "innerTwo", "innerThree", "innerFour");
+        List<String> mid = ImmutableList.of("midOne", "midTwo", "midThree");
+        generateFiles(inners, ImmutableList.of());
+        generateFiles(mid, inners);
+        generateFiles(ImmutableList.of("root"), mid);
+
+        List<File> roots = ImmutableList.of(
+                temporaryFolder.resolve("root.yml").toFile(),
+                new File("src/test/resources/example-conjure-imports.yml"));
+        assertThat(ConjureParser.parseAnnotated(roots, 4)).isEqualTo(ConjureParser.parseAnnotated(roots));
+    }
+
+    @Test
+    public void testParallelParseImportNotFoundException() {
+        File file = new File("src/test/resources/imports-file-that-does-not-exist.yml");
+        File missingFile = new File("src/test/resources/does-not-exist.yml");
+
+        String expectedMessage = "Import not found: " + missingFile.getAbsolutePath() + " (imported from "
+                + file.getAbsolutePath() + ")";
+
+        assertThatThrownBy(() -> ConjureParser.parseAnnotated(ImmutableList.of(file), 4))
+                .isInstanceOf(ConjureParser.ImportNotFoundException.class)
+                .hasMessage(expectedMessage);
+    }
+
     private void generateFiles(List<String> names, List<String> importedNamespaces) throws IOException {
         for (String name : names) {
             Path file = temporaryFolder.resolve(name + ".yml");
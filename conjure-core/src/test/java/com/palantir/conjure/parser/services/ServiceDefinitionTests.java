@@ -69,6 +69,22 @@ public final class ServiceDefinitionTests {
                 .isEqualTo(ArgumentDefinition.of(PrimitiveType.STRING, "docs"));
     }
 
+    @Test
+    public void testEndpointError_fromString() throws IOException {
+        EndpointError error = EndpointError.of(LocalReferenceType.of(TypeName.of("MyError")));
+        assertThat(mapper.readValue("MyError", EndpointError.class)).isEqualTo(error);
+        assertThat(EndpointError.fromString("MyError")).isEqualTo(error);
+    }
+
+    @Test
+    public void testEndpointError_withDocs() throws IOException {
+        assertThat(mapper.readValue(multiLineString("error: MyError", "docs: docs"), EndpointError.class))
+                .isEqualTo(ImmutableEndpointError.builder()
+                        .error(LocalReferenceType.of(TypeName.of("MyError")))
+                        .docs("docs")
+                        .build());
+    }
+
     @Test
     public void testEndpointDefinition_optionals() throws IOException {
         assertThat(mapper.readValue("http: GET /", EndpointDefinition.class))
@@ -0,0 +1,57 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.parser.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.parsec.ParseException;
+import org.junit.jupiter.api.Test;
+
+public final class TypeExpressionCacheTest {
+
+    @Test
+    public void testReusesParsedTypes() throws ParseException {
+        TypeExpressionCache cache = new TypeExpressionCache();
+        ConjureType first = cache.parse("map<string, list<Foo>>");
+        ConjureType second = cache.parse("map<string, list<Foo>>");
+
+        assertThat(first).isEqualTo(TypeParser.INSTANCE.parse("map<string, list<Foo>>"));
+        assertThat(second).isSameAs(first);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDoesNotCacheFailures() {
+        TypeExpressionCache cache = new TypeExpressionCache();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertThatThrownBy(() -> cache.parse("string[]")).isInstanceOf(ParseException.class);
+        }
+        assertThat(cache.missCount()).isEqualTo(2);
+        assertThat(cache.hitCount()).isZero();
+    }
+
+    @Test
+    public void testIsBounded() throws ParseException {
+        TypeExpressionCache cache = new TypeExpressionCache(1);
+        cache.parse("optional<string>");
+        cache.parse("set<string>");
+        cache.parse("optional<string>");
+
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+}
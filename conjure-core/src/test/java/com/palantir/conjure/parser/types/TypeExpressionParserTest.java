@@ -0,0 +1,125 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.parser.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.parsec.ParseException;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/** Checks that {@link TypeExpressionParser} behaves exactly like the reference {@link TypeParser}. */
+public final class TypeExpressionParserTest {
+
+    private static final List<String> TOKENS = List.of(
+            "map", "list", "set", "optional", "any", "binary", "datetime", "string", "integer", "rid", "Foo", "foo",
+            "bar_1", "1_bar", "$", "é", ".", "<", ">", ",", " ", "\t", "\n", "1", "_");
+
+    @ParameterizedTest
+    @MethodSource("expressions")
+    public void testMatchesTypeParser(String expression) {
+        assertMatchesTypeParser(expression);
+    }
+
+    @Test
+    public void testMatchesTypeParserOnRandomExpressions() {
+        Random random = new Random(4242);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder expression = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int token = 0; token < length; token++) {
+                expression.append(TOKENS.get(random.nextInt(TOKENS.size())));
+            }
+            assertMatchesTypeParser(expression.toString());
+        }
+    }
+
+    @Test
+    public void testReportsErrorPosition() {
+        assertThatThrownBy(() -> TypeExpressionParser.parse("map<string, list<Foo>"))
+                .isInstanceOf(ParseException.class)
+                .hasMessage("Expected end token \">\" for map\nmap<string, list<Foo>\n                     ^");
+    }
+
+    private static Stream<String> expressions() {
+        return Stream.of(
+                "",
+                " ",
+                "string",
+                "Foo",
+                "any",
+                "anything",
+                "binary",
+                "datetime",
+                "bar.Foo",
+                "bar_1.Foo",
+                "1_bar.Foo",
+                ".Foo",
+                "bar.",
+                "bar.Foo.Baz",
+                "list<string>",
+                "list < string >",
+                "list string",
+                "list<>",
+                "list<string",
+                "listing",
+                "set<list<string>>",
+                "setFoo<string>",
+                "optional<string>",
+                "optional<>",
+                "optional<string",
+                "map<string, string>",
+                "map < string , string >",
+                "map<string>",
+                "map<string,>",
+                "map<string, list<Foo>",
+                "map<,string>",
+                "map<list<1_bar>, string>",
+                "map<string, bar.Foo>",
+                "string[]",
+                " string",
+                "string ",
+                "list<string>\n>",
+                "$foo");
+    }
+
+    private static void assertMatchesTypeParser(String expression) {
+        ConjureType expected;
+        try {
+            expected = TypeParser.INSTANCE.parse(expression);
+        } catch (ParseException e) {
+            assertThatThrownBy(() -> TypeExpressionParser.parse(expression))
+                    .describedAs("Parsing '%s'", expression)
+                    .isInstanceOf(ParseException.class)
+                    .hasMessage(e.getMessage());
+            return;
+        }
+        assertThat(parse(expression)).describedAs("Parsing '%s'", expression).isEqualTo(expected);
+    }
+
+    private static ConjureType parse(String expression) {
+        try {
+            return TypeExpressionParser.parse(expression);
+        } catch (ParseException e) {
+            throw new AssertionError("Failed to parse '" + expression + "'", e);
+        }
+    }
+}
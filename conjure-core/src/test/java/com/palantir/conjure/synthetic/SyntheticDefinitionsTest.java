@@ -0,0 +1,99 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.synthetic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.defs.Conjure;
+import com.palantir.conjure.defs.ConjureArgs;
+import com.palantir.conjure.defs.SafetyDeclarationRequirements;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public final class SyntheticDefinitionsTest {
+
+    @TempDir
+    public File folder;
+
+    @Test
+    public void generatedDefinitionsPassValidation() throws IOException {
+        SyntheticDefinitionConfig config = SyntheticDefinitionConfig.builder()
+                .files(20)
+                .objectsPerFile(5)
+                .unionsPerFile(2)
+                .enumsPerFile(3)
+                .aliasesPerFile(4)
+                .errorsPerFile(2)
+                .externalImportsPerFile(2)
+                .servicesPerFile(2)
+                .endpointsPerService(6)
+                .importFanOut(3)
+                .importFanIn(2)
+                .build();
+
+        ConjureDefinition definition = Conjure.parse(ConjureArgs.builder()
+                .definitions(SyntheticDefinitions.write(folder.toPath(), config))
+                .safetyDeclarations(SafetyDeclarationRequirements.ALLOWED)
+                .build());
+
+        assertThat(definition.getTypes()).hasSize(20 * (5 + 2 + 3 + 4));
+        assertThat(definition.getErrors()).hasSize(20 * 2);
+        assertThat(definition.getServices()).hasSize(20 * 2);
+        assertThat(definition.getServices()).allSatisfy(service -> assertThat(service.getEndpoints()).hasSize(6));
+    }
+
+    @Test
+    public void generatesDefinitionsWithoutTypes() throws IOException {
+        SyntheticDefinitionConfig config = SyntheticDefinitionConfig.builder()
+                .files(3)
+                .objectsPerFile(0)
+                .unionsPerFile(0)
+                .enumsPerFile(0)
+                .aliasesPerFile(0)
+                .importFanOut(1)
+                .build();
+
+        ConjureDefinition definition = Conjure.parse(SyntheticDefinitions.write(folder.toPath(), config));
+
+        assertThat(definition.getTypes()).isEmpty();
+        assertThat(definition.getServices()).allSatisfy(service -> assertThat(service.getEndpoints()).hasSize(5));
+    }
+
+    @Test
+    public void importGraphHasRequestedFanInAndFanOut() {
+        assertThat(importGraph(5, 1, 1)).containsExactly(List.of(1), List.of(2), List.of(3), List.of(4), List.of());
+        assertThat(importGraph(5, 4, 1))
+                .containsExactly(List.of(1, 2, 3, 4), List.of(), List.of(), List.of(), List.of());
+        assertThat(importGraph(7, 2, 1))
+                .containsExactly(
+                        List.of(1, 2), List.of(3, 4), List.of(5, 6), List.of(), List.of(), List.of(), List.of());
+        assertThat(importGraph(7, 2, 3))
+                .containsExactly(
+                        List.of(3, 4), List.of(3, 4), List.of(3, 4), List.of(6), List.of(6), List.of(6), List.of());
+    }
+
+    private static List<List<Integer>> importGraph(int files, int fanOut, int fanIn) {
+        return SyntheticDefinitions.importGraph(SyntheticDefinitionConfig.builder()
+                .files(files)
+                .importFanOut(fanOut)
+                .importFanIn(fanIn)
+                .build());
+    }
+}
@@ -19,6 +19,7 @@ package com.palantir.parsec.tests;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.palantir.logsafe.exceptions.SafeUnsupportedOperationException;
 import com.palantir.parsec.ParseException;
 import com.palantir.parsec.Parser;
 import com.palantir.parsec.ParserState;
@@ -205,6 +206,158 @@ public final class TestUnitParsers {
                 .hasSuppressedException(new IllegalStateException("bad thing"));
     }
 
+    @Test
+    public void testOrParserSkipsOptionsWhichCannotStartWithNextCharacter() throws ParseException {
+        Parser<String> onlyQuoted = new Parser<String>() {
+            @Override
+            public String parse(ParserState input) {
+                throw new IllegalStateException("should have been skipped");
+            }
+
+            @Override
+            public String description() {
+                return "only quoted";
+            }
+
+            @Override
+            public boolean mayStartWith(int character) {
+                return character == '"';
+            }
+        };
+
+        assertThat(Parsers.or("or", onlyQuoted, new RawStringParser()).parse(new StringParserState("abc")))
+                .isEqualTo("abc");
+        assertThat(Parsers.or("or", onlyQuoted, new RawStringParser()).parse(new StringParserState("")))
+                .isNull();
+        assertThatThrownBy(() -> Parsers.or("or", onlyQuoted).parse(new StringParserState("\"abc\"")))
+                .isInstanceOf(ParseException.class)
+                .hasMessageStartingWith("should have been skipped");
+    }
+
+    @Test
+    public void testExpectantParserLeavesPositionOnMismatch() {
+        StringParserState state = new StringParserState("abcdeg");
+
+        assertThat(new ExpectantParser("abcdef").parse(state)).isEqualTo(ExpectationResult.INCORRECT);
+        assertThat(state.getCharPosition()).isZero();
+        assertThat(new ExpectantParser("abc").parse(state)).isEqualTo(ExpectationResult.CORRECT);
+        assertThat(state.getCharPosition()).isEqualTo(3);
+    }
+
+    @Test
+    public void testRegion() {
+        StringParserState state = new StringParserState("abc def");
+        CharSequence region = state.region(4, 7);
+
+        assertThat(region.length()).isEqualTo(3);
+        assertThat(region.charAt(1)).isEqualTo('e');
+        assertThat(region.subSequence(1, 3).toString()).isEqualTo("ef");
+        assertThat(region.toString()).isEqualTo("def");
+        assertThatThrownBy(() -> region.charAt(3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> state.region(4, 8)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testDefaultRegionRereadsInput() {
+        ParserState state = new MinimalParserState("abc def") {
+            @Override
+            public boolean canRewind() {
+                return true;
+            }
+
+            @Override
+            public void rewindTo(int charPosition) {
+                delegate.rewindTo(charPosition);
+            }
+        };
+        state.rewindTo(5);
+
+        assertThat(state.region(4, 7).toString()).isEqualTo("def");
+        assertThat(state.getCharPosition()).isEqualTo(5);
+        assertThatThrownBy(() -> state.region(4, 8)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testDefaultRewindToOnlyMovesForward() {
+        ParserState state = new MinimalParserState("abc def");
+        state.rewindTo(4);
+
+        assertThat(state.curr()).isEqualTo('d');
+        assertThatThrownBy(() -> state.rewindTo(0)).isInstanceOf(SafeUnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testBacktracksWithMarkWhereStateCannotRewind() throws ParseException {
+        Parser<String> consumesThenFails = new Parser<String>() {
+            @Override
+            public String parse(ParserState input) {
+                input.next();
+                input.next();
+                throw new IllegalStateException("failed after consuming input");
+            }
+
+            @Override
+            public String description() {
+                return "consumes then fails";
+            }
+        };
+        ParserState state = new MinimalParserState("abc def");
+
+        assertThat(Parsers.or("or", consumesThenFails, new RawStringParser()).parse(state))
+                .isEqualTo("abc");
+        assertThat(Parsers.gingerly(new ExpectantParser(" dex")).parse(state)).isEqualTo(ExpectationResult.INCORRECT);
+        assertThat(state.getCharPosition()).isEqualTo(3);
+    }
+
+    @Test
+    public void testDefaultConsumeRewindsWithMark() {
+        ParserState state = new MinimalParserState("abc def");
+
+        assertThat(state.consume("abd")).isFalse();
+        assertThat(state.getCharPosition()).isZero();
+        assertThat(state.consume("abc")).isTrue();
+        assertThat(state.getCharPosition()).isEqualTo(3);
+    }
+
+    /** Implements only the methods every {@link ParserState} had to implement before rewindTo and region. */
+    private static class MinimalParserState implements ParserState {
+        protected final StringParserState delegate;
+
+        MinimalParserState(String input) {
+            this.delegate = new StringParserState(input);
+        }
+
+        @Override
+        public int curr() {
+            return delegate.curr();
+        }
+
+        @Override
+        public int next() {
+            return delegate.next();
+        }
+
+        @Override
+        public MarkedLocation mark() {
+            return delegate.mark();
+        }
+
+        @Override
+        public int getCharPosition() {
+            return delegate.getCharPosition();
+        }
+
+        @Override
+        public String fetchSnippetForException() {
+            return delegate.fetchSnippetForException();
+        }
+
+        @Override
+        public ParserState snapshot() {
+            return delegate.snapshot();
+        }
+    }
+
     private static final Parser<String> rsp = Parsers.prefix(Parsers.whitespace(), new RawStringParser());
     private static final Parser<Boolean> bp = Parsers.prefix(Parsers.whitespace(), new BooleanParser());
 
@@ -0,0 +1,110 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.synthetic;
+
+import com.palantir.conjure.defs.ConjureImmutablesStyle;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import org.immutables.value.Value;
+
+/** Shape of the definitions written by {@link SyntheticDefinitions}. Every count applies to each file separately. */
+@Value.Immutable
+@ConjureImmutablesStyle
+public interface SyntheticDefinitionConfig {
+
+    /** Number of YAML files to write. */
+    @Value.Default
+    default int files() {
+        return 1;
+    }
+
+    @Value.Default
+    default int objectsPerFile() {
+        return 10;
+    }
+
+    @Value.Default
+    default int unionsPerFile() {
+        return 2;
+    }
+
+    @Value.Default
+    default int enumsPerFile() {
+        return 2;
+    }
+
+    @Value.Default
+    default int aliasesPerFile() {
+        return 2;
+    }
+
+    @Value.Default
+    default int errorsPerFile() {
+        return 1;
+    }
+
+    /** Number of external types declared under {@code types.imports}. */
+    @Value.Default
+    default int externalImportsPerFile() {
+        return 1;
+    }
+
+    @Value.Default
+    default int servicesPerFile() {
+        return 1;
+    }
+
+    @Value.Default
+    default int endpointsPerService() {
+        return 5;
+    }
+
+    /** Number of other files each importing file declares under {@code conjure-imports}. */
+    @Value.Default
+    default int importFanOut() {
+        return 0;
+    }
+
+    /** Number of files importing each imported file. */
+    @Value.Default
+    default int importFanIn() {
+        return 1;
+    }
+
+    @Value.Check
+    default void check() {
+        Preconditions.checkArgument(files() > 0, "files must be positive", SafeArg.of("files", files()));
+        Preconditions.checkArgument(
+                objectsPerFile() >= 0
+                        && unionsPerFile() >= 0
+                        && enumsPerFile() >= 0
+                        && aliasesPerFile() >= 0
+                        && errorsPerFile() >= 0
+                        && externalImportsPerFile() >= 0
+                        && servicesPerFile() >= 0
+                        && endpointsPerService() >= 0
+                        && importFanOut() >= 0,
+                "counts must not be negative");
+        Preconditions.checkArgument(
+                importFanIn() > 0, "importFanIn must be positive", SafeArg.of("importFanIn", importFanIn()));
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    class Builder extends ImmutableSyntheticDefinitionConfig.Builder {}
+}
@@ -0,0 +1,274 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.synthetic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Writes large, valid conjure definitions for benchmarks and stress tests, shaped by a
+ * {@link SyntheticDefinitionConfig}.
+ *
+ * <p>Files are grouped into consecutive blocks of {@link SyntheticDefinitionConfig#importFanIn()} files. All files of a
+ * block import the same {@link SyntheticDefinitionConfig#importFanOut()} files, which follow the block and are imported
+ * by no other file, until every file has been imported once. A fan-in and fan-out of 1 therefore yields a chain of
+ * imports, a fan-in of 1 a tree, and a fan-out of {@code files - 1} a star. Imports only ever point to later files, so
+ * the import graph is acyclic.
+ *
+ * <p>Within a file, objects reference later objects of the same file, enums, aliases, external imports and the first
+ * type of an imported file; unions reference objects. Endpoints take and return objects and declare local and imported
+ * errors. No type is recursive and all names are unique, so the output passes every validator.
+ */
+public final class SyntheticDefinitions {
+
+    private SyntheticDefinitions() {}
+
+    /** Writes the definitions into {@code directory} and returns every written file, in order. */
+    public static List<File> write(Path directory, SyntheticDefinitionConfig config) throws IOException {
+        List<List<Integer>> imports = importGraph(config);
+        List<File> files = new ArrayList<>(config.files());
+        for (int index = 0; index < config.files(); index++) {
+            Path file = directory.resolve(fileName(index));
+            Files.writeString(file, new FileWriter(config, index, imports.get(index)).write(), StandardCharsets.UTF_8);
+            files.add(file.toFile());
+        }
+        return files;
+    }
+
+    /** Returns the indices of the files imported by each file. */
+    static List<List<Integer>> importGraph(SyntheticDefinitionConfig config) {
+        List<List<Integer>> imports = new ArrayList<>(config.files());
+        int nextTarget = 1;
+        for (int blockStart = 0; blockStart < config.files(); blockStart += config.importFanIn()) {
+            int blockEnd = Math.min(blockStart + config.importFanIn(), config.files());
+            nextTarget = Math.max(nextTarget, blockEnd);
+            List<Integer> targets = new ArrayList<>(config.importFanOut());
+            while (targets.size() < config.importFanOut() && nextTarget < config.files()) {
+                targets.add(nextTarget++);
+            }
+            for (int index = blockStart; index < blockEnd; index++) {
+                imports.add(targets);
+            }
+        }
+        return imports;
+    }
+
+    private static String fileName(int index) {
+        return "f" + index + ".yml";
+    }
+
+    private static final class FileWriter {
+        private final SyntheticDefinitionConfig config;
+        private final String prefix;
+        private final List<Integer> imports;
+        private final StringBuilder yaml = new StringBuilder();
+
+        private FileWriter(SyntheticDefinitionConfig config, int index, List<Integer> imports) {
+            this.config = config;
+            this.prefix = prefix(index);
+            this.imports = imports;
+        }
+
+        String write() {
+            line(0, "types:");
+            if (!imports.isEmpty()) {
+                line(1, "conjure-imports:");
+                imports.forEach(imported -> line(2, namespace(imported) + ": " + fileName(imported)));
+            }
+            if (config.externalImportsPerFile() > 0) {
+                line(1, "imports:");
+                for (int i = 0; i < config.externalImportsPerFile(); i++) {
+                    line(2, prefix + "External" + i + ":");
+                    line(3, "base-type: string");
+                    line(3, "external:");
+                    line(4, "java: com.palantir.synthetic.external.External" + i);
+                }
+            }
+            line(1, "definitions:");
+            line(2, "default-package: " + packageName());
+            writeObjects();
+            writeErrors();
+            writeServices();
+            return yaml.toString();
+        }
+
+        private void writeObjects() {
+            if (config.aliasesPerFile() == 0
+                    && config.enumsPerFile() == 0
+                    && config.objectsPerFile() == 0
+                    && config.unionsPerFile() == 0) {
+                return;
+            }
+            line(2, "objects:");
+            for (int i = 0; i < config.aliasesPerFile(); i++) {
+                line(3, prefix + "Alias" + i + ":");
+                line(4, "alias: " + List.of("string", "list<string>", "map<string, integer>").get(i % 3));
+            }
+            for (int i = 0; i < config.enumsPerFile(); i++) {
+                line(3, prefix + "Enum" + i + ":");
+                line(4, "values:");
+                line(5, "- FIRST_VALUE");
+                line(5, "- SECOND_VALUE");
+                line(5, "- VALUE_" + i);
+            }
+            for (int i = 0; i < config.objectsPerFile(); i++) {
+                line(3, prefix + "Object" + i + ":");
+                line(4, "fields:");
+                line(5, "id:");
+                line(6, "type: string");
+                line(6, "safety: safe");
+                line(5, "count: integer");
+                line(5, "tags: set<string>");
+                line(5, "createdAt: optional<datetime>");
+                if (i + 1 < config.objectsPerFile()) {
+                    line(5, "next: optional<" + prefix + "Object" + (i + 1) + ">");
+                }
+                if (config.enumsPerFile() > 0) {
+                    line(5, "kind: " + prefix + "Enum" + (i % config.enumsPerFile()));
+                }
+                if (config.aliasesPerFile() > 0) {
+                    line(5, "alias: list<" + prefix + "Alias" + (i % config.aliasesPerFile()) + ">");
+                }
+                if (config.externalImportsPerFile() > 0) {
+                    line(5, "external: " + prefix + "External" + (i % config.externalImportsPerFile()));
+                }
+                if (!imports.isEmpty()) {
+                    int imported = imports.get(i % imports.size());
+                    firstType(imported).ifPresent(type -> line(5, "imported: map<string, " + type + ">"));
+                }
+            }
+            for (int i = 0; i < config.unionsPerFile(); i++) {
+                line(3, prefix + "Union" + i + ":");
+                line(4, "union:");
+                line(5, "text: string");
+                line(5, "values: list<integer>");
+                if (config.objectsPerFile() > 0) {
+                    line(5, "object: " + prefix + "Object" + (i % config.objectsPerFile()));
+                }
+            }
+        }
+
+        private void writeErrors() {
+            if (config.errorsPerFile() == 0) {
+                return;
+            }
+            line(2, "errors:");
+            for (int i = 0; i < config.errorsPerFile(); i++) {
+                line(3, prefix + "Error" + i + ":");
+                line(4, "namespace: " + prefix + "Synthetic");
+                line(4, "code: " + (i % 2 == 0 ? "INVALID_ARGUMENT" : "NOT_FOUND"));
+                line(4, "safe-args:");
+                line(5, "id: string");
+                line(4, "unsafe-args:");
+                line(5, "value: optional<string>");
+            }
+        }
+
+        private void writeServices() {
+            if (config.servicesPerFile() == 0) {
+                return;
+            }
+            line(0, "services:");
+            for (int s = 0; s < config.servicesPerFile(); s++) {
+                line(1, prefix + "Service" + s + ":");
+                line(2, "name: " + prefix + " Service " + s);
+                line(2, "package: " + packageName());
+                line(2, "base-path: /" + prefix.toLowerCase(Locale.ROOT) + "/s" + s);
+                line(2, "default-auth: header");
+                if (config.endpointsPerService() > 0) {
+                    line(2, "endpoints:");
+                }
+                for (int e = 0; e < config.endpointsPerService(); e++) {
+                    writeEndpoint(e);
+                }
+            }
+        }
+
+        private void writeEndpoint(int index) {
+            Optional<String> object = config.objectsPerFile() > 0
+                    ? Optional.of(prefix + "Object" + (index % config.objectsPerFile()))
+                    : Optional.empty();
+            boolean post = index % 2 == 1;
+            line(3, "endpoint" + index + ":");
+            line(4, "http: " + (post ? "POST" : "GET") + " /e" + index + "/{id}");
+            line(4, "args:");
+            line(5, "id:");
+            line(6, "type: string");
+            line(6, "safety: safe");
+            line(5, "limit:");
+            line(6, "type: optional<integer>");
+            line(6, "param-type: query");
+            line(5, "traceId:");
+            line(6, "type: optional<string>");
+            line(6, "param-type: header");
+            line(6, "param-id: X-Trace-Id");
+            if (post) {
+                line(5, "body: " + object.orElse("string"));
+            }
+            line(4, "returns: " + object.map(type -> "optional<" + type + ">").orElse("string"));
+            List<String> errors = new ArrayList<>();
+            if (config.errorsPerFile() > 0) {
+                errors.add(prefix + "Error" + (index % config.errorsPerFile()));
+                if (!imports.isEmpty()) {
+                    int imported = imports.get(index % imports.size());
+                    errors.add(namespace(imported) + "." + prefix(imported) + "Error0");
+                }
+            }
+            if (!errors.isEmpty()) {
+                line(4, "errors:");
+                errors.forEach(error -> line(5, "- " + error));
+            }
+        }
+
+        /** The type of an imported file that objects reference, if it declares any. */
+        private Optional<String> firstType(int imported) {
+            String namespacePrefix = namespace(imported) + "." + prefix(imported);
+            if (config.objectsPerFile() > 0) {
+                return Optional.of(namespacePrefix + "Object0");
+            } else if (config.unionsPerFile() > 0) {
+                return Optional.of(namespacePrefix + "Union0");
+            } else if (config.enumsPerFile() > 0) {
+                return Optional.of(namespacePrefix + "Enum0");
+            } else if (config.aliasesPerFile() > 0) {
+                return Optional.of(namespacePrefix + "Alias0");
+            }
+            return Optional.empty();
+        }
+
+        private String packageName() {
+            return "com.palantir.synthetic." + prefix.toLowerCase(Locale.ROOT);
+        }
+
+        private void line(int indent, String content) {
+            yaml.append("  ".repeat(indent)).append(content).append('\n');
+        }
+
+        private static String prefix(int index) {
+            return "F" + index;
+        }
+
+        private static String namespace(int index) {
+            return "f" + index;
+        }
+    }
+}
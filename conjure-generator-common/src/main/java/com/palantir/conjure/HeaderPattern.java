@@ -0,0 +1,57 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure;
+
+import com.google.errorprone.annotations.Immutable;
+
+/** Param-ids of header parameters, e.g. {@code X-Foo-Bar}. */
+@Immutable
+public enum HeaderPattern implements SimplifiedPattern {
+    INSTANCE;
+
+    @Override
+    public String pattern() {
+        return "^[A-Z][a-zA-Z0-9]*(-[A-Z][a-zA-Z0-9]*)*$";
+    }
+
+    @Override
+    public boolean matches(String value) {
+        int len = value.length();
+        if (len == 0) {
+            return false;
+        }
+
+        // The first char and every char following a '-' must be uppercase
+        boolean expectUpper = true;
+        for (int i = 0; i < len; i++) {
+            char curChar = value.charAt(i);
+
+            if (expectUpper) {
+                if (!CharUtils.isUpper(curChar)) {
+                    return false;
+                }
+                expectUpper = false;
+            } else if (curChar == '-') {
+                expectUpper = true;
+            } else if (!CharUtils.isLower(curChar) && !CharUtils.isUpper(curChar) && !CharUtils.isNumeric(curChar)) {
+                return false;
+            }
+        }
+
+        return !expectUpper;
+    }
+}
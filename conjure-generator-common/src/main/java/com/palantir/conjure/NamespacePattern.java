@@ -0,0 +1,51 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure;
+
+import com.google.errorprone.annotations.Immutable;
+
+/** Namespaces of conjure imports, e.g. {@code my_Imports2}. */
+@Immutable
+public enum NamespacePattern implements SimplifiedPattern {
+    INSTANCE;
+
+    @Override
+    public String pattern() {
+        return "^[_a-zA-Z][_a-zA-Z0-9]*$";
+    }
+
+    @Override
+    public boolean matches(String value) {
+        int len = value.length();
+        if (len == 0 || !isLetterOrUnderscore(value.charAt(0))) {
+            return false;
+        }
+
+        for (int i = 1; i < len; i++) {
+            char curChar = value.charAt(i);
+            if (!isLetterOrUnderscore(curChar) && !CharUtils.isNumeric(curChar)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isLetterOrUnderscore(char ch) {
+        return ch == '_' || CharUtils.isLower(ch) || CharUtils.isUpper(ch);
+    }
+}
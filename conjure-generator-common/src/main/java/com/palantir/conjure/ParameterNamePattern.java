@@ -0,0 +1,62 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure;
+
+import com.google.errorprone.annotations.Immutable;
+
+/** Names of path parameters, e.g. {@code fooBar2}. */
+@Immutable
+public enum ParameterNamePattern implements SimplifiedPattern {
+    INSTANCE;
+
+    @Override
+    public String pattern() {
+        return "[a-z][a-z0-9]*([A-Z0-9][a-z0-9]+)*";
+    }
+
+    @Override
+    public boolean matches(String value) {
+        return matches(value, 0, value.length());
+    }
+
+    /** Whether the chars of {@code value} between {@code start} (inclusive) and {@code end} (exclusive) match. */
+    static boolean matches(String value, int start, int end) {
+        if (start >= end || !CharUtils.isLower(value.charAt(start))) {
+            return false;
+        }
+
+        // Numeric chars may either continue a word or start a new one, so the only constraint is that every
+        // uppercase char is followed by at least one lowercase or numeric char
+        boolean previousIsUpper = false;
+        for (int i = start + 1; i < end; i++) {
+            char curChar = value.charAt(i);
+
+            if (CharUtils.isUpper(curChar)) {
+                if (previousIsUpper) {
+                    return false;
+                }
+                previousIsUpper = true;
+            } else if (CharUtils.isLower(curChar) || CharUtils.isNumeric(curChar)) {
+                previousIsUpper = false;
+            } else {
+                return false;
+            }
+        }
+
+        return !previousIsUpper;
+    }
+}
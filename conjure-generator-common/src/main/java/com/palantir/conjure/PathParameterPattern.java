@@ -0,0 +1,61 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure;
+
+import com.google.errorprone.annotations.Immutable;
+
+/** Parameter segments of http paths, e.g. {@code {fooBar}}, optionally with a {@code :.+} or {@code :.*} regex. */
+@Immutable
+public enum PathParameterPattern implements SimplifiedPattern {
+    /** A parameter without a regex, e.g. {@code {fooBar}}. */
+    PLAIN("^\\{" + ParameterNamePattern.INSTANCE.pattern() + "}$"),
+    /** A parameter with one of the permitted regexes, e.g. {@code {fooBar:.+}}. */
+    WITH_REGEX("^\\{" + ParameterNamePattern.INSTANCE.pattern() + "(\\Q:.+\\E|\\Q:.*\\E)}$");
+
+    private final String pattern;
+
+    PathParameterPattern(String pattern) {
+        this.pattern = pattern;
+    }
+
+    @Override
+    public String pattern() {
+        return pattern;
+    }
+
+    @Override
+    public boolean matches(String value) {
+        int len = value.length();
+        if (len < 3 || value.charAt(0) != '{' || value.charAt(len - 1) != '}') {
+            return false;
+        }
+
+        int nameEnd = len - 1;
+        if (this == WITH_REGEX) {
+            // The parameter name cannot contain ':', so the regex suffix is unambiguous
+            if (len < 6
+                    || value.charAt(len - 4) != ':'
+                    || value.charAt(len - 3) != '.'
+                    || (value.charAt(len - 2) != '+' && value.charAt(len - 2) != '*')) {
+                return false;
+            }
+            nameEnd = len - 4;
+        }
+
+        return ParameterNamePattern.matches(value, 1, nameEnd);
+    }
+}
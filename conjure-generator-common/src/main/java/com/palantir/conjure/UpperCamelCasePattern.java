@@ -0,0 +1,57 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure;
+
+import com.google.errorprone.annotations.Immutable;
+
+/** Names of conjure types and error namespaces, e.g. {@code FooBar2}. */
+@Immutable
+public enum UpperCamelCasePattern implements SimplifiedPattern {
+    INSTANCE;
+
+    @Override
+    public String pattern() {
+        return "^[A-Z][a-z0-9]+([A-Z][a-z0-9]+)*$";
+    }
+
+    @Override
+    public boolean matches(String value) {
+        int len = value.length();
+        if (len < 2 || !CharUtils.isUpper(value.charAt(0))) {
+            return false;
+        }
+
+        // Every uppercase char starts a new word, which needs at least one further lowercase or numeric char
+        boolean previousIsUpper = true;
+        for (int i = 1; i < len; i++) {
+            char curChar = value.charAt(i);
+
+            if (CharUtils.isUpper(curChar)) {
+                if (previousIsUpper) {
+                    return false;
+                }
+                previousIsUpper = true;
+            } else if (CharUtils.isLower(curChar) || CharUtils.isNumeric(curChar)) {
+                previousIsUpper = false;
+            } else {
+                return false;
+            }
+        }
+
+        return !previousIsUpper;
+    }
+}
@@ -32,12 +32,33 @@ import com.palantir.conjure.spec.TypeDefinition;
 import com.palantir.conjure.spec.TypeName;
 import com.palantir.conjure.spec.UnionDefinition;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public final class DealiasingTypeVisitor implements Type.Visitor<Either<TypeDefinition, Type>> {
     private final Map<TypeName, TypeDefinition> objects;
+    private final Optional<ConcurrentMap<TypeName, Either<TypeDefinition, Type>>> dealiasedReferences;
+    private final TypeDefinition.Visitor<Either<TypeDefinition, Type>> typeDefinitionDealiaser =
+            new TypeDefinitionDealiaser();
 
     public DealiasingTypeVisitor(Map<TypeName, TypeDefinition> objects) {
+        this(objects, Optional.empty());
+    }
+
+    private DealiasingTypeVisitor(
+            Map<TypeName, TypeDefinition> objects,
+            Optional<ConcurrentMap<TypeName, Either<TypeDefinition, Type>>> dealiasedReferences) {
         this.objects = objects;
+        this.dealiasedReferences = dealiasedReferences;
+    }
+
+    /**
+     * Creates a thread-safe visitor which resolves every referenced {@link TypeName} once and reuses the result for
+     * later references to the same name. The provided map of types must not change once the visitor is created.
+     */
+    public static DealiasingTypeVisitor caching(Map<TypeName, TypeDefinition> objects) {
+        return new DealiasingTypeVisitor(objects, Optional.of(new ConcurrentHashMap<>()));
     }
 
     /**
@@ -54,36 +75,24 @@ public final class DealiasingTypeVisitor implements Type.Visitor<Either<TypeDefi
 
     @Override
     public Either<TypeDefinition, Type> visitReference(TypeName value) {
+        if (dealiasedReferences.isEmpty()) {
+            return dealiasReference(value);
+        }
+        ConcurrentMap<TypeName, Either<TypeDefinition, Type>> cache = dealiasedReferences.get();
+        Either<TypeDefinition, Type> dealiased = cache.get(value);
+        if (dealiased == null) {
+            // Not computeIfAbsent, as dealiasing an alias of an alias updates the map from within the mapping function
+            dealiased = dealiasReference(value);
+            cache.putIfAbsent(value, dealiased);
+        }
+        return dealiased;
+    }
+
+    private Either<TypeDefinition, Type> dealiasReference(TypeName value) {
         TypeDefinition typeDefinition = objects.get(value);
         Preconditions.checkState(
                 typeDefinition != null, "Referenced TypeDefinition not found in map of types for TypeName: %s", value);
-        return typeDefinition.accept(new TypeDefinition.Visitor<Either<TypeDefinition, Type>>() {
-            @Override
-            public Either<TypeDefinition, Type> visitAlias(AliasDefinition value) {
-                // Recursively visit target of alias
-                return value.getAlias().accept(DealiasingTypeVisitor.this);
-            }
-
-            @Override
-            public Either<TypeDefinition, Type> visitEnum(EnumDefinition value) {
-                return Either.left(TypeDefinition.enum_(value));
-            }
-
-            @Override
-            public Either<TypeDefinition, Type> visitObject(ObjectDefinition value) {
-                return Either.left(TypeDefinition.object(value));
-            }
-
-            @Override
-            public Either<TypeDefinition, Type> visitUnion(UnionDefinition value) {
-                return Either.left(TypeDefinition.union(value));
-            }
-
-            @Override
-            public Either<TypeDefinition, Type> visitUnknown(String unknownType) {
-                throw new IllegalStateException("Unsupported type: " + unknownType);
-            }
-        });
+        return typeDefinition.accept(typeDefinitionDealiaser);
     }
 
     // Identity mapping for here onwards.
@@ -122,4 +131,32 @@ public final class DealiasingTypeVisitor implements Type.Visitor<Either<TypeDefi
     public Either<TypeDefinition, Type> visitUnknown(String unknownType) {
         throw new IllegalStateException("Unsupported type: " + unknownType);
     }
+
+    private final class TypeDefinitionDealiaser implements TypeDefinition.Visitor<Either<TypeDefinition, Type>> {
+        @Override
+        public Either<TypeDefinition, Type> visitAlias(AliasDefinition value) {
+            // Recursively visit target of alias
+            return value.getAlias().accept(DealiasingTypeVisitor.this);
+        }
+
+        @Override
+        public Either<TypeDefinition, Type> visitEnum(EnumDefinition value) {
+            return Either.left(TypeDefinition.enum_(value));
+        }
+
+        @Override
+        public Either<TypeDefinition, Type> visitObject(ObjectDefinition value) {
+            return Either.left(TypeDefinition.object(value));
+        }
+
+        @Override
+        public Either<TypeDefinition, Type> visitUnion(UnionDefinition value) {
+            return Either.left(TypeDefinition.union(value));
+        }
+
+        @Override
+        public Either<TypeDefinition, Type> visitUnknown(String unknownType) {
+            throw new IllegalStateException("Unsupported type: " + unknownType);
+        }
+    }
 }
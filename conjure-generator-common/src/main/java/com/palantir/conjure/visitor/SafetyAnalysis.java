@@ -0,0 +1,251 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.visitor;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.SetMultimap;
+import com.palantir.conjure.spec.AliasDefinition;
+import com.palantir.conjure.spec.EnumDefinition;
+import com.palantir.conjure.spec.ExternalReference;
+import com.palantir.conjure.spec.FieldDefinition;
+import com.palantir.conjure.spec.ListType;
+import com.palantir.conjure.spec.LogSafety;
+import com.palantir.conjure.spec.MapType;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.OptionalType;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.SetType;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.spec.UnionDefinition;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The effective {@link LogSafety} of every named type of a definition, computed once so that validators and
+ * generators can look it up rather than walk the type graph again for every field or argument.
+ *
+ * <p>An empty safety means the safety is not known. Safety combines along the order {@code SAFE < UNSAFE < unknown <
+ * DO_NOT_LOG}: a type is as unsafe as the least safe value it may contain, a value of unknown safety makes the
+ * containing type unknown unless it is {@code DO_NOT_LOG}, and safety declared on an alias, field or external import
+ * takes precedence over the safety of the declared type. Bearer tokens are {@code DO_NOT_LOG}, other primitives
+ * and enums are unknown.
+ *
+ * <p>Recursive types are resolved as the least fixpoint over the reference graph, so that an object which only
+ * refers back to itself through optional or collection fields is as safe as its other fields.
+ */
+public final class SafetyAnalysis {
+    private final ImmutableMap<TypeName, Level> levels;
+    private final Type.Visitor<Level> typeEvaluator;
+
+    private SafetyAnalysis(ImmutableMap<TypeName, Level> levels) {
+        this.levels = levels;
+        this.typeEvaluator = new TypeEvaluator(this::level);
+    }
+
+    /** Computes the safety of every type in {@code types}; references to other types are of unknown safety. */
+    public static SafetyAnalysis of(Map<TypeName, TypeDefinition> types) {
+        // A type depends on the references its evaluation consults, which excludes those below declared safety
+        SetMultimap<TypeName, TypeName> dependents = HashMultimap.create();
+        types.forEach((typeName, typeDefinition) ->
+                typeDefinition.accept(new TypeDefinitionEvaluator(new TypeEvaluator(referenced -> {
+                    dependents.put(referenced, typeName);
+                    return Level.SAFE;
+                }))));
+
+        // Levels only ever increase, so a type is re-evaluated at most once per level and per changed dependency
+        Map<TypeName, Level> levels = new HashMap<>();
+        types.keySet().forEach(typeName -> levels.put(typeName, Level.SAFE));
+        TypeDefinitionEvaluator evaluator = new TypeDefinitionEvaluator(
+                new TypeEvaluator(typeName -> levels.getOrDefault(typeName, Level.UNKNOWN)));
+        Deque<TypeName> worklist = new ArrayDeque<>(types.keySet());
+        Set<TypeName> queued = new HashSet<>(types.keySet());
+        while (!worklist.isEmpty()) {
+            TypeName typeName = worklist.poll();
+            queued.remove(typeName);
+            Level level = types.get(typeName).accept(evaluator);
+            if (level != levels.put(typeName, level)) {
+                for (TypeName dependent : dependents.get(typeName)) {
+                    if (queued.add(dependent)) {
+                        worklist.add(dependent);
+                    }
+                }
+            }
+        }
+        return new SafetyAnalysis(ImmutableMap.copyOf(levels));
+    }
+
+    /** The safety of every analysed type. */
+    public Map<TypeName, Optional<LogSafety>> safetyByName() {
+        ImmutableMap.Builder<TypeName, Optional<LogSafety>> builder =
+                ImmutableMap.builderWithExpectedSize(levels.size());
+        levels.forEach((typeName, level) -> builder.put(typeName, level.safety()));
+        return builder.build();
+    }
+
+    /** The safety of a named type, which must be one of the analysed types. */
+    public Optional<LogSafety> safety(TypeName typeName) {
+        Level level = levels.get(typeName);
+        Preconditions.checkArgument(level != null, "Type was not analysed: %s", typeName);
+        return level.safety();
+    }
+
+    /** The safety of a type, such as the type of a field or argument, looking up the safety of referenced types. */
+    public Optional<LogSafety> safety(Type type) {
+        return type.accept(typeEvaluator).safety();
+    }
+
+    /** The safety of a value of the given type on which {@code declaredSafety} may have been declared. */
+    public Optional<LogSafety> safety(Type type, Optional<LogSafety> declaredSafety) {
+        return declaredSafety.isPresent() ? declaredSafety : safety(type);
+    }
+
+    private Level level(TypeName typeName) {
+        return levels.getOrDefault(typeName, Level.UNKNOWN);
+    }
+
+    private enum Level {
+        SAFE,
+        UNSAFE,
+        UNKNOWN,
+        DO_NOT_LOG;
+
+        static Level of(LogSafety safety) {
+            return switch (safety.get()) {
+                case SAFE -> SAFE;
+                case UNSAFE -> UNSAFE;
+                case DO_NOT_LOG -> DO_NOT_LOG;
+                default -> UNKNOWN;
+            };
+        }
+
+        Optional<LogSafety> safety() {
+            return switch (this) {
+                case SAFE -> Optional.of(LogSafety.SAFE);
+                case UNSAFE -> Optional.of(LogSafety.UNSAFE);
+                case UNKNOWN -> Optional.empty();
+                case DO_NOT_LOG -> Optional.of(LogSafety.DO_NOT_LOG);
+            };
+        }
+
+        Level combine(Level other) {
+            return compareTo(other) >= 0 ? this : other;
+        }
+    }
+
+    private static final class TypeDefinitionEvaluator implements TypeDefinition.Visitor<Level> {
+        private final TypeEvaluator typeEvaluator;
+
+        private TypeDefinitionEvaluator(TypeEvaluator typeEvaluator) {
+            this.typeEvaluator = typeEvaluator;
+        }
+
+        @Override
+        public Level visitAlias(AliasDefinition value) {
+            return declaredOrEvaluated(value.getSafety(), value.getAlias());
+        }
+
+        @Override
+        public Level visitEnum(EnumDefinition _value) {
+            return Level.UNKNOWN;
+        }
+
+        @Override
+        public Level visitObject(ObjectDefinition value) {
+            return combineFields(value.getFields());
+        }
+
+        @Override
+        public Level visitUnion(UnionDefinition value) {
+            return combineFields(value.getUnion());
+        }
+
+        @Override
+        public Level visitUnknown(String unknownType) {
+            throw new IllegalStateException("Unsupported type: " + unknownType);
+        }
+
+        private Level combineFields(List<FieldDefinition> fields) {
+            Level level = Level.SAFE;
+            for (FieldDefinition field : fields) {
+                level = level.combine(declaredOrEvaluated(field.getSafety(), field.getType()));
+            }
+            return level;
+        }
+
+        private Level declaredOrEvaluated(Optional<LogSafety> declaredSafety, Type type) {
+            return declaredSafety.isPresent() ? Level.of(declaredSafety.get()) : type.accept(typeEvaluator);
+        }
+    }
+
+    private static final class TypeEvaluator implements Type.Visitor<Level> {
+        private final Function<TypeName, Level> references;
+
+        private TypeEvaluator(Function<TypeName, Level> references) {
+            this.references = references;
+        }
+
+        @Override
+        public Level visitPrimitive(PrimitiveType value) {
+            return value.get() == PrimitiveType.Value.BEARERTOKEN ? Level.DO_NOT_LOG : Level.UNKNOWN;
+        }
+
+        @Override
+        public Level visitOptional(OptionalType value) {
+            return value.getItemType().accept(this);
+        }
+
+        @Override
+        public Level visitList(ListType value) {
+            return value.getItemType().accept(this);
+        }
+
+        @Override
+        public Level visitSet(SetType value) {
+            return value.getItemType().accept(this);
+        }
+
+        @Override
+        public Level visitMap(MapType value) {
+            return value.getKeyType().accept(this).combine(value.getValueType().accept(this));
+        }
+
+        @Override
+        public Level visitReference(TypeName value) {
+            return references.apply(value);
+        }
+
+        @Override
+        public Level visitExternal(ExternalReference value) {
+            return value.getSafety().map(Level::of).orElseGet(() -> value.getFallback().accept(this));
+        }
+
+        @Override
+        public Level visitUnknown(String unknownType) {
+            throw new IllegalStateException("Unsupported type: " + unknownType);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.quicktheories.QuickTheory.qt;
+
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class PathParameterPatternTest {
+    private final Pattern plainRegexPattern = Pattern.compile(PathParameterPattern.PLAIN.pattern());
+    private final Pattern withRegexRegexPattern = Pattern.compile(PathParameterPattern.WITH_REGEX.pattern());
+
+    @Test
+    public void validate() {
+        assertMatches("{a}", true, false);
+        assertMatches("{fooBar2}", true, false);
+        assertMatches("{fooBar:.+}", false, true);
+        assertMatches("{fooBar:.*}", false, true);
+        assertMatches("", false, false);
+        assertMatches("{}", false, false);
+        assertMatches("{:.+}", false, false);
+        assertMatches("{fooBar:.?}", false, false);
+        assertMatches("{fooBar:[0-9]+}", false, false);
+        assertMatches("{{fooBar}}", false, false);
+        assertMatches("{FooBar}", false, false);
+        assertMatches("fooBar", false, false);
+    }
+
+    @Test
+    void testValidCharsMatch() {
+        qt().withExamples(5000)
+                .forAll(Generators.stringsFromChars("abyzABYZ0129:.+*", 25).map(inner -> "{" + inner + "}"))
+                .checkAssert(this::assertEquivalent);
+    }
+
+    @Test
+    void testInvalidCharsMatch() {
+        qt().withExamples(5000)
+                .forAll(Generators.stringsFromChars(
+                        "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789_-.:+*{}/", 25))
+                .checkAssert(this::assertEquivalent);
+    }
+
+    private void assertMatches(String testCase, boolean plain, boolean withRegex) {
+        assertThat(PathParameterPattern.PLAIN.matches(testCase)).as(testCase).isEqualTo(plain);
+        assertThat(PathParameterPattern.WITH_REGEX.matches(testCase)).as(testCase).isEqualTo(withRegex);
+        assertEquivalent(testCase);
+    }
+
+    private void assertEquivalent(String input) {
+        assertThat(PathParameterPattern.PLAIN.matches(input))
+                .as(input)
+                .isEqualTo(plainRegexPattern.matcher(input).matches());
+        assertThat(PathParameterPattern.WITH_REGEX.matches(input))
+                .as(input)
+                .isEqualTo(withRegexRegexPattern.matcher(input).matches());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.visitor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableMap;
+import com.palantir.conjure.either.Either;
+import com.palantir.conjure.spec.AliasDefinition;
+import com.palantir.conjure.spec.ListType;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class DealiasingTypeVisitorTest {
+    private static final TypeName OBJECT = TypeName.of("Object", "com.palantir.foo");
+    private static final TypeName ALIAS = TypeName.of("Alias", "com.palantir.foo");
+    private static final TypeName ALIAS_OF_ALIAS = TypeName.of("AliasOfAlias", "com.palantir.foo");
+    private static final TypeName ALIAS_OF_OBJECT = TypeName.of("AliasOfObject", "com.palantir.foo");
+
+    private static final TypeDefinition OBJECT_DEFINITION =
+            TypeDefinition.object(ObjectDefinition.builder().typeName(OBJECT).build());
+    private static final Map<TypeName, TypeDefinition> TYPES = ImmutableMap.of(
+            OBJECT,
+            OBJECT_DEFINITION,
+            ALIAS,
+            alias(ALIAS, Type.list(ListType.of(Type.primitive(PrimitiveType.STRING)))),
+            ALIAS_OF_ALIAS,
+            alias(ALIAS_OF_ALIAS, Type.reference(ALIAS)),
+            ALIAS_OF_OBJECT,
+            alias(ALIAS_OF_OBJECT, Type.reference(OBJECT)));
+
+    @Test
+    public void testCachingVisitorMatchesUncachedVisitor() {
+        DealiasingTypeVisitor uncached = new DealiasingTypeVisitor(TYPES);
+        DealiasingTypeVisitor caching = DealiasingTypeVisitor.caching(TYPES);
+        for (TypeName name : TYPES.keySet()) {
+            Type reference = Type.reference(name);
+            assertThat(caching.dealias(reference)).isEqualTo(uncached.dealias(reference));
+            assertThat(caching.dealias(reference)).isEqualTo(uncached.dealias(reference));
+        }
+        assertThat(caching.dealias(Type.reference(ALIAS_OF_ALIAS)))
+                .isEqualTo(Either.right(Type.list(ListType.of(Type.primitive(PrimitiveType.STRING)))));
+        assertThat(caching.dealias(Type.reference(ALIAS_OF_OBJECT))).isEqualTo(Either.left(OBJECT_DEFINITION));
+    }
+
+    @Test
+    public void testCachingVisitorResolvesReferencesOnce() {
+        DealiasingTypeVisitor caching = DealiasingTypeVisitor.caching(TYPES);
+        assertThat(caching.dealias(Type.reference(ALIAS_OF_ALIAS)))
+                .isSameAs(caching.dealias(Type.reference(ALIAS_OF_ALIAS)))
+                .isSameAs(caching.dealias(Type.reference(ALIAS)));
+    }
+
+    @Test
+    public void testCachingVisitorRejectsUnknownReferences() {
+        DealiasingTypeVisitor caching = DealiasingTypeVisitor.caching(TYPES);
+        TypeName unknown = TypeName.of("Unknown", "com.palantir.foo");
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertThatThrownBy(() -> caching.dealias(Type.reference(unknown)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Referenced TypeDefinition not found");
+        }
+    }
+
+    private static TypeDefinition alias(TypeName name, Type type) {
+        return TypeDefinition.alias(AliasDefinition.builder().typeName(name).alias(type).build());
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.visitor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableMap;
+import com.palantir.conjure.spec.AliasDefinition;
+import com.palantir.conjure.spec.ExternalReference;
+import com.palantir.conjure.spec.FieldDefinition;
+import com.palantir.conjure.spec.FieldName;
+import com.palantir.conjure.spec.ListType;
+import com.palantir.conjure.spec.LogSafety;
+import com.palantir.conjure.spec.MapType;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.OptionalType;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.spec.UnionDefinition;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class SafetyAnalysisTest {
+    private static final TypeName SAFE_ALIAS = TypeName.of("SafeAlias", "com.palantir.foo");
+    private static final TypeName UNSAFE_ALIAS = TypeName.of("UnsafeAlias", "com.palantir.foo");
+    private static final TypeName ALIAS_OF_SAFE = TypeName.of("AliasOfSafe", "com.palantir.foo");
+    private static final TypeName TOKEN_ALIAS = TypeName.of("TokenAlias", "com.palantir.foo");
+    private static final TypeName OBJECT = TypeName.of("Object", "com.palantir.foo");
+    private static final TypeName UNION = TypeName.of("Union", "com.palantir.foo");
+    private static final TypeName UNKNOWN_ALIAS = TypeName.of("UnknownAlias", "com.palantir.foo");
+    private static final TypeName NODE = TypeName.of("Node", "com.palantir.foo");
+    private static final TypeName CYCLE_A = TypeName.of("CycleA", "com.palantir.foo");
+    private static final TypeName CYCLE_B = TypeName.of("CycleB", "com.palantir.foo");
+
+    private static final Type STRING = Type.primitive(PrimitiveType.STRING);
+
+    @Test
+    public void testAliasesInheritSafetyUnlessDeclared() {
+        SafetyAnalysis analysis = SafetyAnalysis.of(ImmutableMap.of(
+                SAFE_ALIAS, alias(SAFE_ALIAS, STRING, Optional.of(LogSafety.SAFE)),
+                ALIAS_OF_SAFE, alias(ALIAS_OF_SAFE, Type.reference(SAFE_ALIAS), Optional.empty()),
+                UNSAFE_ALIAS, alias(UNSAFE_ALIAS, Type.reference(SAFE_ALIAS), Optional.of(LogSafety.UNSAFE)),
+                TOKEN_ALIAS, alias(TOKEN_ALIAS, Type.primitive(PrimitiveType.BEARERTOKEN), Optional.empty()),
+                UNKNOWN_ALIAS, alias(UNKNOWN_ALIAS, STRING, Optional.empty())));
+
+        assertThat(analysis.safetyByName())
+                .containsEntry(SAFE_ALIAS, Optional.of(LogSafety.SAFE))
+                .containsEntry(ALIAS_OF_SAFE, Optional.of(LogSafety.SAFE))
+                .containsEntry(UNSAFE_ALIAS, Optional.of(LogSafety.UNSAFE))
+                .containsEntry(TOKEN_ALIAS, Optional.of(LogSafety.DO_NOT_LOG))
+                .containsEntry(UNKNOWN_ALIAS, Optional.empty());
+    }
+
+    @Test
+    public void testObjectsAndUnionsAreAsSafeAsTheirLeastSafeField() {
+        Map<TypeName, TypeDefinition> types = ImmutableMap.of(
+                SAFE_ALIAS, alias(SAFE_ALIAS, STRING, Optional.of(LogSafety.SAFE)),
+                UNSAFE_ALIAS, alias(UNSAFE_ALIAS, STRING, Optional.of(LogSafety.UNSAFE)),
+                OBJECT,
+                TypeDefinition.object(ObjectDefinition.builder()
+                        .typeName(OBJECT)
+                        .fields(field("safe", Type.list(ListType.of(Type.reference(SAFE_ALIAS)))))
+                        .fields(field("unsafe", Type.optional(OptionalType.of(Type.reference(UNSAFE_ALIAS)))))
+                        .build()),
+                UNION,
+                TypeDefinition.union(UnionDefinition.builder()
+                        .typeName(UNION)
+                        .union(field("safe", Type.reference(SAFE_ALIAS)))
+                        .union(FieldDefinition.builder()
+                                .fieldName(FieldName.of("secret"))
+                                .type(STRING)
+                                .safety(LogSafety.DO_NOT_LOG)
+                                .build())
+                        .build()));
+        SafetyAnalysis analysis = SafetyAnalysis.of(types);
+
+        assertThat(analysis.safety(OBJECT)).hasValue(LogSafety.UNSAFE);
+        assertThat(analysis.safety(UNION)).hasValue(LogSafety.DO_NOT_LOG);
+    }
+
+    @Test
+    public void testUnknownSafetyOnlyYieldsToDoNotLog() {
+        SafetyAnalysis analysis = SafetyAnalysis.of(ImmutableMap.of(
+                SAFE_ALIAS, alias(SAFE_ALIAS, STRING, Optional.of(LogSafety.SAFE)),
+                UNSAFE_ALIAS, alias(UNSAFE_ALIAS, STRING, Optional.of(LogSafety.UNSAFE))));
+
+        assertThat(analysis.safety(Type.map(MapType.of(Type.reference(SAFE_ALIAS), Type.reference(UNSAFE_ALIAS)))))
+                .hasValue(LogSafety.UNSAFE);
+        assertThat(analysis.safety(Type.map(MapType.of(STRING, Type.reference(UNSAFE_ALIAS)))))
+                .isEmpty();
+        assertThat(analysis.safety(Type.map(MapType.of(STRING, Type.primitive(PrimitiveType.BEARERTOKEN)))))
+                .hasValue(LogSafety.DO_NOT_LOG);
+        assertThat(analysis.safety(STRING, Optional.of(LogSafety.SAFE))).hasValue(LogSafety.SAFE);
+    }
+
+    @Test
+    public void testExternalImportsUseDeclaredSafetyOrFallback() {
+        SafetyAnalysis analysis = SafetyAnalysis.of(ImmutableMap.of());
+
+        assertThat(analysis.safety(external(Optional.of(LogSafety.SAFE)))).hasValue(LogSafety.SAFE);
+        assertThat(analysis.safety(external(Optional.empty()))).isEmpty();
+    }
+
+    @Test
+    public void testRecursiveTypesResolveToLeastFixpoint() {
+        SafetyAnalysis analysis = SafetyAnalysis.of(ImmutableMap.of(
+                SAFE_ALIAS, alias(SAFE_ALIAS, STRING, Optional.of(LogSafety.SAFE)),
+                NODE,
+                TypeDefinition.object(ObjectDefinition.builder()
+                        .typeName(NODE)
+                        .fields(field("value", Type.reference(SAFE_ALIAS)))
+                        .fields(field("children", Type.list(ListType.of(Type.reference(NODE)))))
+                        .build()),
+                CYCLE_A, alias(CYCLE_A, Type.reference(CYCLE_B), Optional.empty()),
+                CYCLE_B, alias(CYCLE_B, Type.reference(CYCLE_A), Optional.empty())));
+
+        assertThat(analysis.safety(NODE)).hasValue(LogSafety.SAFE);
+        assertThat(analysis.safety(CYCLE_A)).hasValue(LogSafety.SAFE);
+    }
+
+    @Test
+    public void testReferencesToMissingTypesAreUnknown() {
+        SafetyAnalysis analysis = SafetyAnalysis.of(
+                ImmutableMap.of(OBJECT, alias(OBJECT, Type.reference(SAFE_ALIAS), Optional.empty())));
+
+        assertThat(analysis.safety(OBJECT)).isEmpty();
+        assertThatThrownBy(() -> analysis.safety(SAFE_ALIAS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Type was not analysed");
+    }
+
+    private static TypeDefinition alias(TypeName name, Type type, Optional<LogSafety> safety) {
+        return TypeDefinition.alias(AliasDefinition.builder()
+                .typeName(name)
+                .alias(type)
+                .safety(safety)
+                .build());
+    }
+
+    private static FieldDefinition field(String name, Type type) {
+        return FieldDefinition.builder().fieldName(FieldName.of(name)).type(type).build();
+    }
+
+    private static Type external(Optional<LogSafety> safety) {
+        return Type.external(ExternalReference.builder()
+                .externalReference(TypeName.of("Token", "com.palantir.external"))
+                .fallback(STRING)
+                .safety(safety)
+                .build());
+    }
+}
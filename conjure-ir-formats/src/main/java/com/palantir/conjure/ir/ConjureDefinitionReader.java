@@ -0,0 +1,67 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.ir;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads IR in any {@link IrFormat}, which is detected from the first bytes of the input, so that generators accept
+ * IR in whichever format the compiler was asked to write. Indexed IR is decoded completely; use {@link IndexedIr} to
+ * only decode what is looked up.
+ */
+public final class ConjureDefinitionReader {
+    private static final ObjectReader READER = detectingReader();
+
+    private ConjureDefinitionReader() {}
+
+    public static ConjureDefinition read(Path path) throws IOException {
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(path))) {
+            if (isIndexed(input)) {
+                // Maps the file rather than reading it onto the heap
+                return IndexedIr.open(path).toDefinition();
+            }
+            return READER.readValue(input);
+        }
+    }
+
+    public static ConjureDefinition read(InputStream input) throws IOException {
+        InputStream bufferedInput = input.markSupported() ? input : new BufferedInputStream(input);
+        if (isIndexed(bufferedInput)) {
+            return IndexedIr.of(ByteBuffer.wrap(bufferedInput.readAllBytes())).toDefinition();
+        }
+        return READER.readValue(bufferedInput);
+    }
+
+    private static boolean isIndexed(InputStream input) throws IOException {
+        input.mark(IndexedIr.prefixLength());
+        byte[] prefix = input.readNBytes(IndexedIr.prefixLength());
+        input.reset();
+        return IndexedIr.isIndexed(prefix);
+    }
+
+    private static ObjectReader detectingReader() {
+        ObjectReader json = IrFormat.JSON.newObjectMapper().readerFor(ConjureDefinition.class);
+        ObjectReader smile = IrFormat.SMILE.newObjectMapper().readerFor(ConjureDefinition.class);
+        return json.withFormatDetection(json, smile);
+    }
+}
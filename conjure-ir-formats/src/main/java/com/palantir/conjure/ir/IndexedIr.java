@@ -0,0 +1,294 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.ir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.CountingOutputStream;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.ErrorDefinition;
+import com.palantir.conjure.spec.ServiceDefinition;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.visitor.TypeDefinitionVisitor;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Read access to {@link IrFormat#INDEXED indexed IR}, which decodes a type, error or service only once it is looked
+ * up, so that generators which only need part of a definition neither decode nor hold the rest of it.
+ *
+ * <p>An indexed IR file holds, in order:
+ * <ul>
+ *   <li>an 8 byte magic number;
+ *   <li>the records: every error, type and service of the definition, each encoded separately as a Smile document;
+ *   <li>the header, a Smile document holding the IR version, the extensions and, for every record, its name, offset
+ *   and length;
+ *   <li>the offset of the header as a big-endian long, followed by the magic number again.
+ * </ul>
+ *
+ * <p>Writing the header last lets the IR be streamed out without knowing the size of any record beforehand. Files are
+ * read through a memory mapping, so only the pages holding the header and the records which are looked up are read.
+ * Instances are thread-safe and decode every record at most once.
+ */
+public final class IndexedIr {
+    private static final byte[] MAGIC = "CNJRIDX1".getBytes(StandardCharsets.US_ASCII);
+    private static final int TRAILER_SIZE = Long.BYTES + MAGIC.length;
+    private static final ObjectMapper RECORD_MAPPER = IrFormat.INDEXED.newObjectMapper();
+    private static final ObjectWriter RECORD_WRITER = RECORD_MAPPER.writer();
+    private static final ObjectReader TYPE_READER = RECORD_MAPPER.readerFor(TypeDefinition.class);
+    private static final ObjectReader ERROR_READER = RECORD_MAPPER.readerFor(ErrorDefinition.class);
+    private static final ObjectReader SERVICE_READER = RECORD_MAPPER.readerFor(ServiceDefinition.class);
+    private static final TypeReference<Map<String, Object>> EXTENSIONS_TYPE = new TypeReference<>() {};
+
+    private final ByteBuffer buffer;
+    private final int version;
+    private final Map<String, Object> extensions;
+    private final Section<ErrorDefinition> errors;
+    private final Section<TypeDefinition> types;
+    private final Section<ServiceDefinition> services;
+
+    private IndexedIr(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        int size = buffer.limit();
+        Preconditions.checkArgument(
+                size >= MAGIC.length + TRAILER_SIZE
+                        && hasMagic(buffer, 0)
+                        && hasMagic(buffer, size - MAGIC.length),
+                "Not an indexed IR file");
+        int headerOffset = Math.toIntExact(buffer.getLong(size - TRAILER_SIZE));
+        JsonNode header = RECORD_MAPPER.readTree(bytes(headerOffset, size - TRAILER_SIZE - headerOffset));
+        this.version = header.get("version").asInt();
+        this.extensions = RECORD_MAPPER.convertValue(header.get("extensions"), EXTENSIONS_TYPE);
+        this.errors = new Section<>(header.get("errors"), ERROR_READER);
+        this.types = new Section<>(header.get("types"), TYPE_READER);
+        this.services = new Section<>(header.get("services"), SERVICE_READER);
+    }
+
+    /** Maps {@code path} into memory and reads its header; records are decoded once they are looked up. */
+    public static IndexedIr open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Preconditions.checkArgument(
+                    size <= Integer.MAX_VALUE, "Indexed IR files larger than 2 GiB are not supported: %s", path);
+            // The mapping stays valid once the channel is closed
+            return new IndexedIr(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /** Reads indexed IR from the remaining bytes of {@code buffer}, which must not be modified afterwards. */
+    public static IndexedIr of(ByteBuffer buffer) throws IOException {
+        return new IndexedIr(buffer.slice());
+    }
+
+    /** Whether {@code prefix}, the first bytes of some IR, starts like indexed IR. */
+    static boolean isIndexed(byte[] prefix) {
+        return prefix.length >= MAGIC.length && hasMagic(ByteBuffer.wrap(prefix), 0);
+    }
+
+    static int prefixLength() {
+        return MAGIC.length;
+    }
+
+    /**
+     * Writes {@code definition} as indexed IR to {@code output}, replacing its extensions with {@code extensions}.
+     * The stream is flushed but not closed.
+     */
+    public static void write(ConjureDefinition definition, Map<String, Object> extensions, OutputStream output)
+            throws IOException {
+        CountingOutputStream counting = new CountingOutputStream(output);
+        counting.write(MAGIC);
+        List<Entry> errorEntries = writeRecords(counting, definition.getErrors(), ErrorDefinition::getErrorName);
+        List<Entry> typeEntries =
+                writeRecords(counting, definition.getTypes(), type -> type.accept(TypeDefinitionVisitor.TYPE_NAME));
+        List<Entry> serviceEntries =
+                writeRecords(counting, definition.getServices(), ServiceDefinition::getServiceName);
+
+        long headerOffset = counting.getCount();
+        try (JsonGenerator generator =
+                RECORD_MAPPER.createGenerator(counting).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartObject();
+            generator.writeNumberField("version", definition.getVersion());
+            generator.writeFieldName("extensions");
+            RECORD_WRITER.writeValue(generator, extensions);
+            writeEntries(generator, "errors", errorEntries);
+            writeEntries(generator, "types", typeEntries);
+            writeEntries(generator, "services", serviceEntries);
+            generator.writeEndObject();
+        }
+        counting.write(ByteBuffer.allocate(TRAILER_SIZE)
+                .putLong(headerOffset)
+                .put(MAGIC)
+                .array());
+        counting.flush();
+    }
+
+    public int version() {
+        return version;
+    }
+
+    public Map<String, Object> extensions() {
+        return extensions;
+    }
+
+    /** Names of every error, in declaration order. */
+    public Set<TypeName> errorNames() {
+        return errors.extents.keySet();
+    }
+
+    /** Names of every type, in declaration order. */
+    public Set<TypeName> typeNames() {
+        return types.extents.keySet();
+    }
+
+    /** Names of every service, in declaration order. */
+    public Set<TypeName> serviceNames() {
+        return services.extents.keySet();
+    }
+
+    public Optional<ErrorDefinition> error(TypeName name) {
+        return errors.get(name);
+    }
+
+    public Optional<TypeDefinition> type(TypeName name) {
+        return types.get(name);
+    }
+
+    public Optional<ServiceDefinition> service(TypeName name) {
+        return services.get(name);
+    }
+
+    /** Decodes every record, e.g. for generators which need the whole definition. */
+    public ConjureDefinition toDefinition() {
+        return ConjureDefinition.builder()
+                .version(version)
+                .errors(errors.all())
+                .types(types.all())
+                .services(services.all())
+                .extensions(extensions)
+                .build();
+    }
+
+    private static <T> List<Entry> writeRecords(
+            CountingOutputStream output, List<T> records, Function<T, TypeName> nameFunction) throws IOException {
+        List<Entry> entries = new ArrayList<>(records.size());
+        for (T record : records) {
+            byte[] encoded = RECORD_WRITER.writeValueAsBytes(record);
+            entries.add(new Entry(nameFunction.apply(record), output.getCount(), encoded.length));
+            output.write(encoded);
+        }
+        return entries;
+    }
+
+    private static void writeEntries(JsonGenerator generator, String fieldName, List<Entry> entries)
+            throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (Entry entry : entries) {
+            generator.writeStartArray();
+            generator.writeString(entry.name.getPackage());
+            generator.writeString(entry.name.getName());
+            generator.writeNumber(entry.offset);
+            generator.writeNumber(entry.length);
+            generator.writeEndArray();
+        }
+        generator.writeEndArray();
+    }
+
+    private static boolean hasMagic(ByteBuffer buffer, int index) {
+        byte[] bytes = new byte[MAGIC.length];
+        buffer.get(index, bytes);
+        return Arrays.equals(bytes, MAGIC);
+    }
+
+    private byte[] bytes(int offset, int length) {
+        byte[] bytes = new byte[length];
+        // Absolute reads leave the position of the shared buffer untouched, so concurrent reads need no locking
+        buffer.get(offset, bytes);
+        return bytes;
+    }
+
+    private final class Section<T> {
+        private final ImmutableMap<TypeName, Entry> extents;
+        private final ObjectReader reader;
+        private final ConcurrentMap<TypeName, T> decoded = new ConcurrentHashMap<>();
+
+        private Section(JsonNode entries, ObjectReader reader) {
+            Map<TypeName, Entry> extentsBuilder = new LinkedHashMap<>();
+            for (JsonNode entry : entries) {
+                TypeName name = TypeName.of(entry.get(1).asText(), entry.get(0).asText());
+                extentsBuilder.putIfAbsent(name, new Entry(name, entry.get(2).asLong(), entry.get(3).asInt()));
+            }
+            this.extents = ImmutableMap.copyOf(extentsBuilder);
+            this.reader = reader;
+        }
+
+        Optional<T> get(TypeName name) {
+            Entry entry = extents.get(name);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            return Optional.of(decoded.computeIfAbsent(name, _name -> decode(entry)));
+        }
+
+        List<T> all() {
+            List<T> all = new ArrayList<>(extents.size());
+            extents.keySet().forEach(name -> all.add(get(name).get()));
+            return all;
+        }
+
+        private T decode(Entry entry) {
+            try {
+                return reader.readValue(bytes(Math.toIntExact(entry.offset), entry.length));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to decode indexed IR record " + entry.name, e);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final TypeName name;
+        private final long offset;
+        private final int length;
+
+        private Entry(TypeName name, long offset, int length) {
+            this.name = name;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.ir;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+
+/** Encodings in which the conjure compiler can write IR, all of which {@link ConjureDefinitionReader} reads. */
+public enum IrFormat {
+    /** JSON, as described by the IR specification. */
+    JSON,
+
+    /**
+     * <a href="https://github.com/FasterXML/smile-format-specification">Smile</a>, a binary encoding of the same
+     * JSON document which refers back to repeated field names and short string values instead of repeating them.
+     */
+    SMILE,
+
+    /**
+     * A container of separately encoded types, errors and services, indexed by name, from which {@link IndexedIr}
+     * decodes single records on demand.
+     */
+    INDEXED;
+
+    /**
+     * Creates a mapper which reads and writes IR in this format. As indexed IR is not a single document, its mapper
+     * reads and writes the individual records of the container instead.
+     */
+    public ObjectMapper newObjectMapper() {
+        JsonFactory factory =
+                switch (this) {
+                    case JSON -> new JsonFactory();
+                    case SMILE, INDEXED -> SmileFactory.builder()
+                            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                            .build();
+                };
+        return new ObjectMapper(factory)
+                .registerModule(new Jdk8Module())
+                .setDefaultPropertyInclusion(JsonInclude.Include.NON_ABSENT);
+    }
+}
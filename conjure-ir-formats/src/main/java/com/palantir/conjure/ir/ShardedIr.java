@@ -0,0 +1,322 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.ir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.ErrorDefinition;
+import com.palantir.conjure.spec.ServiceDefinition;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.visitor.TypeDefinitionVisitor;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read access to sharded IR, which splits a definition into one IR file per conjure package, so that generators can
+ * skip packages whose shard did not change.
+ *
+ * <p>Sharded IR consists of:
+ * <ul>
+ *   <li>the manifest, a JSON document holding the IR version, the extensions and, for every package, the name of its
+ *   shard and the names of the errors, types and services it declares;
+ *   <li>the shards, in the {@code <manifest>.shards} directory next to the manifest: for every package, a complete IR
+ *   file in any {@link IrFormat}, holding the errors, types and services of that package. Shards carry no
+ *   extensions, so that a change to the extensions alone leaves every shard untouched.
+ * </ul>
+ *
+ * <p>A reference to a type of another package is resolved through the manifest to the shard of that package, which
+ * is only read once it is looked up. Instances are thread-safe and read every shard at most once.
+ */
+public final class ShardedIr {
+    private static final String SHARDS_SUFFIX = ".shards";
+    private static final ObjectMapper MANIFEST_MAPPER = IrFormat.JSON.newObjectMapper();
+    private static final TypeReference<Map<String, Object>> EXTENSIONS_TYPE = new TypeReference<>() {};
+
+    private final Path shardDirectory;
+    private final int version;
+    private final Map<String, Object> extensions;
+    private final ImmutableMap<String, Shard> shards;
+    private final ConcurrentMap<String, ConjureDefinition> readShards = new ConcurrentHashMap<>();
+
+    private ShardedIr(Path manifest) throws IOException {
+        this.shardDirectory = shardDirectory(manifest);
+        JsonNode root = MANIFEST_MAPPER.readTree(manifest.toFile());
+        Preconditions.checkArgument(root != null && root.has("shards"), "Not a sharded IR manifest: %s", manifest);
+        this.version = root.get("version").asInt();
+        this.extensions = MANIFEST_MAPPER.convertValue(root.get("extensions"), EXTENSIONS_TYPE);
+        ImmutableMap.Builder<String, Shard> shardsBuilder = ImmutableMap.builder();
+        for (JsonNode shard : root.get("shards")) {
+            String conjurePackage = shard.get("package").asText();
+            shardsBuilder.put(
+                    conjurePackage,
+                    new Shard(
+                            shard.get("file").asText(),
+                            names(conjurePackage, shard.get("errors")),
+                            names(conjurePackage, shard.get("types")),
+                            names(conjurePackage, shard.get("services"))));
+        }
+        this.shards = shardsBuilder.buildOrThrow();
+    }
+
+    /** Reads the manifest at {@code manifest}; shards are read once they are looked up. */
+    public static ShardedIr open(Path manifest) throws IOException {
+        return new ShardedIr(manifest);
+    }
+
+    /** The directory holding the shards of the manifest at {@code manifest}. */
+    public static Path shardDirectory(Path manifest) {
+        return manifest.resolveSibling(manifest.getFileName() + SHARDS_SUFFIX);
+    }
+
+    /** The name of the shard holding {@code conjurePackage} when written in {@code format}. */
+    public static String shardFileName(String conjurePackage, IrFormat format) {
+        return conjurePackage + "." + format.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Splits {@code definition} into one definition per package, ordered by package, without extensions. Errors,
+     * types and services keep their order within each package, so a normalized definition splits into normalized
+     * shards.
+     */
+    public static SortedMap<String, ConjureDefinition> shards(ConjureDefinition definition) {
+        Map<String, List<ErrorDefinition>> errors = byPackage(definition.getErrors(), ErrorDefinition::getErrorName);
+        Map<String, List<TypeDefinition>> types = byPackage(definition.getTypes(), ShardedIr::typeName);
+        Map<String, List<ServiceDefinition>> services =
+                byPackage(definition.getServices(), ServiceDefinition::getServiceName);
+
+        Set<String> packages = new TreeSet<>(errors.keySet());
+        packages.addAll(types.keySet());
+        packages.addAll(services.keySet());
+
+        SortedMap<String, ConjureDefinition> shards = new TreeMap<>();
+        for (String conjurePackage : packages) {
+            shards.put(
+                    conjurePackage,
+                    ConjureDefinition.builder()
+                            .version(definition.getVersion())
+                            .errors(errors.getOrDefault(conjurePackage, List.of()))
+                            .types(types.getOrDefault(conjurePackage, List.of()))
+                            .services(services.getOrDefault(conjurePackage, List.of()))
+                            .build());
+        }
+        return shards;
+    }
+
+    /**
+     * Writes the manifest of {@code shards}, as split by {@link #shards} and written in {@code format}, to
+     * {@code output}, recording {@code extensions} as the extensions of the whole definition. The stream is flushed
+     * but not closed.
+     */
+    public static void writeManifest(
+            int version,
+            SortedMap<String, ConjureDefinition> shards,
+            Map<String, Object> extensions,
+            IrFormat format,
+            OutputStream output)
+            throws IOException {
+        try (JsonGenerator generator = MANIFEST_MAPPER
+                .createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .useDefaultPrettyPrinter()) {
+            generator.writeStartObject();
+            generator.writeNumberField("version", version);
+            generator.writeFieldName("extensions");
+            MANIFEST_MAPPER.writeValue(generator, extensions);
+            generator.writeArrayFieldStart("shards");
+            for (Map.Entry<String, ConjureDefinition> shard : shards.entrySet()) {
+                ConjureDefinition definition = shard.getValue();
+                generator.writeStartObject();
+                generator.writeStringField("package", shard.getKey());
+                generator.writeStringField("file", shardFileName(shard.getKey(), format));
+                writeNames(generator, "errors", definition.getErrors(), ErrorDefinition::getErrorName);
+                writeNames(generator, "types", definition.getTypes(), ShardedIr::typeName);
+                writeNames(generator, "services", definition.getServices(), ServiceDefinition::getServiceName);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        output.flush();
+    }
+
+    public int version() {
+        return version;
+    }
+
+    public Map<String, Object> extensions() {
+        return extensions;
+    }
+
+    /** Every package which has a shard, in order. */
+    public Set<String> packages() {
+        return shards.keySet();
+    }
+
+    /** The path of the shard holding {@code conjurePackage}, if any. */
+    public Optional<Path> shardFile(String conjurePackage) {
+        return Optional.ofNullable(shards.get(conjurePackage)).map(shard -> shardDirectory.resolve(shard.file));
+    }
+
+    /** Reads the shard holding {@code conjurePackage}, if any. */
+    public Optional<ConjureDefinition> shard(String conjurePackage) {
+        return shardFile(conjurePackage)
+                .map(file -> readShards.computeIfAbsent(conjurePackage, _package -> read(file)));
+    }
+
+    /** Names of every error, by package. */
+    public Set<TypeName> errorNames() {
+        return allNames(shard -> shard.errors);
+    }
+
+    /** Names of every type, by package. */
+    public Set<TypeName> typeNames() {
+        return allNames(shard -> shard.types);
+    }
+
+    /** Names of every service, by package. */
+    public Set<TypeName> serviceNames() {
+        return allNames(shard -> shard.services);
+    }
+
+    public Optional<ErrorDefinition> error(TypeName name) {
+        return lookUp(name, shard -> shard.errors, ConjureDefinition::getErrors, ErrorDefinition::getErrorName);
+    }
+
+    public Optional<TypeDefinition> type(TypeName name) {
+        return lookUp(name, shard -> shard.types, ConjureDefinition::getTypes, ShardedIr::typeName);
+    }
+
+    public Optional<ServiceDefinition> service(TypeName name) {
+        return lookUp(
+                name, shard -> shard.services, ConjureDefinition::getServices, ServiceDefinition::getServiceName);
+    }
+
+    /** Reads every shard, e.g. for generators which need the whole definition. */
+    public ConjureDefinition toDefinition() {
+        List<ErrorDefinition> errors = new ArrayList<>();
+        List<TypeDefinition> types = new ArrayList<>();
+        List<ServiceDefinition> services = new ArrayList<>();
+        for (String conjurePackage : shards.keySet()) {
+            ConjureDefinition shard = shard(conjurePackage).get();
+            errors.addAll(shard.getErrors());
+            types.addAll(shard.getTypes());
+            services.addAll(shard.getServices());
+        }
+        return ConjureDefinition.builder()
+                .version(version)
+                .errors(errors)
+                .types(types)
+                .services(services)
+                .extensions(extensions)
+                .build();
+    }
+
+    private <T> Optional<T> lookUp(
+            TypeName name,
+            Function<Shard, Set<TypeName>> names,
+            Function<ConjureDefinition, List<T>> records,
+            Function<T, TypeName> nameFunction) {
+        Shard shard = shards.get(name.getPackage());
+        if (shard == null || !names.apply(shard).contains(name)) {
+            return Optional.empty();
+        }
+        return records.apply(shard(name.getPackage()).get()).stream()
+                .filter(record -> nameFunction.apply(record).equals(name))
+                .findFirst();
+    }
+
+    private Set<TypeName> allNames(Function<Shard, Set<TypeName>> names) {
+        return shards.values().stream()
+                .flatMap(shard -> names.apply(shard).stream())
+                .collect(ImmutableSet.toImmutableSet());
+    }
+
+    private static TypeName typeName(TypeDefinition type) {
+        return type.accept(TypeDefinitionVisitor.TYPE_NAME);
+    }
+
+    private static ConjureDefinition read(Path file) {
+        try {
+            return ConjureDefinitionReader.read(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read IR shard " + file, e);
+        }
+    }
+
+    private static <T> Map<String, List<T>> byPackage(List<T> records, Function<T, TypeName> nameFunction) {
+        return records.stream()
+                .collect(Collectors.groupingBy(
+                        record -> nameFunction.apply(record).getPackage(), LinkedHashMap::new, Collectors.toList()));
+    }
+
+    private static <T> void writeNames(
+            JsonGenerator generator, String fieldName, List<T> records, Function<T, TypeName> nameFunction)
+            throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T record : records) {
+            generator.writeString(nameFunction.apply(record).getName());
+        }
+        generator.writeEndArray();
+    }
+
+    private static ImmutableSet<TypeName> names(String conjurePackage, JsonNode names) {
+        List<TypeName> typeNames = new ArrayList<>(names.size());
+        names.forEach(name -> typeNames.add(TypeName.of(name.asText(), conjurePackage)));
+        return ImmutableSet.copyOf(typeNames);
+    }
+
+    private static final class Shard {
+        private final String file;
+        private final ImmutableSet<TypeName> errors;
+        private final ImmutableSet<TypeName> types;
+        private final ImmutableSet<TypeName> services;
+
+        private Shard(
+                String file,
+                ImmutableSet<TypeName> errors,
+                ImmutableSet<TypeName> types,
+                ImmutableSet<TypeName> services) {
+            this.file = file;
+            this.errors = errors;
+            this.types = types;
+            this.services = services;
+        }
+    }
+}
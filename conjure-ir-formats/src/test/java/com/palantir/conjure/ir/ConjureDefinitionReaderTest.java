@@ -0,0 +1,85 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.ir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.conjure.spec.AliasDefinition;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.LogSafety;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ConjureDefinitionReaderTest {
+    private static final ConjureDefinition DEFINITION = ConjureDefinition.builder()
+            .version(1)
+            .types(TypeDefinition.alias(AliasDefinition.builder()
+                    .typeName(TypeName.of("Alias", "com.palantir.foo"))
+                    .alias(Type.primitive(PrimitiveType.STRING))
+                    .safety(LogSafety.SAFE)
+                    .build()))
+            .types(TypeDefinition.alias(AliasDefinition.builder()
+                    .typeName(TypeName.of("OtherAlias", "com.palantir.foo"))
+                    .alias(Type.primitive(PrimitiveType.STRING))
+                    .build()))
+            .putExtensions("foo", "bar")
+            .build();
+
+    @TempDir
+    public Path folder;
+
+    @Test
+    public void testReadsEveryFormat() throws IOException {
+        for (IrFormat format : List.of(IrFormat.JSON, IrFormat.SMILE)) {
+            Path file = folder.resolve("ir-" + format);
+            Files.write(file, format.newObjectMapper().writeValueAsBytes(DEFINITION));
+            assertThat(ConjureDefinitionReader.read(file)).as("%s", format).isEqualTo(DEFINITION);
+        }
+
+        Path indexedFile = folder.resolve("ir-indexed");
+        try (OutputStream output = Files.newOutputStream(indexedFile)) {
+            IndexedIr.write(DEFINITION, DEFINITION.getExtensions(), output);
+        }
+        assertThat(ConjureDefinitionReader.read(indexedFile)).isEqualTo(DEFINITION);
+        assertThat(ConjureDefinitionReader.read(new ByteArrayInputStream(Files.readAllBytes(indexedFile))))
+                .isEqualTo(DEFINITION);
+    }
+
+    @Test
+    public void testSmileIsSmallerThanJson() throws IOException {
+        assertThat(IrFormat.SMILE.newObjectMapper().writeValueAsBytes(DEFINITION))
+                .hasSizeLessThan(IrFormat.JSON.newObjectMapper().writeValueAsBytes(DEFINITION).length);
+    }
+
+    @Test
+    public void testRejectsUnknownFormats() {
+        assertThatThrownBy(() -> ConjureDefinitionReader.read(
+                        new ByteArrayInputStream("not ir".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IOException.class);
+    }
+}
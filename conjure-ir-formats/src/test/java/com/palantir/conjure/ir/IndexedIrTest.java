@@ -0,0 +1,116 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.ir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.conjure.spec.AliasDefinition;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.ErrorCode;
+import com.palantir.conjure.spec.ErrorDefinition;
+import com.palantir.conjure.spec.ErrorNamespace;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.ServiceDefinition;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IndexedIrTest {
+    private static final TypeName ALIAS = TypeName.of("Alias", "com.palantir.foo");
+    private static final TypeName OBJECT = TypeName.of("Object", "com.palantir.bar");
+    private static final TypeName ERROR = TypeName.of("Error", "com.palantir.foo");
+    private static final TypeName SERVICE = TypeName.of("Service", "com.palantir.foo");
+
+    private static final TypeDefinition ALIAS_DEFINITION = TypeDefinition.alias(AliasDefinition.builder()
+            .typeName(ALIAS)
+            .alias(Type.primitive(PrimitiveType.STRING))
+            .build());
+    private static final TypeDefinition OBJECT_DEFINITION =
+            TypeDefinition.object(ObjectDefinition.builder().typeName(OBJECT).build());
+    private static final ConjureDefinition DEFINITION = ConjureDefinition.builder()
+            .version(1)
+            .errors(ErrorDefinition.builder()
+                    .errorName(ERROR)
+                    .namespace(ErrorNamespace.of("Foo"))
+                    .code(ErrorCode.NOT_FOUND)
+                    .build())
+            .types(ALIAS_DEFINITION)
+            .types(OBJECT_DEFINITION)
+            .services(ServiceDefinition.builder().serviceName(SERVICE).build())
+            .putExtensions("foo", "bar")
+            .build();
+
+    @TempDir
+    public Path folder;
+
+    @Test
+    public void testLooksUpRecordsByName() throws IOException {
+        IndexedIr indexedIr = IndexedIr.open(write(DEFINITION, Map.of("baz", 1)));
+
+        assertThat(indexedIr.version()).isEqualTo(1);
+        assertThat(indexedIr.extensions()).containsExactly(Map.entry("baz", 1));
+        assertThat(indexedIr.typeNames()).containsExactly(ALIAS, OBJECT);
+        assertThat(indexedIr.errorNames()).containsExactly(ERROR);
+        assertThat(indexedIr.serviceNames()).containsExactly(SERVICE);
+
+        assertThat(indexedIr.type(OBJECT)).hasValue(OBJECT_DEFINITION);
+        assertThat(indexedIr.type(OBJECT).get()).isSameAs(indexedIr.type(OBJECT).get());
+        assertThat(indexedIr.type(ERROR)).isEmpty();
+        assertThat(indexedIr.error(ERROR)).hasValue(DEFINITION.getErrors().get(0));
+        assertThat(indexedIr.service(SERVICE)).hasValue(DEFINITION.getServices().get(0));
+    }
+
+    @Test
+    public void testDecodesWholeDefinition() throws IOException {
+        Path file = write(DEFINITION, DEFINITION.getExtensions());
+
+        assertThat(IndexedIr.open(file).toDefinition()).isEqualTo(DEFINITION);
+        assertThat(IndexedIr.of(ByteBuffer.wrap(Files.readAllBytes(file))).toDefinition())
+                .isEqualTo(DEFINITION);
+    }
+
+    @Test
+    public void testRejectsOtherFiles() throws IOException {
+        Path file = folder.resolve("ir.json");
+        Files.write(file, IrFormat.JSON.newObjectMapper().writeValueAsBytes(DEFINITION));
+
+        assertThatThrownBy(() -> IndexedIr.open(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Not an indexed IR file");
+        assertThatThrownBy(() -> IndexedIr.of(ByteBuffer.wrap("CNJRIDX1".getBytes(StandardCharsets.US_ASCII))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Not an indexed IR file");
+    }
+
+    private Path write(ConjureDefinition definition, Map<String, Object> extensions) throws IOException {
+        Path file = folder.resolve("ir.idx");
+        try (OutputStream output = Files.newOutputStream(file)) {
+            IndexedIr.write(definition, extensions, output);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.ir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.spec.AliasDefinition;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.ErrorCode;
+import com.palantir.conjure.spec.ErrorDefinition;
+import com.palantir.conjure.spec.ErrorNamespace;
+import com.palantir.conjure.spec.FieldDefinition;
+import com.palantir.conjure.spec.FieldName;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.ServiceDefinition;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.visitor.TypeDefinitionVisitor;
+import com.palantir.conjure.visitor.TypeVisitor;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ShardedIrTest {
+    private static final TypeName ALIAS = TypeName.of("Alias", "com.palantir.foo");
+    private static final TypeName OBJECT = TypeName.of("Object", "com.palantir.bar");
+    private static final TypeName ERROR = TypeName.of("Error", "com.palantir.foo");
+    private static final TypeName SERVICE = TypeName.of("Service", "com.palantir.foo");
+
+    private static final TypeDefinition ALIAS_DEFINITION = TypeDefinition.alias(AliasDefinition.builder()
+            .typeName(ALIAS)
+            .alias(Type.primitive(PrimitiveType.STRING))
+            .build());
+    private static final TypeDefinition OBJECT_DEFINITION = TypeDefinition.object(ObjectDefinition.builder()
+            .typeName(OBJECT)
+            .fields(FieldDefinition.builder()
+                    .fieldName(FieldName.of("alias"))
+                    .type(Type.reference(ALIAS))
+                    .build())
+            .build());
+    private static final ErrorDefinition ERROR_DEFINITION = ErrorDefinition.builder()
+            .errorName(ERROR)
+            .namespace(ErrorNamespace.of("Foo"))
+            .code(ErrorCode.NOT_FOUND)
+            .build();
+    private static final ServiceDefinition SERVICE_DEFINITION =
+            ServiceDefinition.builder().serviceName(SERVICE).build();
+    private static final ConjureDefinition DEFINITION = ConjureDefinition.builder()
+            .version(1)
+            .errors(ERROR_DEFINITION)
+            .types(ALIAS_DEFINITION)
+            .types(OBJECT_DEFINITION)
+            .services(SERVICE_DEFINITION)
+            .putExtensions("foo", "bar")
+            .build();
+
+    @TempDir
+    public Path folder;
+
+    @Test
+    public void testSplitsByPackage() {
+        SortedMap<String, ConjureDefinition> shards = ShardedIr.shards(DEFINITION);
+
+        assertThat(shards).containsOnlyKeys("com.palantir.bar", "com.palantir.foo");
+        assertThat(shards.firstKey()).isEqualTo("com.palantir.bar");
+        assertThat(shards.get("com.palantir.bar").getTypes()).containsExactly(OBJECT_DEFINITION);
+        assertThat(shards.get("com.palantir.bar").getErrors()).isEmpty();
+        assertThat(shards.get("com.palantir.foo"))
+                .isEqualTo(ConjureDefinition.builder()
+                        .version(1)
+                        .errors(ERROR_DEFINITION)
+                        .types(ALIAS_DEFINITION)
+                        .services(SERVICE_DEFINITION)
+                        .build());
+    }
+
+    @Test
+    public void testResolvesReferencesThroughManifest() throws IOException {
+        ShardedIr shardedIr = ShardedIr.open(write(DEFINITION, Map.of("baz", 1), IrFormat.SMILE));
+
+        assertThat(shardedIr.version()).isEqualTo(1);
+        assertThat(shardedIr.extensions()).containsExactly(Map.entry("baz", 1));
+        assertThat(shardedIr.packages()).containsExactly("com.palantir.bar", "com.palantir.foo");
+        assertThat(shardedIr.typeNames()).containsExactly(OBJECT, ALIAS);
+        assertThat(shardedIr.errorNames()).containsExactly(ERROR);
+        assertThat(shardedIr.serviceNames()).containsExactly(SERVICE);
+        assertThat(shardedIr.shardFile("com.palantir.foo"))
+                .hasValue(folder.resolve("ir.json.shards").resolve("com.palantir.foo.smile"));
+
+        TypeDefinition object = shardedIr.type(OBJECT).get();
+        assertThat(object).isEqualTo(OBJECT_DEFINITION);
+        Type reference = object.accept(TypeDefinitionVisitor.OBJECT).getFields().get(0).getType();
+        assertThat(shardedIr.type(reference.accept(TypeVisitor.REFERENCE)))
+                .hasValue(ALIAS_DEFINITION);
+        assertThat(shardedIr.type(ERROR)).isEmpty();
+        assertThat(shardedIr.type(TypeName.of("Object", "com.palantir.baz"))).isEmpty();
+        assertThat(shardedIr.error(ERROR)).hasValue(ERROR_DEFINITION);
+        assertThat(shardedIr.service(SERVICE)).hasValue(SERVICE_DEFINITION);
+        assertThat(shardedIr.shard("com.palantir.foo").get()).isSameAs(shardedIr.shard("com.palantir.foo").get());
+        assertThat(shardedIr.shard("com.palantir.foo").get().getExtensions()).isEmpty();
+    }
+
+    @Test
+    public void testReadsWholeDefinition() throws IOException {
+        ShardedIr shardedIr = ShardedIr.open(write(DEFINITION, DEFINITION.getExtensions(), IrFormat.JSON));
+
+        assertThat(shardedIr.toDefinition())
+                .isEqualTo(ConjureDefinition.builder()
+                        .from(DEFINITION)
+                        .types(List.of(OBJECT_DEFINITION, ALIAS_DEFINITION))
+                        .build());
+    }
+
+    private Path write(ConjureDefinition definition, Map<String, Object> extensions, IrFormat format)
+            throws IOException {
+        Path manifest = folder.resolve("ir.json");
+        Path shardDirectory = Files.createDirectories(ShardedIr.shardDirectory(manifest));
+        SortedMap<String, ConjureDefinition> shards = ShardedIr.shards(definition);
+        for (Map.Entry<String, ConjureDefinition> shard : shards.entrySet()) {
+            Files.write(
+                    shardDirectory.resolve(ShardedIr.shardFileName(shard.getKey(), format)),
+                    format.newObjectMapper().writeValueAsBytes(shard.getValue()));
+        }
+        try (OutputStream output = Files.newOutputStream(manifest)) {
+            ShardedIr.writeManifest(definition.getVersion(), shards, extensions, format, output);
+        }
+        return manifest;
+    }
+}
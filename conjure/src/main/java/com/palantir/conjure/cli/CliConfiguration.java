@@ -17,6 +17,7 @@
 package com.palantir.conjure.cli;
 
 import com.google.common.collect.ImmutableList;
+import com.palantir.conjure.ir.IrFormat;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -24,6 +25,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.immutables.value.Value;
@@ -38,12 +40,57 @@ public abstract class CliConfiguration {
 
     abstract boolean requireSafety();
 
+    @Value.Default
+    boolean validateRouteConflicts() {
+        return false;
+    }
+
+    @Value.Default
+    int parserParallelism() {
+        return 1;
+    }
+
+    @Value.Default
+    int validationParallelism() {
+        return 1;
+    }
+
+    @Value.Default
+    boolean compact() {
+        return false;
+    }
+
+    @Value.Default
+    IrFormat format() {
+        return IrFormat.JSON;
+    }
+
+    @Value.Default
+    boolean shardByPackage() {
+        return false;
+    }
+
+    abstract Optional<File> cacheDir();
+
+    abstract Optional<CompilationProfiler.Format> profile();
+
     static Builder builder() {
         return new Builder();
     }
 
     static CliConfiguration create(
             String input, String outputIrFile, Map<String, Object> extensions, boolean requireSafety) {
+        return forPaths(input, outputIrFile)
+                .extensions(extensions)
+                .requireSafety(requireSafety)
+                .build();
+    }
+
+    /**
+     * Returns a builder with the input files found at {@code input} and the output file at {@code outputIrFile}, on
+     * which the remaining options can be set.
+     */
+    static Builder forPaths(String input, String outputIrFile) {
         File inputFile = new File(input);
 
         Collection<File> inputFiles;
@@ -58,12 +105,7 @@ public abstract class CliConfiguration {
             throw new RuntimeException("Output IR file should not be a directory: " + outputFile);
         }
 
-        return new Builder()
-                .inputFiles(inputFiles)
-                .outputIrFile(outputFile)
-                .extensions(extensions)
-                .requireSafety(requireSafety)
-                .build();
+        return builder().inputFiles(inputFiles).outputIrFile(outputFile);
     }
 
     private static Collection<File> resolveInputFiles(File input) throws IOException {
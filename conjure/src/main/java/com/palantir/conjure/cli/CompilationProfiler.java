@@ -0,0 +1,223 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.cli;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.palantir.conjure.defs.CompilationListener;
+import com.palantir.conjure.defs.CompilationMeasurement;
+import com.palantir.conjure.defs.CompilationPhase;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the measurements of a compilation and reports them, per phase and for the slowest files and validators,
+ * as a human-readable table or as JSON.
+ *
+ * <p>Allocations are those of the thread running each phase; with more than one parser thread, the allocations of the
+ * parse phase exclude those of the parser threads, which are reported per file instead.
+ */
+final class CompilationProfiler implements CompilationListener {
+    private static final int SLOWEST_ENTRIES = 10;
+    private static final double BYTES_PER_MIB = 1024 * 1024;
+
+    enum Format {
+        TABLE,
+        JSON;
+
+        static Format fromString(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new SafeIllegalArgumentException(
+                    "Profile format must be 'table' or 'json'", SafeArg.of("format", value));
+        }
+    }
+
+    private final Map<CompilationPhase, CompilationMeasurement> phases =
+            Collections.synchronizedMap(new EnumMap<>(CompilationPhase.class));
+    private final List<Sample> parsedFiles = Collections.synchronizedList(new ArrayList<>());
+    private final List<Sample> convertedFiles = Collections.synchronizedList(new ArrayList<>());
+    private final List<Sample> validators = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong typeExpressionCacheHits = new AtomicLong();
+    private final AtomicLong typeExpressionCacheMisses = new AtomicLong();
+
+    @Override
+    public void phaseCompleted(CompilationPhase phase, CompilationMeasurement measurement) {
+        phases.merge(phase, measurement, CompilationProfiler::add);
+    }
+
+    @Override
+    public void fileParsed(File file, CompilationMeasurement measurement) {
+        parsedFiles.add(new Sample(file.getPath(), measurement));
+    }
+
+    @Override
+    public void typeExpressionsParsed(long cacheHits, long cacheMisses) {
+        typeExpressionCacheHits.addAndGet(cacheHits);
+        typeExpressionCacheMisses.addAndGet(cacheMisses);
+    }
+
+    @Override
+    public void fileConverted(File file, CompilationMeasurement measurement) {
+        convertedFiles.add(new Sample(file.getPath(), measurement));
+    }
+
+    @Override
+    public void validatorCompleted(String validator, CompilationMeasurement measurement) {
+        validators.add(new Sample(validator, measurement));
+    }
+
+    String report(Format format) {
+        return switch (format) {
+            case TABLE -> table();
+            case JSON -> json();
+        };
+    }
+
+    private String table() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%-12s %16s %16s%n", "Phase", "Wall time (ms)", "Allocated (MiB)"));
+        Map<CompilationPhase, CompilationMeasurement> completedPhases = completedPhases();
+        completedPhases.forEach((phase, measurement) -> table.append(String.format(
+                Locale.ROOT,
+                "%-12s %16.1f %16.1f%n",
+                phase,
+                millis(measurement.wallTime()),
+                measurement.allocatedBytes() / BYTES_PER_MIB)));
+        CompilationMeasurement total = completedPhases.values().stream()
+                .reduce(CompilationProfiler::add)
+                .orElseGet(() -> CompilationMeasurement.builder()
+                        .wallTime(Duration.ZERO)
+                        .allocatedBytes(0)
+                        .build());
+        table.append(String.format(
+                Locale.ROOT,
+                "%-12s %16.1f %16.1f%n",
+                "TOTAL",
+                millis(total.wallTime()),
+                total.allocatedBytes() / BYTES_PER_MIB));
+
+        table.append(String.format(
+                Locale.ROOT,
+                "%nType expressions: %d parsed, %d reused%n",
+                typeExpressionCacheMisses.get(),
+                typeExpressionCacheHits.get()));
+
+        appendSlowest(table, "Slowest files to parse", parsedFiles);
+        appendSlowest(table, "Slowest files to convert", convertedFiles);
+        appendSlowest(table, "Slowest validators", validators);
+        return table.toString();
+    }
+
+    private static void appendSlowest(StringBuilder table, String title, List<Sample> samples) {
+        table.append(String.format(Locale.ROOT, "%n%s%n", title));
+        table.append(String.format(Locale.ROOT, "%16s %16s   %s%n", "Wall time (ms)", "Allocated (MiB)", "Name"));
+        slowest(samples).stream().limit(SLOWEST_ENTRIES).forEach(sample -> table.append(String.format(
+                Locale.ROOT,
+                "%16.1f %16.1f   %s%n",
+                millis(sample.measurement.wallTime()),
+                sample.measurement.allocatedBytes() / BYTES_PER_MIB,
+                sample.name)));
+    }
+
+    private String json() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        Map<String, Object> phaseReport = new LinkedHashMap<>();
+        completedPhases().forEach((phase, measurement) -> phaseReport.put(phase.name(), toJson(measurement)));
+        report.put("phases", phaseReport);
+        Map<String, Object> typeExpressionCache = new LinkedHashMap<>();
+        typeExpressionCache.put("hits", typeExpressionCacheHits.get());
+        typeExpressionCache.put("misses", typeExpressionCacheMisses.get());
+        report.put("typeExpressionCache", typeExpressionCache);
+        report.put("parsedFiles", toJson(slowest(parsedFiles)));
+        report.put("convertedFiles", toJson(slowest(convertedFiles)));
+        report.put("validators", toJson(slowest(validators)));
+        try {
+            return ConjureCli.OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to serialize compilation profile", e);
+        }
+    }
+
+    private static List<Map<String, Object>> toJson(List<Sample> samples) {
+        return samples.stream()
+                .map(sample -> {
+                    Map<String, Object> entry = new LinkedHashMap<>();
+                    entry.put("name", sample.name);
+                    entry.putAll(toJson(sample.measurement));
+                    return entry;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, Object> toJson(CompilationMeasurement measurement) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("wallTimeMillis", millis(measurement.wallTime()));
+        entry.put("allocatedBytes", measurement.allocatedBytes());
+        return entry;
+    }
+
+    private Map<CompilationPhase, CompilationMeasurement> completedPhases() {
+        synchronized (phases) {
+            return new EnumMap<>(phases);
+        }
+    }
+
+    /** Returns a copy of {@code samples}, slowest first. */
+    private static List<Sample> slowest(List<Sample> samples) {
+        synchronized (samples) {
+            return samples.stream()
+                    .sorted(Comparator.comparing((Sample sample) -> sample.measurement.wallTime()).reversed())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static CompilationMeasurement add(CompilationMeasurement first, CompilationMeasurement second) {
+        return CompilationMeasurement.builder()
+                .wallTime(first.wallTime().plus(second.wallTime()))
+                .allocatedBytes(first.allocatedBytes() + second.allocatedBytes())
+                .build();
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    private static final class Sample {
+        private final String name;
+        private final CompilationMeasurement measurement;
+
+        private Sample(String name, CompilationMeasurement measurement) {
+            this.name = name;
+            this.measurement = measurement;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.cli;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.palantir.conjure.parser.ConjureSourceFileCache;
+import com.palantir.logsafe.UnsafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.ConnectException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves compile requests over a Unix domain socket from a single long-lived JVM, so that repeated compilations skip
+ * JVM start-up, class loading and JIT warm-up, and reuse parsed source files which did not change in between.
+ *
+ * <p>Every connection carries a single request: one line of JSON describing a {@link DaemonRequest}, which is answered
+ * by one line of JSON describing a {@link DaemonResponse}.
+ */
+final class CompileDaemon implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(CompileDaemon.class);
+    // File type bits of a unix file mode, as in sys/stat.h
+    private static final int FILE_TYPE_MASK = 0170000;
+    private static final int SOCKET_FILE_TYPE = 0140000;
+
+    private final Path socketPath;
+    private final ConjureSourceFileCache sourceFileCache = new ConjureSourceFileCache();
+    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("conjure-daemon-%d")
+            .setDaemon(true)
+            .build());
+    private final ServerSocketChannel server;
+
+    CompileDaemon(Path socketPath) throws IOException {
+        this.socketPath = socketPath;
+        deleteStaleSocket(socketPath);
+        this.server = bindOwnerOnly(socketPath);
+    }
+
+    /** Accepts and handles connections until this daemon is closed. */
+    void serve() throws IOException {
+        try {
+            while (server.isOpen()) {
+                SocketChannel channel = server.accept();
+                executor.execute(() -> handle(channel));
+            }
+        } catch (ClosedChannelException e) {
+            log.info("Conjure daemon stopped accepting connections on {}", socketPath);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            server.close();
+            executor.shutdownNow();
+        } finally {
+            Files.deleteIfExists(socketPath);
+        }
+    }
+
+    /**
+     * Deletes a socket left behind by a daemon which did not shut down cleanly, which would otherwise prevent binding.
+     * Anything which is not a socket, and the socket of a daemon which is still listening, is left alone.
+     */
+    private static void deleteStaleSocket(Path socketPath) throws IOException {
+        if (!Files.exists(socketPath, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        int mode = (Integer) Files.getAttribute(socketPath, "unix:mode", LinkOption.NOFOLLOW_LINKS);
+        if ((mode & FILE_TYPE_MASK) != SOCKET_FILE_TYPE) {
+            throw new SafeIllegalArgumentException(
+                    "Refusing to replace a file which is not a socket", UnsafeArg.of("path", socketPath));
+        }
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socketPath));
+        } catch (ConnectException e) {
+            Files.deleteIfExists(socketPath);
+            return;
+        }
+        throw new SafeIllegalStateException(
+                "Another conjure daemon is already listening", UnsafeArg.of("path", socketPath));
+    }
+
+    /**
+     * Binds a socket which only its owner can connect to. The socket is bound inside a directory only the owner can
+     * enter and restricted there, then moved into place, so it is never reachable with wider permissions.
+     */
+    private static ServerSocketChannel bindOwnerOnly(Path socketPath) throws IOException {
+        Path bindDirectory = Files.createTempDirectory(
+                socketPath.toAbsolutePath().getParent(),
+                ".conjure-daemon",
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        Path boundPath = bindDirectory.resolve("socket");
+        ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            server.bind(UnixDomainSocketAddress.of(boundPath));
+            Files.setPosixFilePermissions(boundPath, PosixFilePermissions.fromString("rw-------"));
+            Files.move(boundPath, socketPath, StandardCopyOption.ATOMIC_MOVE);
+            return server;
+        } catch (IOException | RuntimeException e) {
+            server.close();
+            throw e;
+        } finally {
+            Files.deleteIfExists(boundPath);
+            Files.delete(bindDirectory);
+        }
+    }
+
+    private void handle(SocketChannel channel) {
+        try (channel) {
+            BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+            String line = reader.readLine();
+            if (line == null) {
+                return;
+            }
+            DaemonResponse response;
+            try {
+                response = handle(ConjureCli.OBJECT_MAPPER.readValue(line, DaemonRequest.class));
+            } catch (JsonProcessingException e) {
+                response = DaemonResponse.failed("Invalid request: " + e.getOriginalMessage());
+            }
+            Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+            writer.write(ConjureCli.OBJECT_MAPPER.writeValueAsString(response));
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to handle conjure daemon connection", e);
+        }
+    }
+
+    @VisibleForTesting
+    DaemonResponse handle(DaemonRequest request) {
+        // The daemon's working directory is unrelated to the client's, so relative paths would name other files
+        if (!Path.of(request.input()).isAbsolute() || !Path.of(request.output()).isAbsolute()) {
+            return DaemonResponse.failed("The input and output paths of a daemon request must be absolute: "
+                    + request.input() + ", " + request.output());
+        }
+        try {
+            ConjureCli.CompileCommand.generate(
+                    CliConfiguration.forPaths(request.input(), request.output())
+                            .extensions(request.extensions())
+                            .requireSafety(request.requireSafety())
+                            .validateRouteConflicts(request.validateRouteConflicts())
+                            .build(),
+                    sourceFileCache);
+            return DaemonResponse.succeeded();
+        } catch (RuntimeException e) {
+            // Mirror the compile command, which prints the message of every exception in the causal chain
+            String messages = Throwables.getCausalChain(e).stream()
+                    .map(Throwable::getMessage)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.joining("\n"));
+            return DaemonResponse.failed(messages.isEmpty() ? e.toString() : messages);
+        }
+    }
+
+    @VisibleForTesting
+    ConjureSourceFileCache sourceFileCache() {
+        return sourceFileCache;
+    }
+}
@@ -24,23 +24,33 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
+import com.palantir.conjure.defs.CompilationListener;
+import com.palantir.conjure.defs.CompilationMeasurement;
+import com.palantir.conjure.defs.CompilationPhase;
 import com.palantir.conjure.defs.Conjure;
 import com.palantir.conjure.defs.ConjureArgs;
 import com.palantir.conjure.defs.SafetyDeclarationRequirements;
 import com.palantir.conjure.exceptions.ConjureException;
+import com.palantir.conjure.ir.IrFormat;
 import com.palantir.conjure.parser.ConjureParser.CyclicImportException;
+import com.palantir.conjure.parser.ConjureSourceFileCache;
 import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import com.palantir.parsec.ParseException;
+import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.UncheckedIOException;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import picocli.CommandLine;
 import picocli.CommandLine.IExecutionExceptionHandler;
 import picocli.CommandLine.ParseResult;
@@ -49,7 +59,7 @@ import picocli.CommandLine.ParseResult;
         name = "conjure",
         description = "CLI to generate Conjure IR from Conjure YML definitions.",
         mixinStandardHelpOptions = true,
-        subcommands = ConjureCli.CompileCommand.class)
+        subcommands = {ConjureCli.CompileCommand.class, ConjureCli.DaemonCommand.class})
 public final class ConjureCli implements Runnable {
     public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
             .registerModule(new Jdk8Module())
@@ -161,48 +171,145 @@ public final class ConjureCli implements Runnable {
                 description = "All components which allow safety declarations must declare safety.")
         private boolean requireSafety;
 
+        @CommandLine.Option(
+                names = "--validateRouteConflicts",
+                description = "Endpoints of different services must not have overlapping routes, e.g. because all "
+                        + "services are deployed behind a single gateway.")
+        private boolean validateRouteConflicts;
+
+        @CommandLine.Option(
+                names = "--parserParallelism",
+                description = "Number of threads used to parse the input conjure YML definitions and their imports.",
+                defaultValue = "1")
+        private int parserParallelism;
+
+        @CommandLine.Option(
+                names = "--validationParallelism",
+                description = "Number of threads used to validate the compiled definition.",
+                defaultValue = "1")
+        private int validationParallelism;
+
+        @CommandLine.Option(
+                names = "--compact",
+                description = "Write the IR without indentation or line breaks, which makes it smaller and faster to "
+                        + "write and read.")
+        private boolean compact;
+
+        @CommandLine.Option(
+                names = "--format",
+                description = "Encoding of the IR file: 'json' (the default), 'smile', a binary encoding of the same "
+                        + "document which is smaller and faster to read, or 'indexed', which lets generators decode "
+                        + "single types, errors and services by name.",
+                defaultValue = "json")
+        private String format;
+
+        @CommandLine.Option(
+                names = "--shardByPackage",
+                description = "Write a manifest to <output> and the IR of each conjure package to a separate file in "
+                        + "the '<output>.shards' directory, so that generators can skip packages which did not "
+                        + "change. Shards whose content is unchanged are left untouched.")
+        private boolean shardByPackage;
+
+        @CommandLine.Option(
+                names = "--cacheDir",
+                description = "Directory in which to cache per-file IR between invocations. Files whose content and "
+                        + "imports are unchanged since a previous invocation are not parsed again.")
+        @Nullable
+        private String cacheDir;
+
+        @CommandLine.Option(
+                names = "--profile",
+                description = "Report the wall time and allocations of each compilation phase and of the slowest "
+                        + "files and validators, either as a 'table' (the default) or as 'json'.",
+                arity = "0..1",
+                fallbackValue = "table")
+        @Nullable
+        private String profile;
+
         @CommandLine.Unmatched
         @Nullable
         private List<String> unmatchedOptions;
 
-        @SuppressWarnings("BanSystemErr")
+        @SuppressWarnings({"BanSystemErr", "BanSystemOut"})
         @Override
         public void run() {
             if (unmatchedOptions != null && !unmatchedOptions.isEmpty()) {
                 System.err.println("Ignoring unknown options: " + unmatchedOptions);
             }
             CliConfiguration config = getConfiguration();
-            generate(config);
+            if (config.profile().isPresent()) {
+                CompilationProfiler profiler = new CompilationProfiler();
+                generate(config, new ConjureSourceFileCache(), profiler);
+                System.out.println(profiler.report(config.profile().get()));
+            } else {
+                generate(config);
+            }
         }
 
         @VisibleForTesting
         static void generate(CliConfiguration config) {
-            ConjureDefinition definition = ConjureDefinition.builder()
-                    .from(Conjure.parse(ConjureArgs.builder()
-                            .definitions(config.inputFiles())
-                            .safetyDeclarations(
-                                    config.requireSafety()
-                                            ? SafetyDeclarationRequirements.REQUIRED
-                                            : SafetyDeclarationRequirements.ALLOWED)
-                            .build()))
-                    .extensions(config.extensions())
-                    .build();
+            generate(config, new ConjureSourceFileCache());
+        }
+
+        static void generate(CliConfiguration config, ConjureSourceFileCache sourceFileCache) {
+            generate(config, sourceFileCache, CompilationListener.NO_OP);
+        }
+
+        static void generate(
+                CliConfiguration config, ConjureSourceFileCache sourceFileCache, CompilationListener listener) {
+            ConjureDefinition definition = Conjure.parse(ConjureArgs.builder()
+                    .definitions(config.inputFiles())
+                    .safetyDeclarations(
+                            config.requireSafety()
+                                    ? SafetyDeclarationRequirements.REQUIRED
+                                    : SafetyDeclarationRequirements.ALLOWED)
+                    .validateRouteConflicts(config.validateRouteConflicts())
+                    .parserParallelism(config.parserParallelism())
+                    .validationParallelism(config.validationParallelism())
+                    .cacheDirectory(config.cacheDir())
+                    .sourceFileCache(sourceFileCache)
+                    .compilationListener(listener)
+                    .build());
+            CompilationMeasurement.Timer timer = CompilationMeasurement.start(listener);
             try {
-                OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(config.outputIrFile(), definition);
+                // Extensions are written in place of those of the definition, rather than copied into a new one
+                if (config.shardByPackage()) {
+                    IrWriter.writeSharded(
+                            definition,
+                            config.extensions(),
+                            config.outputIrFile().toPath(),
+                            config.format(),
+                            config.compact());
+                } else {
+                    IrWriter.write(
+                            definition,
+                            config.extensions(),
+                            config.outputIrFile().toPath(),
+                            config.format(),
+                            config.compact());
+                }
             } catch (IOException e) {
                 throw new UncheckedIOException("Failed to serialize IR file to " + config.outputIrFile(), e);
             }
+            listener.phaseCompleted(CompilationPhase.WRITE, timer.stop());
         }
 
         @VisibleForTesting
         CliConfiguration getConfiguration() {
-            return CliConfiguration.create(
-                    input,
-                    output,
-                    Optional.ofNullable(extensions)
+            return CliConfiguration.forPaths(input, output)
+                    .extensions(Optional.ofNullable(extensions)
                             .map(ConjureCli::parseExtensions)
-                            .orElseGet(Collections::emptyMap),
-                    requireSafety);
+                            .orElseGet(Collections::emptyMap))
+                    .requireSafety(requireSafety)
+                    .validateRouteConflicts(validateRouteConflicts)
+                    .parserParallelism(parserParallelism)
+                    .validationParallelism(validationParallelism)
+                    .compact(compact)
+                    .format(parseFormat(format))
+                    .shardByPackage(shardByPackage)
+                    .cacheDir(Optional.ofNullable(cacheDir).map(File::new))
+                    .profile(Optional.ofNullable(profile).map(CompilationProfiler.Format::fromString))
+                    .build();
         }
 
         @Override
@@ -211,6 +318,60 @@ public final class ConjureCli implements Runnable {
         }
     }
 
+    @CommandLine.Command(
+            name = "daemon",
+            description = "Serve compile requests from a long-lived process over a Unix domain socket. Each "
+                    + "connection sends one line of JSON with the fields 'input', 'output', 'extensions', "
+                    + "'requireSafety' and 'validateRouteConflicts', and receives one line of JSON with the fields "
+                    + "'exitCode' and 'error'. The input and output paths must be absolute.",
+            mixinStandardHelpOptions = true,
+            usageHelpWidth = 120)
+    public static final class DaemonCommand implements Runnable, ConjureCliCommand {
+        private static final Logger log = LoggerFactory.getLogger(DaemonCommand.class);
+
+        @CommandLine.Option(
+                names = "--socket",
+                description = "Path of the Unix domain socket to listen on.",
+                required = true)
+        private String socket;
+
+        @CommandLine.Option(names = "--verbose", description = "")
+        private boolean verbose;
+
+        @Override
+        public void run() {
+            try (CompileDaemon daemon = new CompileDaemon(Paths.get(socket))) {
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> closeQuietly(daemon)));
+                daemon.serve();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to serve compile requests on " + socket, e);
+            }
+        }
+
+        private static void closeQuietly(CompileDaemon daemon) {
+            try {
+                daemon.close();
+            } catch (IOException e) {
+                log.warn("Failed to stop compile daemon", e);
+            }
+        }
+
+        @Override
+        public boolean isVerbose() {
+            return verbose;
+        }
+    }
+
+    static IrFormat parseFormat(String format) {
+        for (IrFormat irFormat : IrFormat.values()) {
+            if (irFormat.name().equalsIgnoreCase(format)) {
+                return irFormat;
+            }
+        }
+        throw new SafeIllegalArgumentException(
+                "IR format must be 'json', 'smile' or 'indexed'", SafeArg.of("format", format));
+    }
+
     static Map<String, Object> parseExtensions(String extensions) {
         try {
             return OBJECT_MAPPER.readValue(extensions, new TypeReference<Map<String, Object>>() {});
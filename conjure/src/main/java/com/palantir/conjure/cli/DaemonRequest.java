@@ -0,0 +1,53 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.cli;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.palantir.conjure.defs.ConjureImmutablesStyle;
+import java.util.Map;
+import org.immutables.value.Value;
+
+/** A compile request sent to a {@link CompileDaemon}, mirroring the arguments of the {@code compile} command. */
+@JsonDeserialize(as = ImmutableDaemonRequest.class)
+@Value.Immutable
+@ConjureImmutablesStyle
+interface DaemonRequest {
+
+    /** Absolute path to the input conjure YML definition file, or directory containing multiple such files. */
+    String input();
+
+    /** Absolute path to the output IR file. */
+    String output();
+
+    Map<String, Object> extensions();
+
+    @Value.Default
+    default boolean requireSafety() {
+        return false;
+    }
+
+    @Value.Default
+    default boolean validateRouteConflicts() {
+        return false;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    class Builder extends ImmutableDaemonRequest.Builder {}
+}
@@ -0,0 +1,45 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.cli;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.conjure.defs.ConjureImmutablesStyle;
+import java.util.Optional;
+import org.immutables.value.Value;
+
+/** The outcome of a {@link DaemonRequest}. */
+@JsonSerialize(as = ImmutableDaemonResponse.class)
+@JsonDeserialize(as = ImmutableDaemonResponse.class)
+@Value.Immutable
+@ConjureImmutablesStyle
+interface DaemonResponse {
+
+    /** Exit code the {@code compile} command would have returned for the same arguments. */
+    int exitCode();
+
+    /** Description of the problems with the input definitions, if compilation failed. */
+    Optional<String> error();
+
+    static DaemonResponse succeeded() {
+        return ImmutableDaemonResponse.builder().exitCode(0).build();
+    }
+
+    static DaemonResponse failed(String error) {
+        return ImmutableDaemonResponse.builder().exitCode(-1).error(error).build();
+    }
+}
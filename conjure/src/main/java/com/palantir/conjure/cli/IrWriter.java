@@ -0,0 +1,268 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.conjure.cli;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.base.Splitter;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
+import com.google.common.io.MoreFiles;
+import com.palantir.conjure.ir.IndexedIr;
+import com.palantir.conjure.ir.IrFormat;
+import com.palantir.conjure.ir.ShardedIr;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streams a compiled definition as IR, writing every error, type and service to the output as it is serialized, so
+ * that neither a copy of the definition nor the serialized IR is held in memory.
+ *
+ * <p>Output files are replaced atomically, and only if their content changes.
+ *
+ * <p>Pretty-printed JSON output is identical to serializing a {@link ConjureDefinition} carrying the same extensions
+ * with {@link ConjureCli#OBJECT_MAPPER}; compact output holds the same JSON without any whitespace. Smile output
+ * encodes the same document, while indexed output is laid out as described by {@link IndexedIr}.
+ */
+public final class IrWriter {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String DIGEST_SUFFIX = ".sha256";
+    // Flushing after every value would bypass the buffer for each type
+    private static final ObjectWriter JSON_WRITER =
+            ConjureCli.OBJECT_MAPPER.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    private static final ObjectWriter SMILE_WRITER =
+            IrFormat.SMILE.newObjectMapper().writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private IrWriter() {}
+
+    /**
+     * Writes the IR of {@code definition} to {@code output}, replacing its extensions with {@code extensions}, and
+     * returns whether the output changed.
+     *
+     * <p>The IR is written to a temporary file next to {@code output}, which atomically replaces {@code output} unless
+     * both have the same content. An unchanged output file keeps its modification time, so that tasks consuming it are
+     * not considered out of date. The digest of the output is recorded in a {@code .sha256} file next to it, which
+     * saves reading the previous output again as long as it was not modified since.
+     */
+    public static boolean write(
+            ConjureDefinition definition,
+            Map<String, Object> extensions,
+            Path output,
+            IrFormat format,
+            boolean compact)
+            throws IOException {
+        return replaceIfChanged(output, stream -> write(definition, extensions, stream, format, compact));
+    }
+
+    /**
+     * Writes the IR of {@code definition} as sharded IR, with a manifest at {@code manifest} and the IR of every
+     * package in a shard of its own, as described by {@link ShardedIr}, and returns whether any of them changed. The
+     * extensions are only written to the manifest.
+     *
+     * <p>Every shard and the manifest are replaced as {@link #write(ConjureDefinition, Map, Path, IrFormat, boolean)}
+     * replaces a single output, so shards of packages whose content did not change keep their modification time. The
+     * manifest is replaced last, after which shards of packages which no longer exist are deleted.
+     */
+    public static boolean writeSharded(
+            ConjureDefinition definition,
+            Map<String, Object> extensions,
+            Path manifest,
+            IrFormat format,
+            boolean compact)
+            throws IOException {
+        Path shardDirectory = ShardedIr.shardDirectory(manifest.toAbsolutePath());
+        Files.createDirectories(shardDirectory);
+        SortedMap<String, ConjureDefinition> shards = ShardedIr.shards(definition);
+
+        Set<String> shardFiles = new HashSet<>();
+        boolean changed = false;
+        for (Map.Entry<String, ConjureDefinition> shard : shards.entrySet()) {
+            String shardFile = ShardedIr.shardFileName(shard.getKey(), format);
+            shardFiles.add(shardFile);
+            shardFiles.add(shardFile + DIGEST_SUFFIX);
+            changed |= write(shard.getValue(), Map.of(), shardDirectory.resolve(shardFile), format, compact);
+        }
+        changed |= replaceIfChanged(
+                manifest,
+                stream -> ShardedIr.writeManifest(definition.getVersion(), shards, extensions, format, stream));
+
+        List<Path> existingFiles;
+        try (Stream<Path> files = Files.list(shardDirectory)) {
+            existingFiles = files.collect(Collectors.toList());
+        }
+        for (Path file : existingFiles) {
+            String fileName = file.getFileName().toString();
+            // Temporary files, whose names start with a dot, may belong to a concurrent write
+            if (!fileName.startsWith(".") && !shardFiles.contains(fileName) && Files.isRegularFile(file)) {
+                Files.delete(file);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Writes the IR of {@code definition} to {@code output}, replacing its extensions with {@code extensions}. The
+     * stream is flushed but not closed. Only JSON is pretty-printed, so {@code compact} has no effect on other
+     * formats.
+     */
+    public static void write(
+            ConjureDefinition definition,
+            Map<String, Object> extensions,
+            OutputStream output,
+            IrFormat format,
+            boolean compact)
+            throws IOException {
+        if (format == IrFormat.INDEXED) {
+            IndexedIr.write(definition, extensions, output);
+            return;
+        }
+        ObjectWriter writer = format == IrFormat.SMILE ? SMILE_WRITER : JSON_WRITER;
+        try (JsonGenerator generator =
+                writer.createGenerator(output).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            if (format == IrFormat.JSON && !compact) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            generator.writeNumberField("version", definition.getVersion());
+            writeArray(writer, generator, "errors", definition.getErrors());
+            writeArray(writer, generator, "types", definition.getTypes());
+            writeArray(writer, generator, "services", definition.getServices());
+            generator.writeFieldName("extensions");
+            writer.writeValue(generator, extensions);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code content} to a temporary file next to {@code output}, which atomically replaces {@code output}
+     * unless both have the same content, and returns whether {@code output} changed.
+     */
+    private static boolean replaceIfChanged(Path output, Content content) throws IOException {
+        Path absoluteOutput = output.toAbsolutePath();
+        Path digestFile = absoluteOutput.resolveSibling(absoluteOutput.getFileName() + DIGEST_SUFFIX);
+        Path tempFile = temporarySibling(absoluteOutput);
+        try {
+            HashCode digest;
+            try (FileChannel channel =
+                            FileChannel.open(tempFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                    HashingOutputStream stream = new HashingOutputStream(
+                            Hashing.sha256(),
+                            new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE))) {
+                content.writeTo(stream);
+                digest = stream.hash();
+            }
+
+            Optional<HashCode> recordedDigest = readDigest(absoluteOutput, digestFile);
+            Optional<HashCode> existingDigest = recordedDigest.isPresent() || !Files.isRegularFile(absoluteOutput)
+                    ? recordedDigest
+                    : Optional.of(MoreFiles.asByteSource(absoluteOutput).hash(Hashing.sha256()));
+            if (existingDigest.equals(Optional.of(digest))) {
+                if (recordedDigest.isEmpty()) {
+                    writeDigest(absoluteOutput, digestFile, digest);
+                }
+                return false;
+            }
+
+            Files.move(tempFile, absoluteOutput, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            writeDigest(absoluteOutput, digestFile, digest);
+            return true;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static void writeArray(ObjectWriter writer, JsonGenerator generator, String fieldName, List<?> values)
+            throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (Object value : values) {
+            writer.writeValue(generator, value);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Returns the digest recorded for {@code output}, if the size and modification time recorded with it show that
+     * {@code output} was not modified since.
+     */
+    private static Optional<HashCode> readDigest(Path output, Path digestFile) throws IOException {
+        if (!Files.isRegularFile(output) || !Files.isRegularFile(digestFile)) {
+            return Optional.empty();
+        }
+        List<String> fields = Splitter.on(' ').splitToList(Files.readString(digestFile, StandardCharsets.UTF_8).trim());
+        if (fields.size() != 3 || !fields.subList(1, 3).equals(stamp(output))) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(HashCode.fromString(fields.get(0)));
+        } catch (IllegalArgumentException e) {
+            // A corrupt digest file is ignored, and overwritten once the output has been hashed
+            return Optional.empty();
+        }
+    }
+
+    private static void writeDigest(Path output, Path digestFile, HashCode digest) throws IOException {
+        Path tempFile = temporarySibling(digestFile);
+        try {
+            Files.writeString(
+                    tempFile,
+                    digest + " " + String.join(" ", stamp(output)) + "\n",
+                    StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE_NEW);
+            Files.move(tempFile, digestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static List<String> stamp(Path output) throws IOException {
+        return List.of(
+                Long.toString(Files.size(output)),
+                Long.toString(Files.getLastModifiedTime(output).toMillis()));
+    }
+
+    /**
+     * A unique path in the directory of {@code file}, so that moving it onto {@code file} is atomic. Unlike
+     * {@link Files#createTempFile}, files created at this path get the default permissions, like {@code file} would.
+     */
+    private static Path temporarySibling(Path file) {
+        return file.resolveSibling("." + file.getFileName() + "." + UUID.randomUUID() + ".tmp");
+    }
+
+    private interface Content {
+        void writeTo(OutputStream output) throws IOException;
+    }
+}
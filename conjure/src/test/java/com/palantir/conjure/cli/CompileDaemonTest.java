@@ -0,0 +1,184 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public final class CompileDaemonTest {
+
+    @TempDir
+    public File folder;
+
+    private CompileDaemon daemon;
+    private Path socket;
+    private File outputFile;
+
+    @BeforeEach
+    public void before() throws IOException {
+        socket = folder.toPath().resolve("conjure.sock");
+        outputFile = new File(folder, "conjureIr.json");
+        daemon = new CompileDaemon(socket);
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        daemon.close();
+    }
+
+    @Test
+    public void compilesRepeatedlyReusingUnchangedFiles() throws IOException {
+        DaemonRequest request = DaemonRequest.builder()
+                .input(Path.of("src/test/resources/complex/api.yml").toAbsolutePath().toString())
+                .output(outputFile.getAbsolutePath())
+                .build();
+
+        assertThat(daemon.handle(request)).isEqualTo(DaemonResponse.succeeded());
+        String firstOutput = Files.readString(outputFile.toPath());
+        int cachedFiles = daemon.sourceFileCache().size();
+        assertThat(cachedFiles).isPositive();
+
+        assertThat(daemon.handle(request)).isEqualTo(DaemonResponse.succeeded());
+        assertThat(Files.readString(outputFile.toPath())).isEqualTo(firstOutput);
+        assertThat(daemon.sourceFileCache().size()).isEqualTo(cachedFiles);
+    }
+
+    @Test
+    public void reparsesChangedFiles() throws IOException {
+        Path input = folder.toPath().resolve("api.yml");
+        Files.copy(Path.of("src/test/resources/test-service.yml"), input);
+        DaemonRequest request = DaemonRequest.builder()
+                .input(input.toString())
+                .output(outputFile.getAbsolutePath())
+                .build();
+        assertThat(daemon.handle(request)).isEqualTo(DaemonResponse.succeeded());
+
+        Files.copy(Path.of("src/test/resources/simple-error.yml"), input, StandardCopyOption.REPLACE_EXISTING);
+        assertThat(input.toFile().setLastModified(input.toFile().lastModified() + 10_000))
+                .isTrue();
+        DaemonResponse response = daemon.handle(request);
+        assertThat(response.exitCode()).isNotZero();
+        assertThat(response.error()).isPresent();
+    }
+
+    @Test
+    public void rejectsRelativePaths() {
+        DaemonResponse response = daemon.handle(DaemonRequest.builder()
+                .input("src/test/resources/test-service.yml")
+                .output(outputFile.getAbsolutePath())
+                .build());
+
+        assertThat(response.exitCode()).isNotZero();
+        assertThat(response.error()).hasValueSatisfying(error -> assertThat(error)
+                .startsWith("The input and output paths of a daemon request must be absolute"));
+        assertThat(outputFile).doesNotExist();
+    }
+
+    @Test
+    public void socketIsOwnerOnly() throws IOException {
+        assertThat(Files.getPosixFilePermissions(socket, LinkOption.NOFOLLOW_LINKS))
+                .isEqualTo(PosixFilePermissions.fromString("rw-------"));
+    }
+
+    @Test
+    public void replacesStaleSocket() throws IOException {
+        Path stale = folder.toPath().resolve("stale.sock");
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(stale));
+        }
+        assertThat(stale).exists();
+
+        new CompileDaemon(stale).close();
+    }
+
+    @Test
+    public void refusesToReplaceListeningDaemon() {
+        assertThatThrownBy(() -> new CompileDaemon(socket))
+                .isInstanceOf(SafeIllegalStateException.class)
+                .hasMessageContaining("Another conjure daemon is already listening");
+        assertThat(socket).exists();
+    }
+
+    @Test
+    public void refusesToReplaceFileWhichIsNotSocket() throws IOException {
+        Path file = folder.toPath().resolve("not-a-socket");
+        Files.writeString(file, "content");
+
+        assertThatThrownBy(() -> new CompileDaemon(file))
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasMessageContaining("Refusing to replace a file which is not a socket");
+        assertThat(file).hasContent("content");
+    }
+
+    @Test
+    public void servesRequestsOverSocket() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.execute(() -> {
+                try {
+                    daemon.serve();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+                channel.connect(UnixDomainSocketAddress.of(socket));
+                Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+                writer.write(ConjureCli.OBJECT_MAPPER.writeValueAsString(DaemonRequest.builder()
+                        .input(Path.of("src/test/resources/test-service.yml")
+                                .toAbsolutePath()
+                                .toString())
+                        .output(outputFile.getAbsolutePath())
+                        .build()));
+                writer.write('\n');
+                writer.flush();
+
+                BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+                assertThat(ConjureCli.OBJECT_MAPPER.readValue(reader.readLine(), DaemonResponse.class))
+                        .isEqualTo(DaemonResponse.succeeded());
+            }
+            assertThat(outputFile).exists();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -19,14 +19,30 @@ package com.palantir.conjure.cli;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.google.common.collect.ImmutableList;
+import com.palantir.conjure.ir.ConjureDefinitionReader;
+import com.palantir.conjure.ir.IndexedIr;
+import com.palantir.conjure.ir.IrFormat;
+import com.palantir.conjure.ir.ShardedIr;
+import com.palantir.conjure.parser.ConjureSourceFileCache;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.visitor.TypeDefinitionVisitor;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -146,6 +162,160 @@ public final class ConjureCliTest {
         assertThat(outputFile).exists();
     }
 
+    @Test
+    public void compactOutputMatchesPrettyPrintedOutput() throws IOException {
+        File compactOutputFile = new File(folder, "conjureIr.compact.json");
+        CliConfiguration.Builder configuration = CliConfiguration.builder()
+                .inputFiles(ImmutableList.of(
+                        new File("src/test/resources/complex/api.yml"),
+                        new File("src/test/resources/complex/api-2.yml")))
+                .putExtensions("foo", "bar")
+                .requireSafety(false);
+        ConjureCli.CompileCommand.generate(configuration.outputIrFile(outputFile).build());
+        ConjureCli.CompileCommand.generate(configuration.outputIrFile(compactOutputFile).compact(true).build());
+
+        ConjureDefinition definition = ConjureCli.OBJECT_MAPPER.readValue(outputFile, ConjureDefinition.class);
+        assertThat(Files.readString(outputFile.toPath()))
+                .isEqualTo(ConjureCli.OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(definition));
+        assertThat(definition.getExtensions()).containsExactly(Map.entry("foo", "bar"));
+        assertThat(Files.readString(compactOutputFile.toPath()))
+                .isEqualTo(ConjureCli.OBJECT_MAPPER.writeValueAsString(definition));
+    }
+
+    @Test
+    public void smileOutputMatchesJsonOutput() throws IOException {
+        File smileOutputFile = new File(folder, "conjureIr.smile");
+        CliConfiguration.Builder configuration = CliConfiguration.builder()
+                .inputFiles(ImmutableList.of(new File("src/test/resources/complex/api.yml")))
+                .requireSafety(false);
+        ConjureCli.CompileCommand.generate(configuration.outputIrFile(outputFile).build());
+        ConjureCli.CompileCommand.generate(configuration.outputIrFile(smileOutputFile).format(IrFormat.SMILE).build());
+
+        assertThat(ConjureDefinitionReader.read(smileOutputFile.toPath()))
+                .isEqualTo(ConjureDefinitionReader.read(outputFile.toPath()))
+                .isEqualTo(ConjureCli.OBJECT_MAPPER.readValue(outputFile, ConjureDefinition.class));
+        assertThat(smileOutputFile.length()).isLessThan(outputFile.length());
+    }
+
+    @Test
+    public void indexedOutputDecodesLazily() throws IOException {
+        File indexedOutputFile = new File(folder, "conjureIr.idx");
+        CliConfiguration.Builder configuration = CliConfiguration.builder()
+                .inputFiles(ImmutableList.of(new File("src/test/resources/complex/api.yml")))
+                .requireSafety(false);
+        ConjureCli.CompileCommand.generate(configuration.outputIrFile(outputFile).build());
+        ConjureCli.CompileCommand.generate(
+                configuration.outputIrFile(indexedOutputFile).format(IrFormat.INDEXED).build());
+
+        ConjureDefinition definition = ConjureCli.OBJECT_MAPPER.readValue(outputFile, ConjureDefinition.class);
+        IndexedIr indexedIr = IndexedIr.open(indexedOutputFile.toPath());
+        TypeDefinition lastType = definition.getTypes().get(definition.getTypes().size() - 1);
+        assertThat(indexedIr.type(lastType.accept(TypeDefinitionVisitor.TYPE_NAME))).hasValue(lastType);
+        assertThat(ConjureDefinitionReader.read(indexedOutputFile.toPath())).isEqualTo(definition);
+    }
+
+    @Test
+    public void parsesIrFormat() {
+        assertThat(ConjureCli.parseFormat("smile")).isEqualTo(IrFormat.SMILE);
+        assertThat(ConjureCli.parseFormat("JSON")).isEqualTo(IrFormat.JSON);
+        assertThat(ConjureCli.parseFormat("indexed")).isEqualTo(IrFormat.INDEXED);
+        assertThatThrownBy(() -> ConjureCli.parseFormat("xml"))
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasMessageContaining("IR format must be 'json', 'smile' or 'indexed'");
+    }
+
+    @Test
+    public void leavesUnchangedOutputUntouched() throws IOException {
+        CliConfiguration.Builder configuration = CliConfiguration.builder()
+                .inputFiles(ImmutableList.of(new File("src/test/resources/complex/api.yml")))
+                .outputIrFile(outputFile)
+                .requireSafety(false);
+        ConjureCli.CompileCommand.generate(configuration.build());
+        Object fileKey = Files.readAttributes(outputFile.toPath(), BasicFileAttributes.class).fileKey();
+        assertThat(new File(folder, "conjureIr.json.sha256")).exists();
+
+        // The recorded digest is used while the output is unmodified
+        ConjureCli.CompileCommand.generate(configuration.build());
+        assertThat(Files.readAttributes(outputFile.toPath(), BasicFileAttributes.class).fileKey())
+                .isEqualTo(fileKey);
+
+        // The output is hashed again once it was touched, and kept if its content is unchanged
+        FileTime lastModified = FileTime.fromMillis(1_000_000_000L);
+        Files.setLastModifiedTime(outputFile.toPath(), lastModified);
+        ConjureCli.CompileCommand.generate(configuration.build());
+        assertThat(Files.getLastModifiedTime(outputFile.toPath())).isEqualTo(lastModified);
+
+        ConjureCli.CompileCommand.generate(configuration.putExtensions("foo", "bar").build());
+        assertThat(Files.getLastModifiedTime(outputFile.toPath())).isNotEqualTo(lastModified);
+        assertThat(ConjureCli.OBJECT_MAPPER.readValue(outputFile, ConjureDefinition.class).getExtensions())
+                .containsExactly(Map.entry("foo", "bar"));
+        assertThat(folder.list()).allMatch(name -> !name.endsWith(".tmp"));
+    }
+
+    @Test
+    public void shardsOutputByPackage() throws IOException {
+        Files.writeString(
+                inputFile.toPath(),
+                String.join(
+                        "\n",
+                        "types:",
+                        "  definitions:",
+                        "    default-package: com.palantir.foo",
+                        "    objects:",
+                        "      Foo:",
+                        "        alias: string",
+                        "      Bar:",
+                        "        package: com.palantir.bar",
+                        "        fields:",
+                        "          foo: Foo"));
+        CliConfiguration.Builder configuration = CliConfiguration.builder()
+                .inputFiles(ImmutableList.of(inputFile))
+                .outputIrFile(outputFile)
+                .requireSafety(false)
+                .putExtensions("foo", "bar");
+        File shardedOutputFile = new File(folder, "conjureIr.manifest.json");
+        ConjureCli.CompileCommand.generate(configuration.build());
+        ConjureCli.CompileCommand.generate(
+                configuration.outputIrFile(shardedOutputFile).shardByPackage(true).build());
+
+        ShardedIr shardedIr = ShardedIr.open(shardedOutputFile.toPath());
+        assertThat(shardedIr.packages()).containsExactly("com.palantir.bar", "com.palantir.foo");
+        assertThat(shardedIr.type(TypeName.of("Foo", "com.palantir.foo"))).isPresent();
+        assertThat(shardedIr.toDefinition())
+                .isEqualTo(ConjureCli.OBJECT_MAPPER.readValue(outputFile, ConjureDefinition.class));
+
+        // Extensions are only written to the manifest
+        assertThat(shardedIr.extensions()).containsExactly(Map.entry("foo", "bar"));
+        assertThat(shardedIr.shard("com.palantir.foo").get().getExtensions()).isEmpty();
+
+        // Shards of packages which did not change are left untouched
+        Path fooShard = shardedIr.shardFile("com.palantir.foo").get();
+        Path barShard = shardedIr.shardFile("com.palantir.bar").get();
+        FileTime lastModified = FileTime.fromMillis(1_000_000_000L);
+        Files.setLastModifiedTime(fooShard, lastModified);
+        Files.setLastModifiedTime(barShard, lastModified);
+        Files.writeString(inputFile.toPath(), "\n          other: string\n", StandardOpenOption.APPEND);
+        ConjureCli.CompileCommand.generate(configuration.build());
+        assertThat(Files.getLastModifiedTime(fooShard)).isEqualTo(lastModified);
+        assertThat(Files.getLastModifiedTime(barShard)).isNotEqualTo(lastModified);
+
+        // Shards of packages which no longer exist are deleted
+        Files.writeString(
+                inputFile.toPath(),
+                String.join(
+                        "\n",
+                        "types:",
+                        "  definitions:",
+                        "    default-package: com.palantir.foo",
+                        "    objects:",
+                        "      Foo:",
+                        "        alias: string"));
+        ConjureCli.CompileCommand.generate(configuration.build());
+        assertThat(ShardedIr.open(shardedOutputFile.toPath()).packages()).containsExactly("com.palantir.foo");
+        assertThat(fooShard.getParent().toFile().list())
+                .containsExactlyInAnyOrder("com.palantir.foo.json", "com.palantir.foo.json.sha256");
+    }
+
     @Test
     public void canRequireSafetyInfo() {
         CliConfiguration configuration = CliConfiguration.builder()
@@ -157,6 +327,48 @@ public final class ConjureCliTest {
                 .hasMessageContaining("must declare log safety");
     }
 
+    @Test
+    public void parsesProfileFormat() {
+        String[] args = {"compile", inputFile.getAbsolutePath(), outputFile.getAbsolutePath(), "--profile=json"};
+        ConjureCli.CompileCommand cmd = new CommandLine(new ConjureCli())
+                .parseArgs(args)
+                .asCommandLineList()
+                .get(1)
+                .getCommand();
+        assertThat(cmd.getConfiguration().profile()).hasValue(CompilationProfiler.Format.JSON);
+
+        String[] defaultArgs = {"compile", inputFile.getAbsolutePath(), outputFile.getAbsolutePath(), "--profile"};
+        ConjureCli.CompileCommand defaultCmd = new CommandLine(new ConjureCli())
+                .parseArgs(defaultArgs)
+                .asCommandLineList()
+                .get(1)
+                .getCommand();
+        assertThat(defaultCmd.getConfiguration().profile()).hasValue(CompilationProfiler.Format.TABLE);
+    }
+
+    @Test
+    public void profilesEveryPhase() throws IOException {
+        CliConfiguration configuration = CliConfiguration.builder()
+                .inputFiles(ImmutableList.of(
+                        new File("src/test/resources/complex/api.yml"),
+                        new File("src/test/resources/complex/api-2.yml")))
+                .outputIrFile(outputFile)
+                .requireSafety(false)
+                .build();
+        CompilationProfiler profiler = new CompilationProfiler();
+        ConjureCli.CompileCommand.generate(configuration, new ConjureSourceFileCache(), profiler);
+
+        assertThat(profiler.report(CompilationProfiler.Format.TABLE))
+                .contains("PARSE", "CONVERT", "VALIDATE", "NORMALIZE", "WRITE", "TOTAL", "api.yml", "UNIQUE_NAMES");
+        JsonNode report = ConjureCli.OBJECT_MAPPER.readTree(profiler.report(CompilationProfiler.Format.JSON));
+        assertThat(report.get("phases").fieldNames())
+                .toIterable()
+                .containsExactly("PARSE", "CONVERT", "VALIDATE", "NORMALIZE", "WRITE");
+        assertThat(report.get("parsedFiles")).hasSize(4);
+        assertThat(report.get("typeExpressionCache").get("hits").asLong()).isPositive();
+        assertThat(report.get("validators").get(0).get("allocatedBytes").isNumber()).isTrue();
+    }
+
     @Test
     public void generatesCleanError_unknown() {
         String[] args = {"compile", "src/test/resources/simple-error.yml", outputFile.getAbsolutePath()};